@@ -24,6 +24,20 @@ public interface AudioService {
      */
     void playNote(int midiNumber, int velocity, long durationMs);
     
+    /**
+     * Plays a single note, optionally without the variation a service adds
+     * on its own. Callers that humanize notes from a seed pass
+     * {@code false} so the same seed sounds the same every time.
+     * 
+     * @param midiNumber the MIDI note number (0-127)
+     * @param velocity the note velocity (0-127)
+     * @param durationMs the duration in milliseconds
+     * @param vary whether the service may vary velocity and duration
+     */
+    default void playNote(int midiNumber, int velocity, long durationMs, boolean vary) {
+        playNote(midiNumber, velocity, durationMs);
+    }
+    
     /**
      * Plays multiple notes simultaneously (chord).
      * 
@@ -1,5 +1,6 @@
 package com.vsge.audio;
 
+import com.vsge.music.rhythm.RandomSource;
 import javax.sound.midi.*;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -37,10 +38,21 @@ public class ImprovedMidiService implements AudioService {
     
     private int currentGuitarInstrument = 25; // Start with steel string
     
+    // Note-level variation: each thread draws from its own split of the
+    // session source, so concurrent notes never contend on one generator
+    private final RandomSource random = RandomSource.withRandomSeed();
+    private final ThreadLocal<RandomSource> variation = ThreadLocal.withInitial(this::splitRandom);
+    
     private ImprovedMidiService() {
         // Private constructor for singleton
     }
     
+    private RandomSource splitRandom() {
+        synchronized (random) {
+            return random.split();
+        }
+    }
+    
     public static ImprovedMidiService getInstance() {
         if (instance == null) {
             synchronized (lock) {
@@ -106,6 +118,11 @@ public class ImprovedMidiService implements AudioService {
     
     @Override
     public void playNote(int midiNumber, int velocity, long durationMs) {
+        playNote(midiNumber, velocity, durationMs, true);
+    }
+    
+    @Override
+    public void playNote(int midiNumber, int velocity, long durationMs, boolean vary) {
         if (!initialized || channels == null) {
             logger.warning("MIDI service not initialized");
             return;
@@ -124,7 +141,8 @@ public class ImprovedMidiService implements AudioService {
             MidiChannel channel = channels[GUITAR_CHANNEL];
             
             // Add slight velocity variation for more natural sound
-            int variedVelocity = velocity + (int)(Math.random() * 10) - 5;
+            RandomSource rng = vary ? variation.get() : null;
+            int variedVelocity = vary ? velocity + rng.spread(10) : velocity;
             variedVelocity = Math.max(20, Math.min(127, variedVelocity));
             
             // Play the note
@@ -132,7 +150,7 @@ public class ImprovedMidiService implements AudioService {
             
             // Schedule note off with slight timing variation
             if (durationMs > 0) {
-                long variedDuration = durationMs + (long)(Math.random() * 100) - 50;
+                long variedDuration = vary ? durationMs + rng.spread(100) : durationMs;
                 scheduler.schedule(() -> {
                     try {
                         channel.noteOff(midiNumber);
@@ -176,7 +194,7 @@ public class ImprovedMidiService implements AudioService {
                     final int finalVelocity = velocity;
                     scheduler.schedule(() -> {
                         try {
-                            int variedVelocity = finalVelocity + (int)(Math.random() * 15) - 7;
+                            int variedVelocity = finalVelocity + variation.get().spread(15);
                             variedVelocity = Math.max(30, Math.min(120, variedVelocity));
                             channel.noteOn(midiNumber, variedVelocity);
                         } catch (Exception e) {
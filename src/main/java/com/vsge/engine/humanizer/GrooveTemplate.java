@@ -0,0 +1,245 @@
+package com.vsge.engine.humanizer;
+
+import com.vsge.engine.playback.EventProcessor;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.Ticks;
+import java.io.File;
+import java.io.IOException;
+import javax.sound.midi.InvalidMidiDataException;
+import javax.sound.midi.MidiEvent;
+import javax.sound.midi.MidiMessage;
+import javax.sound.midi.MidiSystem;
+import javax.sound.midi.Sequence;
+import javax.sound.midi.ShortMessage;
+import javax.sound.midi.Track;
+
+/**
+ * Timing and velocity feel captured from a real performance.
+ *
+ * <p>A groove is a cycle of grid steps (e.g. two bars of sixteenths) with
+ * the average offset of the played notes from each step: how far ahead of
+ * or behind the grid they landed, in beats, and how much louder or softer
+ * than the performance's average velocity they were. Where a fixed swing
+ * ratio delays every off-beat by the same amount, a groove reproduces the
+ * player's whole push and pull.
+ *
+ * <p>Applying a groove snaps each event to its nearest step and adds that
+ * step's offsets - two array reads per event, cheap enough for every bar.
+ * Templates are immutable and can be shared between threads.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class GrooveTemplate implements EventProcessor {
+    private final int stepsPerBeat;
+    private final float[] timingOffsets;
+    private final float[] velocityOffsets;
+    private final int[] timingTicks;
+
+    private GrooveTemplate(int stepsPerBeat, float[] timingOffsets, float[] velocityOffsets) {
+        this.stepsPerBeat = stepsPerBeat;
+        this.timingOffsets = timingOffsets;
+        this.velocityOffsets = velocityOffsets;
+        this.timingTicks = new int[timingOffsets.length];
+        for (int s = 0; s < timingTicks.length; s++) {
+            timingTicks[s] = Ticks.fromBeats(timingOffsets[s]);
+        }
+    }
+
+    /**
+     * Creates a groove from explicit per-step offsets.
+     *
+     * @param stepsPerBeat grid resolution
+     * @param timingOffsets offset of each step in beats
+     * @param velocityOffsets velocity change of each step
+     */
+    public static GrooveTemplate of(int stepsPerBeat, float[] timingOffsets, float[] velocityOffsets) {
+        checkGrid(stepsPerBeat, timingOffsets == null ? 0 : timingOffsets.length);
+        if (velocityOffsets == null || velocityOffsets.length != timingOffsets.length) {
+            throw new IllegalArgumentException("Timing and velocity offsets must have the same length");
+        }
+        return new GrooveTemplate(stepsPerBeat, timingOffsets.clone(), velocityOffsets.clone());
+    }
+
+    /**
+     * Extracts a groove from note onsets.
+     *
+     * @param onsets played start times in beats from the start of the performance
+     * @param velocities played velocities
+     * @param count number of notes to read
+     * @param stepsPerBeat grid resolution, e.g. 4 for sixteenths
+     * @param lengthSteps steps in one cycle of the groove
+     * @return the groove; steps nobody played on have no offset
+     */
+    public static GrooveTemplate extract(double[] onsets, int[] velocities, int count,
+                                         int stepsPerBeat, int lengthSteps) {
+        checkGrid(stepsPerBeat, lengthSteps);
+        if (count < 0 || count > onsets.length || count > velocities.length) {
+            throw new IllegalArgumentException("Count out of range: " + count);
+        }
+        double meanVelocity = 0.0;
+        for (int i = 0; i < count; i++) {
+            meanVelocity += velocities[i];
+        }
+        meanVelocity = count == 0 ? 0.0 : meanVelocity / count;
+
+        double[] timing = new double[lengthSteps];
+        double[] velocity = new double[lengthSteps];
+        int[] hits = new int[lengthSteps];
+        for (int i = 0; i < count; i++) {
+            double position = onsets[i] * stepsPerBeat;
+            long step = Math.round(position);
+            int index = (int) Math.floorMod(step, (long) lengthSteps);
+            timing[index] += (position - step) / stepsPerBeat;
+            velocity[index] += velocities[i] - meanVelocity;
+            hits[index]++;
+        }
+
+        float[] timingOffsets = new float[lengthSteps];
+        float[] velocityOffsets = new float[lengthSteps];
+        for (int s = 0; s < lengthSteps; s++) {
+            if (hits[s] > 0) {
+                timingOffsets[s] = (float) (timing[s] / hits[s]);
+                velocityOffsets[s] = (float) (velocity[s] / hits[s]);
+            }
+        }
+        return new GrooveTemplate(stepsPerBeat, timingOffsets, velocityOffsets);
+    }
+
+    /**
+     * Extracts a groove from a played bar or passage, using the humanized
+     * start times and velocities.
+     */
+    public static GrooveTemplate extract(EventBuffer performance, int stepsPerBeat, int lengthSteps) {
+        int count = performance.size();
+        double[] onsets = new double[count];
+        int[] velocities = new int[count];
+        for (int i = 0; i < count; i++) {
+            onsets[i] = Ticks.toBeats(performance.getBarStartTick() + performance.getFinalStartTick(i));
+            velocities[i] = performance.getFinalVelocity(i);
+        }
+        return extract(onsets, velocities, count, stepsPerBeat, lengthSteps);
+    }
+
+    /**
+     * Extracts a groove from the note-ons of every track of a MIDI sequence.
+     *
+     * @throws IllegalArgumentException if the sequence is not timed in
+     *         pulses per quarter note
+     */
+    public static GrooveTemplate extract(Sequence sequence, int stepsPerBeat, int lengthSteps) {
+        if (sequence.getDivisionType() != Sequence.PPQ) {
+            throw new IllegalArgumentException("Only PPQ-timed MIDI sequences are supported");
+        }
+        double ticksPerBeat = sequence.getResolution();
+        int count = 0;
+        for (Track track : sequence.getTracks()) {
+            count += track.size();
+        }
+        double[] onsets = new double[count];
+        int[] velocities = new int[count];
+        int notes = 0;
+        for (Track track : sequence.getTracks()) {
+            for (int e = 0; e < track.size(); e++) {
+                MidiEvent event = track.get(e);
+                MidiMessage message = event.getMessage();
+                if (message instanceof ShortMessage) {
+                    ShortMessage shortMessage = (ShortMessage) message;
+                    if (shortMessage.getCommand() == ShortMessage.NOTE_ON && shortMessage.getData2() > 0) {
+                        onsets[notes] = event.getTick() / ticksPerBeat;
+                        velocities[notes] = shortMessage.getData2();
+                        notes++;
+                    }
+                }
+            }
+        }
+        return extract(onsets, velocities, notes, stepsPerBeat, lengthSteps);
+    }
+
+    /**
+     * Extracts a groove from a standard MIDI file.
+     */
+    public static GrooveTemplate extract(File midiFile, int stepsPerBeat, int lengthSteps)
+            throws IOException, InvalidMidiDataException {
+        return extract(MidiSystem.getSequence(midiFile), stepsPerBeat, lengthSteps);
+    }
+
+    private static void checkGrid(int stepsPerBeat, int lengthSteps) {
+        if (stepsPerBeat <= 0) {
+            throw new IllegalArgumentException("Steps per beat must be positive");
+        }
+        if (lengthSteps <= 0) {
+            throw new IllegalArgumentException("Groove length must be positive");
+        }
+    }
+
+    /**
+     * Gets a copy of this groove with its offsets scaled, e.g. 0.5 for half
+     * the feel or 0 to flatten it.
+     */
+    public GrooveTemplate scaled(double amount) {
+        float[] timing = new float[timingOffsets.length];
+        float[] velocity = new float[velocityOffsets.length];
+        for (int s = 0; s < timing.length; s++) {
+            timing[s] = (float) (timingOffsets[s] * amount);
+            velocity[s] = (float) (velocityOffsets[s] * amount);
+        }
+        return new GrooveTemplate(stepsPerBeat, timing, velocity);
+    }
+
+    /**
+     * Gets the step nearest a position, wrapped into the cycle.
+     *
+     * @param beat position in beats from the start of the song
+     */
+    public int stepAt(double beat) {
+        return (int) Math.floorMod(Math.round(beat * stepsPerBeat), (long) timingOffsets.length);
+    }
+
+    /**
+     * Gets the step nearest a position in ticks, wrapped into the cycle.
+     *
+     * @param tick position in ticks from the start of the song
+     */
+    public int stepAtTick(long tick) {
+        long step = Math.floorDiv(tick * stepsPerBeat + Ticks.PPQ / 2, (long) Ticks.PPQ);
+        return (int) Math.floorMod(step, (long) timingOffsets.length);
+    }
+
+    public float getTimingOffset(int step) {
+        return timingOffsets[step];
+    }
+
+    /**
+     * Gets a step's timing offset in ticks.
+     */
+    public int getTimingOffsetTicks(int step) {
+        return timingTicks[step];
+    }
+
+    public float getVelocityOffset(int step) {
+        return velocityOffsets[step];
+    }
+
+    public int getStepsPerBeat() {
+        return stepsPerBeat;
+    }
+
+    public int getLength() {
+        return timingOffsets.length;
+    }
+
+    /**
+     * Applies the groove to a bar at its position in the song.
+     */
+    @Override
+    public void process(EventBuffer events) {
+        long barStart = events.getBarStartTick();
+        for (int i = 0; i < events.size(); i++) {
+            int step = stepAtTick(barStart + events.getStartTick(i));
+            events.setTimingOffsetTicks(i, events.getTimingOffsetTicks(i) + timingTicks[step]);
+            int varied = Math.max(20, Math.min(127, events.getFinalVelocity(i) + Math.round(velocityOffsets[step])));
+            events.setVelocityVariation(i, varied - events.getVelocity(i));
+        }
+    }
+}
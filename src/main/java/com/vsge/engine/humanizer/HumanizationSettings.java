@@ -29,6 +29,14 @@ public class HumanizationSettings {
     private double swingRatio = 0.0; // 0.0 = straight, 0.5 = full swing
     private boolean enableSwing = false;
     
+    // Correlated drift: timing and velocity follow noise tables instead of
+    // independent jitter, within the same ranges
+    private NoiseTable.Type driftType = NoiseTable.Type.PINK;
+    private boolean enableDrift = false;
+    
+    // Groove captured from a performance; null for none
+    private GrooveTemplate groove = null;
+    
     public HumanizationSettings() {
         // Default settings
     }
@@ -74,6 +82,20 @@ public class HumanizationSettings {
     public boolean isSwingEnabled() { return enableSwing; }
     public void setSwingEnabled(boolean enabled) { this.enableSwing = enabled; }
     
+    public NoiseTable.Type getDriftType() { return driftType; }
+    public void setDriftType(NoiseTable.Type driftType) {
+        if (driftType == null) {
+            throw new IllegalArgumentException("Drift type cannot be null");
+        }
+        this.driftType = driftType;
+    }
+    
+    public boolean isDriftEnabled() { return enableDrift; }
+    public void setDriftEnabled(boolean enabled) { this.enableDrift = enabled; }
+    
+    public GrooveTemplate getGroove() { return groove; }
+    public void setGroove(GrooveTemplate groove) { this.groove = groove; }
+    
     /**
      * Creates a preset for folk style.
      */
@@ -0,0 +1,186 @@
+package com.vsge.engine.humanizer;
+
+import com.vsge.engine.playback.EventProcessor;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.rhythm.Technique;
+import com.vsge.music.rhythm.Ticks;
+import java.util.EnumSet;
+
+/**
+ * Pipeline stage applying {@link HumanizationSettings} to a whole bar in a
+ * single pass over its event buffer.
+ *
+ * <p>The settings are read once per bar, so they can be changed during
+ * playback and take effect from the next bar. For each event the enabled
+ * transforms run in a fixed order, drawing from the bar's random source:
+ * <ol>
+ *   <li>{@link Transform#STRUM} - notes struck together are spread by the
+ *       strum delay, low to high (high to low on up-strokes)</li>
+ *   <li>{@link Transform#SWING} - off-beat eighths are delayed by a
+ *       quarter of the swing ratio, judged on the written start time</li>
+ *   <li>{@link Transform#GROOVE} - the settings' {@link GrooveTemplate}
+ *       offsets for the event's step</li>
+ *   <li>{@link Transform#TIMING}, {@link Transform#VELOCITY},
+ *       {@link Transform#DURATION} - random variation within the ranges</li>
+ * </ol>
+ *
+ * <p>With drift enabled in the settings, timing and velocity instead read
+ * correlated {@link NoiseTable}s at the event's position in the song, so
+ * the time pushes and pulls and the dynamics swell over phrases. The
+ * tables are generated once per humanizer from its seed.
+ *
+ * <p>The pass works in {@link Ticks}: the settings are converted once per
+ * bar, and notes struck together are found by equal start ticks.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class Humanizer implements EventProcessor {
+    /**
+     * The individual humanization transforms.
+     */
+    public enum Transform {
+        STRUM, SWING, GROOVE, TIMING, VELOCITY, DURATION
+    }
+
+    private final HumanizationSettings settings;
+    private final long driftSeed;
+    // Indexed by NoiseTable.Type ordinal, generated on first use
+    private final NoiseTable[] timingDrift = new NoiseTable[NoiseTable.Type.values().length];
+    private final NoiseTable[] velocityDrift = new NoiseTable[NoiseTable.Type.values().length];
+    private final boolean strum;
+    private final boolean swing;
+    private final boolean grooved;
+    private final boolean timing;
+    private final boolean velocity;
+    private final boolean duration;
+
+    /**
+     * Creates a humanizer applying every transform the settings enable.
+     */
+    public Humanizer(HumanizationSettings settings) {
+        this(settings, 0L);
+    }
+
+    /**
+     * Creates a humanizer applying every transform the settings enable.
+     *
+     * @param settings the live settings
+     * @param driftSeed seed of the drift tables, e.g. the session seed
+     */
+    public Humanizer(HumanizationSettings settings, long driftSeed) {
+        this(settings, EnumSet.allOf(Transform.class), driftSeed);
+    }
+
+    /**
+     * Creates a humanizer restricted to some transforms, e.g. to run swing
+     * in one stage and random variation in a later one.
+     *
+     * @param settings the live settings
+     * @param transforms the transforms this stage may apply
+     */
+    public Humanizer(HumanizationSettings settings, EnumSet<Transform> transforms) {
+        this(settings, transforms, 0L);
+    }
+
+    /**
+     * Creates a humanizer restricted to some transforms.
+     *
+     * @param settings the live settings
+     * @param transforms the transforms this stage may apply
+     * @param driftSeed seed of the drift tables
+     */
+    public Humanizer(HumanizationSettings settings, EnumSet<Transform> transforms, long driftSeed) {
+        if (settings == null || transforms == null) {
+            throw new IllegalArgumentException("Settings and transforms cannot be null");
+        }
+        this.settings = settings;
+        this.driftSeed = driftSeed;
+        this.strum = transforms.contains(Transform.STRUM);
+        this.swing = transforms.contains(Transform.SWING);
+        this.grooved = transforms.contains(Transform.GROOVE);
+        this.timing = transforms.contains(Transform.TIMING);
+        this.velocity = transforms.contains(Transform.VELOCITY);
+        this.duration = transforms.contains(Transform.DURATION);
+    }
+
+    @Override
+    public void process(EventBuffer events) {
+        // Snapshot the settings for the whole bar
+        int strumDelay = strum && settings.isStrummingEffectEnabled() ? Ticks.fromBeats(settings.getStrumDelay()) : 0;
+        int swingDelay = swing && settings.isSwingEnabled() ? Ticks.fromBeats(settings.getSwingRatio() * 0.25) : 0;
+        GrooveTemplate groove = grooved ? settings.getGroove() : null;
+        int timingRange = timing && settings.isTimingHumanizationEnabled() ? Ticks.fromBeats(settings.getTimingOffsetRange()) : 0;
+        int velocityRange = velocity && settings.isVelocityHumanizationEnabled() ? settings.getVelocityVariationRange() : 0;
+        double durationRange = duration && settings.isDurationHumanizationEnabled() ? settings.getDurationVariationRange() : 0.0;
+        RandomSource random = events.getRandom();
+        NoiseTable timingTable = null;
+        NoiseTable velocityTable = null;
+        if (settings.isDriftEnabled()) {
+            timingTable = drift(timingDrift, settings.getDriftType(), driftSeed);
+            velocityTable = drift(velocityDrift, settings.getDriftType(), ~driftSeed);
+        }
+        long barStart = events.getBarStartTick();
+
+        int size = events.size();
+        int groupStart = 0;
+        int groupEnd = 0;
+        for (int i = 0; i < size; i++) {
+            int start = events.getStartTick(i);
+            int offset = events.getTimingOffsetTicks(i);
+
+            if (strumDelay > 0) {
+                if (i == groupEnd) {
+                    groupStart = i;
+                    groupEnd = i + 1;
+                    while (groupEnd < size && events.getStartTick(groupEnd) == start) {
+                        groupEnd++;
+                    }
+                }
+                int position = events.getTechnique(i) == Technique.UP ? groupEnd - 1 - i : i - groupStart;
+                offset += position * strumDelay;
+            }
+            if (swingDelay > 0 && Math.floorDiv(start, Ticks.PPQ / 2) % 2 != 0) { // Off-beat
+                offset += swingDelay;
+            }
+            int grooveVelocity = 0;
+            if (groove != null) {
+                int step = groove.stepAtTick(barStart + start);
+                offset += groove.getTimingOffsetTicks(step);
+                grooveVelocity = Math.round(groove.getVelocityOffset(step));
+            }
+            if (timingRange > 0) {
+                offset += timingTable != null
+                    ? Math.round(timingTable.atTick(barStart + start) * timingRange * 0.5f)
+                    : random.jitter(timingRange);
+            }
+            events.setTimingOffsetTicks(i, offset);
+
+            if (velocityRange > 0 || grooveVelocity != 0) {
+                int variation = grooveVelocity;
+                if (velocityRange > 0) {
+                    variation += velocityTable != null
+                        ? (int) (velocityTable.atTick(barStart + start) * velocityRange * 0.5)
+                        : random.jitter(velocityRange);
+                }
+                int varied = Math.max(20, Math.min(127, events.getFinalVelocity(i) + variation));
+                events.setVelocityVariation(i, varied - events.getVelocity(i));
+            }
+            if (durationRange > 0.0) {
+                int scaled = (int) Math.round(events.getDurationTicks(i) * (1.0 + random.jitter(durationRange)));
+                events.setDurationTicks(i, scaled);
+            }
+        }
+    }
+
+    private static NoiseTable drift(NoiseTable[] tables, NoiseTable.Type type, long seed) {
+        NoiseTable table = tables[type.ordinal()];
+        if (table == null) {
+            // Racing threads build equal tables; either may be kept
+            table = NoiseTable.generate(type, NoiseTable.DEFAULT_SIZE, seed);
+            tables[type.ordinal()] = table;
+        }
+        return table;
+    }
+}
@@ -0,0 +1,146 @@
+package com.vsge.engine.humanizer;
+
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.rhythm.Ticks;
+
+/**
+ * Precomputed, correlated noise in [-1, 1] indexed by musical position.
+ *
+ * <p>Unlike independent per-note jitter, neighbouring entries are related,
+ * so values wander over a phrase the way a player pushes and pulls the
+ * time. A table is generated once from a seed; looking up a position is an
+ * array read, so the same seed and position always give the same value.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class NoiseTable {
+    /** Table entries per beat: one per sixteenth note. */
+    public static final int STEPS_PER_BEAT = 4;
+    /** Default size: 1024 beats before the table repeats. */
+    public static final int DEFAULT_SIZE = 4096;
+
+    private static final int PINK_ROWS = 12;
+    private static final double WALK_DECAY = 0.97;
+
+    /**
+     * Shape of the noise.
+     */
+    public enum Type {
+        /** 1/f noise: slow phrase-level swells with finer detail on top. */
+        PINK,
+        /** Smoothed random walk: drifts that last a few bars. */
+        RANDOM_WALK
+    }
+
+    private final Type type;
+    private final float[] values;
+    private final int mask;
+
+    private NoiseTable(Type type, float[] values) {
+        this.type = type;
+        this.values = values;
+        this.mask = values.length - 1;
+    }
+
+    /**
+     * Generates a table.
+     *
+     * @param type the noise shape
+     * @param size number of entries, a power of two
+     * @param seed the seed; the same seed gives the same table
+     * @return the table, zero-mean and scaled to [-1, 1]
+     */
+    public static NoiseTable generate(Type type, int size, long seed) {
+        if (type == null) {
+            throw new IllegalArgumentException("Noise type cannot be null");
+        }
+        if (size < 2 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Size must be a power of two, at least 2");
+        }
+        RandomSource random = new RandomSource(seed);
+        double[] raw = type == Type.PINK ? pink(size, random) : walk(size, random);
+        return new NoiseTable(type, normalize(raw));
+    }
+
+    /**
+     * Voss-McCartney: row k is redrawn every 2^k steps and the rows are summed.
+     */
+    private static double[] pink(int size, RandomSource random) {
+        double[] rows = new double[PINK_ROWS];
+        double sum = 0.0;
+        for (int k = 0; k < PINK_ROWS; k++) {
+            rows[k] = random.jitter(2.0);
+            sum += rows[k];
+        }
+        double[] raw = new double[size];
+        for (int i = 0; i < size; i++) {
+            // The lowest set bit of i picks the row that changes at this step
+            int k = i == 0 ? 0 : Math.min(Integer.numberOfTrailingZeros(i), PINK_ROWS - 1);
+            sum -= rows[k];
+            rows[k] = random.jitter(2.0);
+            sum += rows[k];
+            raw[i] = sum + random.jitter(2.0);
+        }
+        return raw;
+    }
+
+    /**
+     * First-order autoregressive walk, pulled back towards zero.
+     */
+    private static double[] walk(int size, RandomSource random) {
+        double[] raw = new double[size];
+        double x = 0.0;
+        for (int i = 0; i < size; i++) {
+            x = WALK_DECAY * x + random.jitter(2.0);
+            raw[i] = x;
+        }
+        return raw;
+    }
+
+    private static float[] normalize(double[] raw) {
+        double mean = 0.0;
+        for (double v : raw) {
+            mean += v;
+        }
+        mean /= raw.length;
+        double peak = 0.0;
+        for (double v : raw) {
+            peak = Math.max(peak, Math.abs(v - mean));
+        }
+        float[] values = new float[raw.length];
+        for (int i = 0; i < raw.length; i++) {
+            values[i] = peak == 0.0 ? 0f : (float) ((raw[i] - mean) / peak);
+        }
+        return values;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Gets the entry at an index, wrapping around the table.
+     */
+    public float at(long index) {
+        return values[(int) (index & mask)];
+    }
+
+    /**
+     * Gets the value at a position in beats from the start of the song.
+     */
+    public float atBeat(double beat) {
+        return at((long) Math.floor(beat * STEPS_PER_BEAT));
+    }
+
+    /**
+     * Gets the value at a position in ticks from the start of the song.
+     */
+    public float atTick(long tick) {
+        return at(Math.floorDiv(tick * STEPS_PER_BEAT, (long) Ticks.PPQ));
+    }
+}
@@ -0,0 +1,158 @@
+package com.vsge.engine.playback;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.EventSource;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.theory.Note;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded least-recently-used cache of rendered bars, before processing.
+ *
+ * <p>Songs repeat the same bar constantly - a 12-bar blues plays its tonic
+ * eight times - so the pipeline asks the cache first and only renders a
+ * bar the first time a (source, chord pitches, meter, tempo) combination
+ * is seen. A hit is a copy of the cached events into the bar's buffer;
+ * the processors then run as usual, so each bar is still humanized with
+ * its own random substream. A cached bar keeps the source's built-in
+ * variation from its first render.
+ *
+ * <p>Sources are compared by identity, chords by their pitches.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class BarCache {
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final int capacity;
+    private final Map<Key, EventBuffer> bars;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public BarCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache holding at most {@code capacity} bars.
+     *
+     * @param capacity maximum number of cached bars
+     */
+    public BarCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.bars = Collections.synchronizedMap(new LinkedHashMap<Key, EventBuffer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, EventBuffer> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    /**
+     * Appends a bar to a buffer, from the cache if it has been rendered
+     * before and by the source otherwise.
+     *
+     * @param source the style or pattern
+     * @param chord the chord of the bar
+     * @param meter the meter of the bar
+     * @param tempo the tempo in BPM
+     * @param out the buffer to append to; its random source is used on a miss
+     */
+    public void render(EventSource source, Chord chord, Meter meter, int tempo, EventBuffer out) {
+        Key key = new Key(source, chord, meter, tempo);
+        EventBuffer cached = bars.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            out.addAll(cached, 0);
+            return;
+        }
+        misses.incrementAndGet();
+        int from = out.size();
+        source.render(chord, meter, tempo, out);
+        EventBuffer copy = new EventBuffer(Math.max(1, out.size() - from));
+        copy.addAll(out, from);
+        bars.put(key, copy);
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the fraction of lookups served from the cache.
+     *
+     * @return the hit rate, 0 before any lookup
+     */
+    public double getHitRate() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public int size() {
+        return bars.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Removes every cached bar, e.g. after a source changes, and resets
+     * the counters.
+     */
+    public void clear() {
+        bars.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    private static final class Key {
+        private final EventSource source;
+        private final int[] pitches;
+        private final Meter meter;
+        private final int tempo;
+        private final int hash;
+
+        Key(EventSource source, Chord chord, Meter meter, int tempo) {
+            List<Note> notes = chord.getNotes();
+            this.source = source;
+            this.pitches = new int[notes.size()];
+            for (int i = 0; i < pitches.length; i++) {
+                pitches[i] = notes.get(i).getMidiNumber();
+            }
+            this.meter = meter;
+            this.tempo = tempo;
+            this.hash = ((System.identityHashCode(source) * 31 + Arrays.hashCode(pitches)) * 31
+                + meter.hashCode()) * 31 + tempo;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return source == other.source && tempo == other.tempo && meter.equals(other.meter)
+                && Arrays.equals(pitches, other.pitches);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
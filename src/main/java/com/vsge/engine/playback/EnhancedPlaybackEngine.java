@@ -4,15 +4,19 @@ import com.vsge.audio.AudioService;
 import com.vsge.audio.ImprovedMidiService;
 import com.vsge.music.chord.Chord;
 import com.vsge.music.progression.ChordProgression;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.RandomSource;
 import com.vsge.music.rhythm.RhythmPattern;
 import com.vsge.music.rhythm.RhythmPatternFactory;
-import com.vsge.music.rhythm.RhythmPattern.RhythmEvent;
 import com.vsge.engine.timing.TempoController;
+import com.vsge.engine.timing.TempoMap;
 import com.vsge.engine.humanizer.HumanizationSettings;
-import java.util.List;
+import com.vsge.engine.humanizer.Humanizer;
+import java.util.Iterator;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 /**
@@ -23,19 +27,35 @@ import java.util.logging.Logger;
  */
 public class EnhancedPlaybackEngine {
     private static final Logger logger = Logger.getLogger(EnhancedPlaybackEngine.class.getName());
+    private static final int LOOKAHEAD_BARS = 2;
     
     private final AudioService audioService;
     private final TempoController tempoController;
     private final ScheduledExecutorService scheduler;
     private final HumanizationSettings humanizationSettings;
+    private final EventPipeline pipeline;
+    private final AtomicLong chordCount = new AtomicLong();
     private volatile boolean isPlaying = false;
     private volatile boolean isPaused = false;
     
     public EnhancedPlaybackEngine() {
+        this(RandomSource.withRandomSeed().getSeed());
+    }
+    
+    /**
+     * Creates an engine whose generated patterns and humanization are
+     * reproduced exactly by the same seed.
+     * 
+     * @param seed the session seed
+     */
+    public EnhancedPlaybackEngine(long seed) {
         this.audioService = ImprovedMidiService.getInstance();
         this.tempoController = new TempoController();
         this.scheduler = Executors.newScheduledThreadPool(4);
         this.humanizationSettings = new HumanizationSettings();
+        this.pipeline = new EventPipeline(audioService, scheduler, () -> isPaused, new RandomSource(seed))
+            .setBarCache(new BarCache())
+            .addProcessor(new Humanizer(humanizationSettings, seed));
     }
     
     /**
@@ -43,7 +63,7 @@ public class EnhancedPlaybackEngine {
      * 
      * @param chord the chord to play
      * @param styleName the style name (folk, pop, jazz, rock)
-     * @param tempo the tempo in BPM
+     * @param tempo the tempo in BPM, unless the tempo map has tempo changes
      */
     public void playChord(Chord chord, String styleName, int tempo) {
         if (chord == null || styleName == null) {
@@ -65,12 +85,11 @@ public class EnhancedPlaybackEngine {
      * 
      * @param chord the chord to play
      * @param pattern the rhythm pattern
-     * @param tempo the tempo in BPM
+     * @param tempo the tempo in BPM, unless the tempo map has tempo changes
      */
     public void playChordWithPattern(Chord chord, RhythmPattern pattern, int tempo) {
-        tempoController.setTempo(tempo);
-        List<RhythmEvent> events = pattern.generatePattern(chord, 4, tempo);
-        playRhythmEvents(events);
+        applyTempo(tempo);
+        pipeline.playBar(pattern, chord, tempoController.getTempoMap(), chordCount.getAndIncrement());
     }
     
     /**
@@ -78,126 +97,80 @@ public class EnhancedPlaybackEngine {
      * 
      * @param progression the chord progression
      * @param styleName the style name
-     * @param tempo the tempo in BPM
+     * @param tempo the tempo in BPM, unless the tempo map has tempo changes
      */
     public void playProgression(ChordProgression progression, String styleName, int tempo) {
         if (progression == null || styleName == null) {
             throw new IllegalArgumentException("Progression and style cannot be null");
         }
         
+        RhythmPattern pattern;
         try {
-            RhythmPattern pattern = RhythmPatternFactory.create(styleName);
-            List<Chord> chords = progression.generateChords();
-            
-            long startTime = System.currentTimeMillis();
-            long beatDuration = tempoController.getBeatDurationMs();
-            
-            for (int i = 0; i < chords.size(); i++) {
-                Chord chord = chords.get(i);
-                long chordStartTime = startTime + (i * progression.getBeatsPerChord() * beatDuration);
-                
-                // Schedule chord playback
-                scheduler.schedule(() -> {
-                    if (!isPaused) {
-                        List<RhythmEvent> events = pattern.generatePattern(chord, 4, tempo);
-                        playRhythmEvents(events);
-                    }
-                }, chordStartTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
-            }
+            pattern = RhythmPatternFactory.create(styleName);
         } catch (IllegalArgumentException e) {
             logger.warning("Unknown style: " + styleName + ", using default");
-            RhythmPattern defaultPattern = RhythmPatternFactory.create("folk");
-            // Continue with default pattern...
+            pattern = RhythmPatternFactory.create("folk");
         }
+        applyTempo(tempo);
+        playBars(progression.bars(), pattern);
     }
     
     /**
-     * Plays rhythm events with humanization applied.
+     * Plays bars as they are pulled from a possibly endless source at a
+     * given tempo.
      * 
-     * @param events the rhythm events to play
+     * @param bars the bar source, e.g. {@link ChordProgression#loopBars()}
+     * @param pattern the rhythm pattern
+     * @param tempo the tempo in BPM, unless the tempo map has tempo changes
      */
-    private void playRhythmEvents(List<RhythmEvent> events) {
-        if (events == null || events.isEmpty()) {
-            return;
-        }
-        
-        long beatDuration = tempoController.getBeatDurationMs();
-        
-        for (RhythmEvent event : events) {
-            // Apply humanization
-            double finalStartTime = applyHumanization(event.getFinalStartTime());
-            long startTimeMs = (long)(finalStartTime * beatDuration);
-            
-            long durationMs = (long)(event.getDuration() * beatDuration);
-            int finalVelocity = applyVelocityHumanization(event.getFinalVelocity());
-            
-            // Apply swing if enabled
-            if (humanizationSettings.isSwingEnabled()) {
-                startTimeMs = applySwing(startTimeMs, beatDuration);
-            }
-            
-            scheduler.schedule(() -> {
-                if (!isPaused) {
-                    audioService.playNote(
-                        event.getNote().getMidiNumber(),
-                        finalVelocity,
-                        durationMs
-                    );
-                }
-            }, startTimeMs, TimeUnit.MILLISECONDS);
-        }
+    public void playBars(Iterator<ChordProgression.Bar> bars, RhythmPattern pattern, int tempo) {
+        applyTempo(tempo);
+        playBars(bars, pattern);
     }
     
     /**
-     * Applies timing humanization to a start time.
+     * Plays bars as they are pulled from a possibly endless source, timed by
+     * the current tempo map. Only {@value #LOOKAHEAD_BARS} bars are scheduled
+     * ahead of the playhead, so the first bar starts at once and memory
+     * stays constant.
      * 
-     * @param startTime the original start time
-     * @return humanized start time
+     * @param bars the bar source, e.g. {@link ChordProgression#loopBars()}
+     * @param pattern the rhythm pattern
      */
-    private double applyHumanization(double startTime) {
-        if (!humanizationSettings.isTimingHumanizationEnabled()) {
-            return startTime;
+    public void playBars(Iterator<ChordProgression.Bar> bars, RhythmPattern pattern) {
+        if (bars == null || pattern == null) {
+            throw new IllegalArgumentException("Bars and pattern cannot be null");
         }
         
-        double offset = (Math.random() - 0.5) * humanizationSettings.getTimingOffsetRange();
-        return startTime + offset;
+        TempoMap tempoMap = tempoController.getTempoMap();
+        long songStart = System.nanoTime();
+        scheduler.execute(() -> feedBars(bars, pattern, tempoMap, songStart));
     }
     
     /**
-     * Applies velocity humanization to a velocity value.
-     * 
-     * @param velocity the original velocity
-     * @return humanized velocity
+     * Schedules the next bars and re-arms itself for when the last of them
+     * starts. Each progression bar is placed at its start beat on the tempo
+     * map and lasts its own number of beats, played in the meters of the
+     * map's bars it overlaps.
      */
-    private int applyVelocityHumanization(int velocity) {
-        if (!humanizationSettings.isVelocityHumanizationEnabled()) {
-            return velocity;
+    private void feedBars(Iterator<ChordProgression.Bar> bars, RhythmPattern pattern, TempoMap tempoMap,
+                          long songStart) {
+        if (scheduler.isShutdown()) {
+            return;
         }
-        
-        int variation = (int)((Math.random() - 0.5) * humanizationSettings.getVelocityVariationRange());
-        return Math.max(20, Math.min(127, velocity + variation));
-    }
-    
-    /**
-     * Applies swing feel to timing.
-     * 
-     * @param startTimeMs the start time in milliseconds
-     * @param beatDurationMs the beat duration in milliseconds
-     * @return swung start time
-     */
-    private long applySwing(long startTimeMs, long beatDurationMs) {
-        double swingRatio = humanizationSettings.getSwingRatio();
-        if (swingRatio <= 0.0) {
-            return startTimeMs;
+        long lastStart = System.nanoTime();
+        for (int i = 0; i < LOOKAHEAD_BARS && bars.hasNext(); i++) {
+            ChordProgression.Bar bar = bars.next();
+            lastStart = songStart + tempoMap.beatToNanos(bar.getStartBeat());
+            
+            // Render and humanize now; only the notes run at bar time
+            pipeline.scheduleChord(pattern, bar.getChord(), bar.getIndex(), bar.getStartBeat(), bar.getBeats(),
+                tempoMap, songStart);
         }
-        
-        // Apply swing to off-beats (every other 8th note)
-        double beatPosition = (double)startTimeMs / beatDurationMs;
-        if (Math.floor(beatPosition * 2) % 2 == 1) { // Off-beat
-            return startTimeMs + (long)(swingRatio * beatDurationMs * 0.25);
+        if (bars.hasNext()) {
+            scheduler.schedule(() -> feedBars(bars, pattern, tempoMap, songStart),
+                lastStart - System.nanoTime(), TimeUnit.NANOSECONDS);
         }
-        
-        return startTimeMs;
     }
     
     /**
@@ -240,6 +213,29 @@ public class EnhancedPlaybackEngine {
         humanizationSettings.setStrummingEffectEnabled(settings.isStrummingEffectEnabled());
         humanizationSettings.setSwingRatio(settings.getSwingRatio());
         humanizationSettings.setSwingEnabled(settings.isSwingEnabled());
+        humanizationSettings.setDriftType(settings.getDriftType());
+        humanizationSettings.setDriftEnabled(settings.isDriftEnabled());
+        humanizationSettings.setGroove(settings.getGroove());
+    }
+    
+    /**
+     * Applies a call's tempo, unless the tempo map has tempo changes; a
+     * ramped map then times playback instead.
+     */
+    private void applyTempo(int tempo) {
+        if (!tempoController.hasTempoChanges()) {
+            tempoController.setTempo(tempo);
+        }
+    }
+    
+    /**
+     * Gets the pipeline bars are rendered and dispatched through, e.g. to
+     * read the hit rate of its bar cache.
+     * 
+     * @return the event pipeline
+     */
+    public EventPipeline getPipeline() {
+        return pipeline;
     }
     
     /**
@@ -284,6 +280,47 @@ public class EnhancedPlaybackEngine {
         return isPaused;
     }
     
+    public long getSeed() {
+        return pipeline.getRandom().getSeed();
+    }
+    
+    /**
+     * Gets the meter bars are played in.
+     */
+    public Meter getMeter() {
+        return tempoController.getMeter();
+    }
+    
+    /**
+     * Sets a constant meter for chords and progressions started from now
+     * on, replacing any tempo map. Patterns compile their templates for the
+     * meter on first use.
+     * 
+     * @param meter the time signature
+     */
+    public void setMeter(Meter meter) {
+        if (meter == null) {
+            throw new IllegalArgumentException("Meter cannot be null");
+        }
+        tempoController.setMeter(meter);
+    }
+    
+    /**
+     * Gets the tempo and meter changes progressions are timed by.
+     */
+    public TempoMap getTempoMap() {
+        return tempoController.getTempoMap();
+    }
+    
+    /**
+     * Sets the tempo and meter changes for progressions started from now on.
+     * 
+     * @param tempoMap the song's timing
+     */
+    public void setTempoMap(TempoMap tempoMap) {
+        tempoController.setTempoMap(tempoMap);
+    }
+    
     public int getTempo() {
         return tempoController.getTempo();
     }
@@ -0,0 +1,335 @@
+package com.vsge.engine.playback;
+
+import com.vsge.audio.AudioService;
+import com.vsge.engine.timing.TempoMap;
+import com.vsge.music.chord.Chord;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.EventSource;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.rhythm.Ticks;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The playback stage shared by both engines: renders a bar from any
+ * {@link EventSource} into a per-thread {@link EventBuffer}, runs the
+ * registered {@link EventProcessor}s over it and schedules the notes.
+ * With a {@link BarCache} set, repeated bars are copied from the cache
+ * instead of rendered.
+ * 
+ * <p>Scheduled tasks capture only primitives, so each thread's buffer is
+ * reused for the next bar as soon as dispatch returns. Each bar renders
+ * with the session's random substream for its index, so a session seed
+ * reproduces every bar exactly, whichever thread renders it. The
+ * processors draw from a second substream for the bar, so they see the
+ * same numbers whether the bar was rendered or copied from the cache.
+ * Notes are played without the audio service's own variation, which is
+ * not seeded.
+ * 
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class EventPipeline {
+    private final AudioService audioService;
+    private final ScheduledExecutorService scheduler;
+    private final BooleanSupplier paused;
+    private final RandomSource random;
+    private final RandomSource processRandom;
+    private final List<EventProcessor> processors = new CopyOnWriteArrayList<>();
+    private volatile BarCache barCache;
+    private final ThreadLocal<EventBuffer> buffers = ThreadLocal.withInitial(EventBuffer::new);
+    
+    /**
+     * @param audioService the output notes are played on
+     * @param scheduler the scheduler note-on tasks run on
+     * @param paused checked when each note is due; paused notes are dropped
+     * @param random the session random source bars derive their substreams from
+     */
+    public EventPipeline(AudioService audioService, ScheduledExecutorService scheduler,
+                         BooleanSupplier paused, RandomSource random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random source cannot be null");
+        }
+        this.audioService = audioService;
+        this.scheduler = scheduler;
+        this.paused = paused;
+        this.random = random;
+        // Index -1 lies outside the bar substreams, which start at 0
+        this.processRandom = random.forStream(-1);
+    }
+    
+    /**
+     * Gets the session random source.
+     */
+    public RandomSource getRandom() {
+        return random;
+    }
+    
+    /**
+     * Appends a processing stage; stages run in the order they were added.
+     */
+    public EventPipeline addProcessor(EventProcessor processor) {
+        if (processor == null) {
+            throw new IllegalArgumentException("Processor cannot be null");
+        }
+        processors.add(processor);
+        return this;
+    }
+    
+    public boolean removeProcessor(EventProcessor processor) {
+        return processors.remove(processor);
+    }
+    
+    /**
+     * Gets the cache bars are looked up in before rendering, or null.
+     */
+    public BarCache getBarCache() {
+        return barCache;
+    }
+    
+    /**
+     * Sets the cache of rendered bars; null renders every bar.
+     */
+    public EventPipeline setBarCache(BarCache barCache) {
+        this.barCache = barCache;
+        return this;
+    }
+    
+    /**
+     * Renders, processes and dispatches one bar starting now.
+     * 
+     * @param source the style or pattern to render
+     * @param chord the chord of the bar
+     * @param beatsPerMeasure number of beats in the bar
+     * @param tempo the tempo in BPM
+     * @param barIndex the bar number, selecting the random substream
+     */
+    public void playBar(EventSource source, Chord chord, int beatsPerMeasure, int tempo, long barIndex) {
+        playBar(source, chord, Meter.of(beatsPerMeasure, 4), tempo, barIndex);
+    }
+    
+    /**
+     * Renders, processes and dispatches one bar in a meter starting now.
+     * 
+     * @param source the style or pattern to render
+     * @param chord the chord of the bar
+     * @param meter the meter of the bar
+     * @param tempo the tempo in BPM
+     * @param barIndex the bar number, selecting the random substream
+     */
+    public void playBar(EventSource source, Chord chord, Meter meter, int tempo, long barIndex) {
+        playBar(source, chord, TempoMap.constant(tempo, meter), barIndex);
+    }
+    
+    /**
+     * Renders, processes and dispatches one bar starting now, timed as the
+     * first bar of a tempo map.
+     * 
+     * @param source the style or pattern to render
+     * @param chord the chord of the bar
+     * @param tempoMap the timing; the bar takes the map's starting tempo and meter
+     * @param barIndex the bar number, selecting the random substream
+     */
+    public void playBar(EventSource source, Chord chord, TempoMap tempoMap, long barIndex) {
+        int tempo = (int) Math.round(tempoMap.getInitialTempo());
+        EventBuffer buffer = render(source, chord, tempoMap.getInitialMeter(), tempo, barIndex, 0.0);
+        dispatch(buffer, tempoMap, System.nanoTime());
+    }
+    
+    /**
+     * Renders and processes one bar into this thread's buffer without
+     * dispatching it. The buffer is overwritten by the thread's next render.
+     * 
+     * @return the rendered bar
+     */
+    public EventBuffer render(EventSource source, Chord chord, int beatsPerMeasure, int tempo, long barIndex) {
+        return render(source, chord, Meter.of(beatsPerMeasure, 4), tempo, barIndex);
+    }
+    
+    /**
+     * Renders and processes one bar in a meter into this thread's buffer
+     * without dispatching it. Bars are assumed to be in the same meter, so
+     * the bar starts {@code barIndex} bar lengths into the song.
+     * 
+     * @return the rendered bar
+     */
+    public EventBuffer render(EventSource source, Chord chord, Meter meter, int tempo, long barIndex) {
+        return renderAt(source, chord, meter, tempo, barIndex, barIndex * meter.getLengthTicks());
+    }
+    
+    /**
+     * Renders and processes one bar starting at a given position in the
+     * song, for songs whose meter or chord lengths vary.
+     * 
+     * @param barStart position of the bar in beats from the start of the song
+     * @return the rendered bar
+     */
+    public EventBuffer render(EventSource source, Chord chord, Meter meter, int tempo, long barIndex,
+                              double barStart) {
+        return renderAt(source, chord, meter, tempo, barIndex, Math.round(barStart * Ticks.PPQ));
+    }
+    
+    private EventBuffer renderAt(EventSource source, Chord chord, Meter meter, int tempo, long barIndex,
+                                 long barStartTick) {
+        EventBuffer buffer = buffers.get();
+        buffer.clear();
+        buffer.setRandom(random.forStream(barIndex));
+        buffer.setBarStartTick(barStartTick);
+        BarCache cache = barCache;
+        if (cache != null) {
+            cache.render(source, chord, meter, tempo, buffer);
+        } else {
+            source.render(chord, meter, tempo, buffer);
+        }
+        buffer.setRandom(processRandom.forStream(barIndex));
+        process(buffer);
+        return buffer;
+    }
+    
+    /**
+     * Renders and processes a bar of a song timed by a tempo map. The bar
+     * is placed where the map says it starts and played in its meter.
+     * 
+     * @param bar the bar number, from 0
+     * @return the rendered bar
+     */
+    public EventBuffer render(EventSource source, Chord chord, long bar, TempoMap tempoMap) {
+        Meter meter = tempoMap.meterAtBar(bar);
+        double barStart = tempoMap.barToBeat(bar);
+        int tempo = (int) Math.round(tempoMap.tempoAt(barStart));
+        return render(source, chord, meter, tempo, bar, barStart);
+    }
+    
+    /**
+     * Renders and processes a chord of a song timed by a tempo map. The
+     * chord lasts {@code beats} beats from {@code startBeat}, so its span
+     * need not match the map's bars: the source plays in each meter bar the
+     * chord overlaps, and only the events starting within the chord's span
+     * are kept. A two-beat chord in 4/4 plays half a bar of the pattern; an
+     * eight-beat chord plays two bars.
+     * 
+     * @param index the chord's number in the song, from 0, selecting the random substream
+     * @param startBeat where the chord starts, in beats from the start of the song
+     * @param beats how long the chord lasts
+     * @return the rendered chord, timed from the start of the meter bar it starts in
+     */
+    public EventBuffer renderChord(EventSource source, Chord chord, long index, double startBeat, double beats,
+                                   TempoMap tempoMap) {
+        if (beats <= 0) {
+            throw new IllegalArgumentException("Chord length must be positive");
+        }
+        EventBuffer buffer = buffers.get();
+        buffer.clear();
+        buffer.setRandom(random.forStream(index));
+        long bar = tempoMap.beatToBar(startBeat);
+        long firstBarTick = Math.round(tempoMap.barToBeat(bar) * Ticks.PPQ);
+        long endTick = Math.round((startBeat + beats) * Ticks.PPQ);
+        buffer.setBarStartTick(firstBarTick);
+        BarCache cache = barCache;
+        long barTick = firstBarTick;
+        while (barTick < endTick) {
+            Meter meter = tempoMap.meterAtBar(bar);
+            int tempo = (int) Math.round(tempoMap.tempoAt(Ticks.toBeats(barTick)));
+            int from = buffer.size();
+            if (cache != null) {
+                cache.render(source, chord, meter, tempo, buffer);
+            } else {
+                source.render(chord, meter, tempo, buffer);
+            }
+            buffer.shift(from, (int) (barTick - firstBarTick));
+            barTick = Math.round(tempoMap.barToBeat(++bar) * Ticks.PPQ);
+        }
+        buffer.retain(0, (int) (Math.round(startBeat * Ticks.PPQ) - firstBarTick), (int) (endTick - firstBarTick));
+        buffer.setRandom(processRandom.forStream(index));
+        process(buffer);
+        return buffer;
+    }
+    
+    /**
+     * Renders and processes a chord of a song now and schedules it on a
+     * tempo map; see {@link #renderChord}.
+     * 
+     * @param source the style or pattern to render
+     * @param chord the chord to play
+     * @param index the chord's number in the song, from 0, selecting the random substream
+     * @param startBeat where the chord starts, in beats from the start of the song
+     * @param beats how long the chord lasts
+     * @param tempoMap the song's timing
+     * @param songStartNanos {@link System#nanoTime()} at the start of the song
+     */
+    public void scheduleChord(EventSource source, Chord chord, long index, double startBeat, double beats,
+                              TempoMap tempoMap, long songStartNanos) {
+        dispatch(renderChord(source, chord, index, startBeat, beats, tempoMap), tempoMap, songStartNanos);
+    }
+    
+    /**
+     * Renders and processes bar {@code bar} of a song now and schedules it
+     * on a tempo map, placed and metered as the map says.
+     * 
+     * @param source the style or pattern to render
+     * @param chord the chord of the bar
+     * @param bar the bar number, from 0, also selecting the random substream
+     * @param tempoMap the song's timing
+     * @param songStartNanos {@link System#nanoTime()} at the start of the song
+     */
+    public void scheduleBar(EventSource source, Chord chord, long bar, TempoMap tempoMap, long songStartNanos) {
+        dispatch(render(source, chord, bar, tempoMap), tempoMap, songStartNanos);
+    }
+    
+    /**
+     * Renders and processes a bar now and schedules it on a tempo map, so
+     * every note lands on the map's exact time even inside a ramp.
+     * 
+     * @param source the style or pattern to render
+     * @param chord the chord of the bar
+     * @param meter the meter of the bar
+     * @param barIndex the bar number, selecting the random substream
+     * @param barStart position of the bar in beats from the start of the song
+     * @param tempoMap the song's timing
+     * @param songStartNanos {@link System#nanoTime()} at the start of the song
+     */
+    public void scheduleBar(EventSource source, Chord chord, Meter meter, long barIndex, double barStart,
+                            TempoMap tempoMap, long songStartNanos) {
+        int tempo = (int) Math.round(tempoMap.tempoAt(barStart));
+        EventBuffer buffer = render(source, chord, meter, tempo, barIndex, barStart);
+        dispatch(buffer, tempoMap, songStartNanos);
+    }
+    
+    /**
+     * Runs every processing stage over a buffer.
+     */
+    public void process(EventBuffer events) {
+        for (EventProcessor processor : processors) {
+            processor.process(events);
+        }
+    }
+    
+    /**
+     * Schedules every event of a buffer at its time on a tempo map.
+     * 
+     * @param events the events, start times in ticks from the buffer's bar start
+     * @param tempoMap the song's timing
+     * @param songStartNanos {@link System#nanoTime()} at the start of the song
+     */
+    public void dispatch(EventBuffer events, TempoMap tempoMap, long songStartNanos) {
+        long barStart = events.getBarStartTick();
+        long now = System.nanoTime();
+        for (int i = 0; i < events.size(); i++) {
+            long start = barStart + events.getFinalStartTick(i);
+            long startNanos = tempoMap.tickToNanos(start);
+            long durationMs = (tempoMap.tickToNanos(start + events.getDurationTicks(i)) - startNanos) / 1_000_000L;
+            int pitch = events.getPitch(i);
+            int velocity = events.getFinalVelocity(i);
+            
+            scheduler.schedule(() -> {
+                if (!paused.getAsBoolean()) {
+                    audioService.playNote(pitch, velocity, durationMs, false);
+                }
+            }, songStartNanos + startNanos - now, TimeUnit.NANOSECONDS);
+        }
+    }
+}
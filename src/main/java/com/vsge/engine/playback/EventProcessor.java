@@ -0,0 +1,24 @@
+package com.vsge.engine.playback;
+
+import com.vsge.music.rhythm.EventBuffer;
+
+/**
+ * A stage of the {@link EventPipeline} that transforms a rendered bar in
+ * place before it is dispatched, e.g. humanization or swing.
+ * 
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface EventProcessor {
+    
+    /**
+     * Transforms the events of one bar. Start times, durations and timing
+     * offsets are in {@link com.vsge.music.rhythm.Ticks} from the start of
+     * the bar, which is {@link EventBuffer#getBarStartTick()} ticks into
+     * the song.
+     * 
+     * @param events the bar's events
+     */
+    void process(EventBuffer events);
+}
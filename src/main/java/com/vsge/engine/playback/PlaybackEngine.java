@@ -4,13 +4,16 @@ import com.vsge.audio.AudioService;
 import com.vsge.audio.ImprovedMidiService;
 import com.vsge.music.chord.Chord;
 import com.vsge.music.progression.ChordProgression;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.RandomSource;
 import com.vsge.style.PlayStyle;
-import com.vsge.style.PlayStyle.NoteEvent;
 import com.vsge.engine.timing.TempoController;
-import java.util.List;
+import com.vsge.engine.timing.TempoMap;
+import java.util.Iterator;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 /**
@@ -22,17 +25,31 @@ import java.util.logging.Logger;
  */
 public class PlaybackEngine {
     private static final Logger logger = Logger.getLogger(PlaybackEngine.class.getName());
+    private static final int LOOKAHEAD_BARS = 2;
     
     private final AudioService audioService;
     private final TempoController tempoController;
     private final ScheduledExecutorService scheduler;
+    private final EventPipeline pipeline;
+    private final AtomicLong chordCount = new AtomicLong();
     private volatile boolean isPlaying = false;
     private volatile boolean isPaused = false;
     
     public PlaybackEngine() {
+        this(RandomSource.withRandomSeed().getSeed());
+    }
+    
+    /**
+     * Creates an engine whose generated patterns and humanization are
+     * reproduced exactly by the same seed.
+     * 
+     * @param seed the session seed
+     */
+    public PlaybackEngine(long seed) {
         this.audioService = ImprovedMidiService.getInstance();
         this.tempoController = new TempoController();
         this.scheduler = Executors.newScheduledThreadPool(2);
+        this.pipeline = new EventPipeline(audioService, scheduler, () -> isPaused, new RandomSource(seed));
     }
     
     /**
@@ -40,16 +57,15 @@ public class PlaybackEngine {
      * 
      * @param chord the chord to play
      * @param style the playing style
-     * @param tempo the tempo in BPM
+     * @param tempo the tempo in BPM, unless the tempo map has tempo changes
      */
     public void playChord(Chord chord, PlayStyle style, int tempo) {
         if (chord == null || style == null) {
             throw new IllegalArgumentException("Chord and style cannot be null");
         }
         
-        tempoController.setTempo(tempo);
-        List<NoteEvent> events = style.generatePattern(chord, 4, tempo);
-        playNoteEvents(events);
+        applyTempo(tempo);
+        pipeline.playBar(style, chord, tempoController.getTempoMap(), chordCount.getAndIncrement());
     }
     
     /**
@@ -57,61 +73,95 @@ public class PlaybackEngine {
      * 
      * @param progression the chord progression
      * @param style the playing style
-     * @param tempo the tempo in BPM
+     * @param tempo the tempo in BPM, unless the tempo map has tempo changes
      */
     public void playProgression(ChordProgression progression, PlayStyle style, int tempo) {
         if (progression == null || style == null) {
             throw new IllegalArgumentException("Progression and style cannot be null");
         }
         
-        tempoController.setTempo(tempo);
-        List<Chord> chords = progression.generateChords();
-        
-        long startTime = System.currentTimeMillis();
-        long beatDuration = tempoController.getBeatDurationMs();
-        
-        for (int i = 0; i < chords.size(); i++) {
-            Chord chord = chords.get(i);
-            long chordStartTime = startTime + (i * progression.getBeatsPerChord() * beatDuration);
-            
-            // Schedule chord playback
-            scheduler.schedule(() -> {
-                if (!isPaused) {
-                    List<NoteEvent> events = style.generatePattern(chord, 4, tempo);
-                    playNoteEvents(events);
-                }
-            }, chordStartTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
-        }
+        applyTempo(tempo);
+        playBars(progression.bars(), style);
     }
     
     /**
-     * Plays a sequence of note events with proper timing.
+     * Plays bars as they are pulled from a possibly endless source at a
+     * given tempo.
      * 
-     * @param events the note events to play
+     * @param bars the bar source, e.g. {@link ChordProgression#loopBars()}
+     * @param style the playing style
+     * @param tempo the tempo in BPM, unless the tempo map has tempo changes
      */
-    private void playNoteEvents(List<NoteEvent> events) {
-        if (events == null || events.isEmpty()) {
-            return;
+    public void playBars(Iterator<ChordProgression.Bar> bars, PlayStyle style, int tempo) {
+        applyTempo(tempo);
+        playBars(bars, style);
+    }
+    
+    /**
+     * Plays bars as they are pulled from a possibly endless source, timed by
+     * the current tempo map. Only {@value #LOOKAHEAD_BARS} bars are scheduled
+     * ahead of the playhead, so the first bar starts at once and memory
+     * stays constant.
+     * 
+     * @param bars the bar source, e.g. {@link ChordProgression#loopBars()}
+     * @param style the playing style
+     */
+    public void playBars(Iterator<ChordProgression.Bar> bars, PlayStyle style) {
+        if (bars == null || style == null) {
+            throw new IllegalArgumentException("Bars and style cannot be null");
         }
         
-        long beatDuration = tempoController.getBeatDurationMs();
-        
-        for (NoteEvent event : events) {
-            long startTime = (long)(event.getStartTime() * beatDuration);
-            long duration = (long)(event.getDuration() * beatDuration);
+        TempoMap tempoMap = tempoController.getTempoMap();
+        long songStart = System.nanoTime();
+        scheduler.execute(() -> feedBars(bars, style, tempoMap, songStart));
+    }
+    
+    /**
+     * Schedules the next bars and re-arms itself for when the last of them
+     * starts. Each progression bar is placed at its start beat on the tempo
+     * map and lasts its own number of beats, played in the meters of the
+     * map's bars it overlaps.
+     */
+    private void feedBars(Iterator<ChordProgression.Bar> bars, PlayStyle style, TempoMap tempoMap,
+                          long songStart) {
+        if (scheduler.isShutdown()) {
+            return;
+        }
+        long lastStart = System.nanoTime();
+        for (int i = 0; i < LOOKAHEAD_BARS && bars.hasNext(); i++) {
+            ChordProgression.Bar bar = bars.next();
+            lastStart = songStart + tempoMap.beatToNanos(bar.getStartBeat());
             
-            scheduler.schedule(() -> {
-                if (!isPaused) {
-                    audioService.playNote(
-                        event.getNote().getMidiNumber(),
-                        event.getVelocity(),
-                        duration
-                    );
-                }
-            }, startTime, TimeUnit.MILLISECONDS);
+            // Render and humanize now; only the notes run at bar time
+            pipeline.scheduleChord(style, bar.getChord(), bar.getIndex(), bar.getStartBeat(), bar.getBeats(),
+                tempoMap, songStart);
+        }
+        if (bars.hasNext()) {
+            scheduler.schedule(() -> feedBars(bars, style, tempoMap, songStart),
+                lastStart - System.nanoTime(), TimeUnit.NANOSECONDS);
         }
     }
     
+    /**
+     * Applies a call's tempo, unless the tempo map has tempo changes; a
+     * ramped map then times playback instead.
+     */
+    private void applyTempo(int tempo) {
+        if (!tempoController.hasTempoChanges()) {
+            tempoController.setTempo(tempo);
+        }
+    }
+    
+    /**
+     * Gets the pipeline bars are rendered and dispatched through, e.g. to
+     * add processing stages.
+     * 
+     * @return the event pipeline
+     */
+    public EventPipeline getPipeline() {
+        return pipeline;
+    }
+    
     /**
      * Starts playback.
      */
@@ -166,6 +216,52 @@ public class PlaybackEngine {
         return isPaused;
     }
     
+    /**
+     * Gets the session seed; an engine created with it plays the same notes.
+     * 
+     * @return the seed
+     */
+    public long getSeed() {
+        return pipeline.getRandom().getSeed();
+    }
+    
+    /**
+     * Gets the meter bars are played in.
+     */
+    public Meter getMeter() {
+        return tempoController.getMeter();
+    }
+    
+    /**
+     * Sets a constant meter for chords and progressions started from now
+     * on, replacing any tempo map. Each progression bar is played as one
+     * bar of the meter.
+     * 
+     * @param meter the time signature
+     */
+    public void setMeter(Meter meter) {
+        if (meter == null) {
+            throw new IllegalArgumentException("Meter cannot be null");
+        }
+        tempoController.setMeter(meter);
+    }
+    
+    /**
+     * Gets the tempo and meter changes progressions are timed by.
+     */
+    public TempoMap getTempoMap() {
+        return tempoController.getTempoMap();
+    }
+    
+    /**
+     * Sets the tempo and meter changes for progressions started from now on.
+     * 
+     * @param tempoMap the song's timing
+     */
+    public void setTempoMap(TempoMap tempoMap) {
+        tempoController.setTempoMap(tempoMap);
+    }
+    
     /**
      * Gets the current tempo.
      * 
@@ -1,29 +1,38 @@
 package com.vsge.engine.timing;
 
+import com.vsge.music.rhythm.Meter;
+
 /**
  * Manages tempo and timing calculations for playback.
- * 
+ *
+ * <p>Timing is held as a {@link TempoMap}. Setting a single tempo or meter
+ * replaces it with a constant map; {@link #setTempoMap(TempoMap)} installs
+ * one with ramps and meter changes. Conversions go through the map and
+ * round rather than truncate.
+ *
  * @author VSGE Team
  * @version 1.0.0
  */
 public class TempoController {
     private static final int DEFAULT_TEMPO = 120;
-    private static final int MIN_TEMPO = 60;
-    private static final int MAX_TEMPO = 200;
-    
-    private int tempo;
-    
+    private static final int MIN_TEMPO = (int) TempoMap.MIN_TEMPO;
+    private static final int MAX_TEMPO = (int) TempoMap.MAX_TEMPO;
+
+    private volatile TempoMap tempoMap;
+
     public TempoController() {
-        this.tempo = DEFAULT_TEMPO;
+        this.tempoMap = TempoMap.constant(DEFAULT_TEMPO, Meter.FOUR_FOUR);
     }
-    
+
     public TempoController(int tempo) {
+        this.tempoMap = TempoMap.constant(DEFAULT_TEMPO, Meter.FOUR_FOUR);
         setTempo(tempo);
     }
-    
+
     /**
-     * Sets the tempo in beats per minute.
-     * 
+     * Sets a constant tempo in beats per minute, replacing any tempo
+     * changes and keeping the meter changes.
+     *
      * @param tempo the tempo in BPM
      * @throws IllegalArgumentException if tempo is out of range
      */
@@ -33,54 +42,95 @@ public class TempoController {
                 "Tempo must be between " + MIN_TEMPO + " and " + MAX_TEMPO + " BPM"
             );
         }
-        this.tempo = tempo;
+        this.tempoMap = tempoMap.withTempo(tempo);
+    }
+
+    /**
+     * Checks whether the tempo map changes tempo, e.g. with a ramp.
+     */
+    public boolean hasTempoChanges() {
+        return tempoMap.getSegmentCount() > 1;
     }
-    
+
     /**
-     * Gets the current tempo.
-     * 
+     * Gets the tempo at the start of the song.
+     *
      * @return tempo in BPM
      */
     public int getTempo() {
-        return tempo;
+        return (int) Math.round(tempoMap.getInitialTempo());
+    }
+
+    /**
+     * Sets a constant meter, keeping the starting tempo.
+     *
+     * @param meter the time signature
+     */
+    public void setMeter(Meter meter) {
+        this.tempoMap = TempoMap.constant(tempoMap.getInitialTempo(), meter);
     }
-    
+
     /**
-     * Calculates the duration of one beat in milliseconds.
-     * 
+     * Gets the meter at the start of the song.
+     */
+    public Meter getMeter() {
+        return tempoMap.getInitialMeter();
+    }
+
+    /**
+     * Gets the tempo map conversions use.
+     */
+    public TempoMap getTempoMap() {
+        return tempoMap;
+    }
+
+    /**
+     * Replaces the timing with a map of tempo and meter changes.
+     */
+    public void setTempoMap(TempoMap tempoMap) {
+        if (tempoMap == null) {
+            throw new IllegalArgumentException("Tempo map cannot be null");
+        }
+        this.tempoMap = tempoMap;
+    }
+
+    /**
+     * Calculates the duration of the first beat in milliseconds.
+     *
      * @return beat duration in milliseconds
      */
     public long getBeatDurationMs() {
-        return 60000L / tempo; // 60 seconds * 1000 ms / BPM
+        return beatsToMs(1.0);
     }
-    
+
     /**
-     * Calculates the duration of a measure in milliseconds.
-     * 
+     * Calculates the duration of the first measure in milliseconds.
+     *
      * @param beatsPerMeasure number of beats per measure
      * @return measure duration in milliseconds
      */
     public long getMeasureDurationMs(int beatsPerMeasure) {
-        return getBeatDurationMs() * beatsPerMeasure;
+        return beatsToMs(beatsPerMeasure);
     }
-    
+
     /**
-     * Converts beats to milliseconds.
-     * 
+     * Converts a position in beats from the start of the song to
+     * milliseconds.
+     *
      * @param beats number of beats
      * @return duration in milliseconds
      */
     public long beatsToMs(double beats) {
-        return (long)(beats * getBeatDurationMs());
+        return Math.round(tempoMap.beatToNanos(beats) / 1_000_000.0);
     }
-    
+
     /**
-     * Converts milliseconds to beats.
-     * 
+     * Converts milliseconds from the start of the song to beats.
+     *
      * @param ms duration in milliseconds
      * @return number of beats
      */
     public double msToBeats(long ms) {
-        return (double)ms / getBeatDurationMs();
+        return tempoMap.nanosToBeat(ms * 1_000_000L);
     }
 }
@@ -0,0 +1,339 @@
+package com.vsge.engine.timing;
+
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.Ticks;
+import java.util.Arrays;
+
+/**
+ * Tempo and meter changes over a song, for converting between beats and
+ * wall-clock time.
+ *
+ * <p>Tempo change points split the song into segments, each with a start
+ * and end tempo and a {@link Curve} between them. Each segment's start
+ * time is precomputed when the map is built. A conversion then finds the
+ * segment by binary search and solves the tempo integral in closed form,
+ * so accelerandos and ritardandos are exact. The time at a beat does not
+ * depend on how many segments come before it.
+ *
+ * <p>Positions are in quarter-note beats from the start of the song and
+ * times in nanoseconds. Meter changes are placed at bar numbers, and
+ * {@link #barToBeat(long)} gives the beat each bar starts on. Maps are
+ * immutable.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class TempoMap {
+    public static final double MIN_TEMPO = 20.0;
+    public static final double MAX_TEMPO = 400.0;
+
+    private static final double NANOS_PER_MINUTE = 60_000_000_000.0;
+    private static final double FLAT = 1e-12;
+
+    /**
+     * How the tempo moves from one change point to the next.
+     */
+    public enum Curve {
+        /** Jumps to the new tempo at the change point. */
+        STEP,
+        /** Changes by the same BPM per beat. */
+        LINEAR,
+        /** Changes by the same ratio per beat, which sounds even to the ear. */
+        EXPONENTIAL
+    }
+
+    // Tempo segments, indexed together
+    private final double[] segmentBeats;
+    private final double[] segmentNanos;
+    private final double[] segmentTempos;
+    private final double[] segmentRates;   // BPM per beat (linear) or log ratio per beat (exponential)
+    private final Curve[] segmentCurves;
+
+    // Meter segments, indexed together
+    private final long[] meterBars;
+    private final double[] meterBeats;
+    private final Meter[] meters;
+
+    private TempoMap(Builder builder) {
+        int count = builder.tempoCount;
+        segmentBeats = Arrays.copyOf(builder.beats, count);
+        segmentTempos = Arrays.copyOf(builder.tempos, count);
+        segmentRates = new double[count];
+        segmentCurves = new Curve[count];
+        segmentNanos = new double[count];
+        for (int i = 0; i < count; i++) {
+            // A segment takes the curve of the point it leads to; the last one holds its tempo
+            Curve curve = i + 1 < count ? builder.curves[i + 1] : Curve.STEP;
+            segmentCurves[i] = curve;
+            if (curve != Curve.STEP) {
+                double length = segmentBeats[i + 1] - segmentBeats[i];
+                segmentRates[i] = curve == Curve.LINEAR
+                    ? (segmentTempos[i + 1] - segmentTempos[i]) / length
+                    : Math.log(segmentTempos[i + 1] / segmentTempos[i]) / length;
+            }
+            if (i > 0) {
+                segmentNanos[i] = segmentNanos[i - 1] + elapsed(i - 1, segmentBeats[i] - segmentBeats[i - 1]);
+            }
+        }
+
+        int meterCount = builder.meterCount;
+        meterBars = Arrays.copyOf(builder.meterBars, meterCount);
+        meters = Arrays.copyOf(builder.meters, meterCount);
+        meterBeats = new double[meterCount];
+        for (int i = 1; i < meterCount; i++) {
+            meterBeats[i] = meterBeats[i - 1] + (meterBars[i] - meterBars[i - 1]) * meters[i - 1].getLength();
+        }
+    }
+
+    /**
+     * Creates a map with one tempo and meter for the whole song.
+     */
+    public static TempoMap constant(double tempo, Meter meter) {
+        return new Builder(tempo, meter).build();
+    }
+
+    /**
+     * Creates a map with the same meter changes and one constant tempo.
+     *
+     * @param tempo the tempo in BPM
+     */
+    public TempoMap withTempo(double tempo) {
+        Builder builder = new Builder(tempo, meters[0]);
+        for (int i = 1; i < meters.length; i++) {
+            builder.meter(meterBars[i], meters[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Nanoseconds from the start of segment {@code i} to {@code beats} into it.
+     */
+    private double elapsed(int i, double beats) {
+        double tempo = segmentTempos[i];
+        double rate = segmentRates[i];
+        if (segmentCurves[i] == Curve.STEP || Math.abs(rate) < FLAT) {
+            return beats * NANOS_PER_MINUTE / tempo;
+        }
+        if (segmentCurves[i] == Curve.LINEAR) {
+            return NANOS_PER_MINUTE / rate * Math.log((tempo + rate * beats) / tempo);
+        }
+        return NANOS_PER_MINUTE * (1.0 - Math.exp(-rate * beats)) / (rate * tempo);
+    }
+
+    /**
+     * Beats from the start of segment {@code i} to {@code nanos} into it.
+     */
+    private double advanced(int i, double nanos) {
+        double tempo = segmentTempos[i];
+        double rate = segmentRates[i];
+        if (segmentCurves[i] == Curve.STEP || Math.abs(rate) < FLAT) {
+            return nanos * tempo / NANOS_PER_MINUTE;
+        }
+        if (segmentCurves[i] == Curve.LINEAR) {
+            return tempo * Math.expm1(rate * nanos / NANOS_PER_MINUTE) / rate;
+        }
+        return -Math.log(1.0 - rate * tempo * nanos / NANOS_PER_MINUTE) / rate;
+    }
+
+    private static int floorIndex(double[] keys, double key) {
+        int index = Arrays.binarySearch(keys, key);
+        return Math.max(0, index >= 0 ? index : -index - 2);
+    }
+
+    /**
+     * Gets the tempo at a position.
+     *
+     * @param beat quarter-note beats from the start of the song
+     * @return the tempo in BPM
+     */
+    public double tempoAt(double beat) {
+        int i = floorIndex(segmentBeats, beat);
+        double beats = Math.max(0.0, beat - segmentBeats[i]);
+        switch (segmentCurves[i]) {
+            case LINEAR:
+                return segmentTempos[i] + segmentRates[i] * beats;
+            case EXPONENTIAL:
+                return segmentTempos[i] * Math.exp(segmentRates[i] * beats);
+            default:
+                return segmentTempos[i];
+        }
+    }
+
+    /**
+     * Converts a position to the time from the start of the song.
+     *
+     * @param beat quarter-note beats from the start of the song
+     * @return the time in nanoseconds, rounded
+     */
+    public long beatToNanos(double beat) {
+        if (beat <= 0.0) {
+            return Math.round(beat * NANOS_PER_MINUTE / segmentTempos[0]);
+        }
+        int i = floorIndex(segmentBeats, beat);
+        return Math.round(segmentNanos[i] + elapsed(i, beat - segmentBeats[i]));
+    }
+
+    /**
+     * Converts a position in {@link Ticks} to the time from the start of
+     * the song. This is where rendered events become wall-clock time.
+     *
+     * @param tick ticks from the start of the song
+     * @return the time in nanoseconds, rounded
+     */
+    public long tickToNanos(long tick) {
+        return beatToNanos(Ticks.toBeats(tick));
+    }
+
+    /**
+     * Converts a time from the start of the song to a position.
+     *
+     * @param nanos nanoseconds from the start of the song
+     * @return quarter-note beats from the start of the song
+     */
+    public double nanosToBeat(long nanos) {
+        if (nanos <= 0) {
+            return nanos * segmentTempos[0] / NANOS_PER_MINUTE;
+        }
+        int i = floorIndex(segmentNanos, nanos);
+        return segmentBeats[i] + advanced(i, nanos - segmentNanos[i]);
+    }
+
+    /**
+     * Gets the meter of a bar.
+     */
+    public Meter meterAtBar(long bar) {
+        int index = Arrays.binarySearch(meterBars, bar);
+        return meters[Math.max(0, index >= 0 ? index : -index - 2)];
+    }
+
+    /**
+     * Gets the meter in effect at a position.
+     */
+    public Meter meterAt(double beat) {
+        return meters[floorIndex(meterBeats, beat)];
+    }
+
+    /**
+     * Gets the position a bar starts at.
+     *
+     * @param bar the bar number, from 0
+     * @return quarter-note beats from the start of the song
+     */
+    public double barToBeat(long bar) {
+        int index = Arrays.binarySearch(meterBars, bar);
+        int i = Math.max(0, index >= 0 ? index : -index - 2);
+        return meterBeats[i] + (bar - meterBars[i]) * meters[i].getLength();
+    }
+
+    /**
+     * Gets the bar a position falls in.
+     */
+    public long beatToBar(double beat) {
+        int i = floorIndex(meterBeats, beat);
+        return meterBars[i] + (long) Math.floor((beat - meterBeats[i]) / meters[i].getLength());
+    }
+
+    public double getInitialTempo() {
+        return segmentTempos[0];
+    }
+
+    public Meter getInitialMeter() {
+        return meters[0];
+    }
+
+    /**
+     * Gets the number of tempo segments.
+     */
+    public int getSegmentCount() {
+        return segmentBeats.length;
+    }
+
+    /**
+     * Builds a map from change points added in song order.
+     */
+    public static final class Builder {
+        private double[] beats = new double[4];
+        private double[] tempos = new double[4];
+        private Curve[] curves = new Curve[4];
+        private int tempoCount;
+        private long[] meterBars = new long[4];
+        private Meter[] meters = new Meter[4];
+        private int meterCount;
+
+        /**
+         * @param tempo the tempo at the start of the song, in BPM
+         * @param meter the meter of the first bar
+         */
+        public Builder(double tempo, Meter meter) {
+            addTempo(0.0, tempo, Curve.STEP);
+            addMeter(0, meter);
+        }
+
+        /**
+         * Changes to a tempo at a position.
+         */
+        public Builder tempo(double beat, double tempo) {
+            addTempo(beat, tempo, Curve.STEP);
+            return this;
+        }
+
+        /**
+         * Ramps from the previous change point's tempo to reach a tempo at a
+         * position.
+         */
+        public Builder ramp(double beat, double tempo, Curve curve) {
+            if (curve == null) {
+                throw new IllegalArgumentException("Curve cannot be null");
+            }
+            addTempo(beat, tempo, curve);
+            return this;
+        }
+
+        /**
+         * Changes the meter from a bar on.
+         */
+        public Builder meter(long bar, Meter meter) {
+            addMeter(bar, meter);
+            return this;
+        }
+
+        private void addTempo(double beat, double tempo, Curve curve) {
+            if (tempo < MIN_TEMPO || tempo > MAX_TEMPO || Double.isNaN(tempo)) {
+                throw new IllegalArgumentException(
+                    "Tempo must be between " + MIN_TEMPO + " and " + MAX_TEMPO + " BPM");
+            }
+            if (tempoCount > 0 && !(beat > beats[tempoCount - 1])) {
+                throw new IllegalArgumentException("Tempo changes must be added in order: " + beat);
+            }
+            if (tempoCount == beats.length) {
+                beats = Arrays.copyOf(beats, tempoCount * 2);
+                tempos = Arrays.copyOf(tempos, tempoCount * 2);
+                curves = Arrays.copyOf(curves, tempoCount * 2);
+            }
+            beats[tempoCount] = beat;
+            tempos[tempoCount] = tempo;
+            curves[tempoCount] = curve;
+            tempoCount++;
+        }
+
+        private void addMeter(long bar, Meter meter) {
+            if (meter == null) {
+                throw new IllegalArgumentException("Meter cannot be null");
+            }
+            if (meterCount > 0 && bar <= meterBars[meterCount - 1]) {
+                throw new IllegalArgumentException("Meter changes must be added in order: bar " + bar);
+            }
+            if (meterCount == meters.length) {
+                meterBars = Arrays.copyOf(meterBars, meterCount * 2);
+                meters = Arrays.copyOf(meters, meterCount * 2);
+            }
+            meterBars[meterCount] = bar;
+            meters[meterCount] = meter;
+            meterCount++;
+        }
+
+        public TempoMap build() {
+            return new TempoMap(this);
+        }
+    }
+}
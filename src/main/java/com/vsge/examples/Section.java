@@ -0,0 +1,188 @@
+package com.vsge.examples;
+
+import com.vsge.music.progression.ChordProgression;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.rhythm.Ticks;
+import com.vsge.style.PlayStyle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A named part of a song arrangement, such as a verse or chorus.
+ *
+ * <p>A section may override the song's style and tempo. Its events are
+ * compiled once per effective (style, tempo, random seed) and shared, so a
+ * chorus that appears four times in the form is generated once.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class Section {
+    private final String symbol;
+    private final String name;
+    private final ChordProgression progression;
+    private final PlayStyle style;
+    private final int tempo;
+    private final List<String> lyrics;
+    private final Map<CompileKey, EventBuffer> compiled = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a section using the song's style and tempo.
+     *
+     * @param symbol the form symbol, e.g. "V" or "C"
+     * @param name the display name, e.g. "Verse"
+     * @param progression the chords of the section
+     */
+    public Section(String symbol, String name, ChordProgression progression) {
+        this(symbol, name, progression, null, 0, Collections.emptyList());
+    }
+
+    /**
+     * Creates a section with style and tempo overrides.
+     *
+     * @param symbol the form symbol, without whitespace
+     * @param name the display name
+     * @param progression the chords of the section
+     * @param style the style override, or null to use the song's style
+     * @param tempo the tempo override in BPM, or 0 to use the song's tempo
+     * @param lyrics the lyric lines of the section
+     */
+    public Section(String symbol, String name, ChordProgression progression,
+                   PlayStyle style, int tempo, List<String> lyrics) {
+        if (symbol == null || symbol.isEmpty() || symbol.chars().anyMatch(Character::isWhitespace)) {
+            throw new IllegalArgumentException("Section symbol must be a non-empty word");
+        }
+        if (progression == null) {
+            throw new IllegalArgumentException("Progression cannot be null");
+        }
+        if (tempo < 0) {
+            throw new IllegalArgumentException("Tempo cannot be negative");
+        }
+        this.symbol = symbol;
+        this.name = name != null ? name : symbol;
+        this.progression = progression;
+        this.style = style;
+        this.tempo = tempo;
+        this.lyrics = new ArrayList<>(lyrics);
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ChordProgression getProgression() {
+        return progression;
+    }
+
+    /**
+     * Gets the style override, or null if the song's style applies.
+     */
+    public PlayStyle getStyle() {
+        return style;
+    }
+
+    /**
+     * Gets the tempo override, or 0 if the song's tempo applies.
+     */
+    public int getTempo() {
+        return tempo;
+    }
+
+    public List<String> getLyrics() {
+        return new ArrayList<>(lyrics);
+    }
+
+    /**
+     * Gets the length of the section in beats.
+     */
+    public int getTotalBeats() {
+        return progression.getTotalBeats();
+    }
+
+    /**
+     * Returns this section in another key, keeping its overrides.
+     */
+    public Section transpose(int semitones) {
+        if (semitones == 0) {
+            return this;
+        }
+        return new Section(symbol, name, progression.transpose(semitones), style, tempo, lyrics);
+    }
+
+    /**
+     * Gets the events of the whole section, with start ticks from the start
+     * of the section. Each bar renders for its own length with the
+     * substream of {@code random} for its index, so the same source
+     * reproduces the section exactly. The buffer is generated on first use
+     * for each effective style, tempo and seed and shared afterwards; copy
+     * it with {@link EventBuffer#addAll} rather than modifying it.
+     *
+     * @param songStyle the song's style, used unless overridden
+     * @param songTempo the song's tempo, used unless overridden
+     * @param random the source the section's variation is drawn from
+     * @return the shared buffer of events
+     */
+    public EventBuffer compile(PlayStyle songStyle, int songTempo, RandomSource random) {
+        PlayStyle effectiveStyle = style != null ? style : songStyle;
+        int effectiveTempo = tempo > 0 ? tempo : songTempo;
+        return compiled.computeIfAbsent(new CompileKey(effectiveStyle, effectiveTempo, random.getSeed()),
+            this::generate);
+    }
+
+    private EventBuffer generate(CompileKey key) {
+        EventBuffer events = new EventBuffer();
+        RandomSource random = new RandomSource(key.seed);
+        Iterator<ChordProgression.Bar> bars = progression.bars();
+        while (bars.hasNext()) {
+            ChordProgression.Bar bar = bars.next();
+            int first = events.size();
+            events.setRandom(random.forStream(bar.getIndex()));
+            key.style.render(bar.getChord(), bar.getBeats(), key.tempo, events);
+            events.shift(first, Ticks.fromBeats(bar.getStartBeat()));
+        }
+        return events;
+    }
+
+    @Override
+    public String toString() {
+        return symbol + " (" + name + ")";
+    }
+
+    /**
+     * Styles are compared by identity; each is a stateless strategy.
+     */
+    private static final class CompileKey {
+        private final PlayStyle style;
+        private final int tempo;
+        private final long seed;
+
+        CompileKey(PlayStyle style, int tempo, long seed) {
+            this.style = Objects.requireNonNull(style, "style");
+            this.tempo = tempo;
+            this.seed = seed;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof CompileKey)) return false;
+            CompileKey other = (CompileKey) obj;
+            return style == other.style && tempo == other.tempo && seed == other.seed;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(style) * 31 + tempo) * 31 + Long.hashCode(seed);
+        }
+    }
+}
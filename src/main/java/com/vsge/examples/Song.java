@@ -1,12 +1,26 @@
 package com.vsge.examples;
 
 import com.vsge.music.progression.ChordProgression;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.theory.Transposition;
 import com.vsge.style.PlayStyle;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a complete song with metadata and progression.
+ *
+ * <p>A song is arranged as named {@link Section}s played in the order of a
+ * form such as "I V C V C B C O". Repeats refer to the same section
+ * instance, so its events are compiled once. Each distinct section draws
+ * its variation from the substream of the song's seed for its index, so a
+ * seed reproduces the whole arrangement. A song built from a single
+ * progression has one section, "A".
  * 
  * @author VSGE Team
  * @version 1.0.0
@@ -18,16 +32,35 @@ public class Song {
     private final ChordProgression progression;
     private final PlayStyle style;
     private final int tempo;
+    private final int capo;
+    private final long seed;
+    private final RandomSource random;
     private final List<String> lyrics;
+    private final Map<String, Section> sections;
+    private final List<Section> form;
+    private final long[] formStarts;
+    private final int[] formSections;
     
-    private Song(Builder builder) {
+    private Song(Builder builder, Map<String, Section> sections, List<Section> form) {
         this.title = builder.title;
         this.artist = builder.artist;
         this.genre = builder.genre;
         this.progression = builder.progression;
         this.style = builder.style;
         this.tempo = builder.tempo;
+        this.capo = builder.capo;
+        this.seed = builder.seed;
+        this.random = new RandomSource(seed);
         this.lyrics = new ArrayList<>(builder.lyrics);
+        this.sections = Collections.unmodifiableMap(sections);
+        this.form = Collections.unmodifiableList(form);
+        this.formStarts = new long[form.size() + 1];
+        this.formSections = new int[form.size()];
+        List<Section> distinct = new ArrayList<>(sections.values());
+        for (int i = 0; i < form.size(); i++) {
+            formStarts[i + 1] = formStarts[i] + form.get(i).getTotalBeats();
+            formSections[i] = distinct.indexOf(form.get(i));
+        }
     }
     
     public String getTitle() {
@@ -58,6 +91,138 @@ public class Song {
         return new ArrayList<>(lyrics);
     }
     
+    /**
+     * Gets the distinct sections in the order they were added.
+     */
+    public Collection<Section> getSections() {
+        return sections.values();
+    }
+    
+    /**
+     * Gets a section by its form symbol.
+     * 
+     * @return the section, or null if none has that symbol
+     */
+    public Section getSection(String symbol) {
+        return sections.get(symbol);
+    }
+    
+    /**
+     * Gets the sections in playing order; repeats are the same instance.
+     */
+    public List<Section> getForm() {
+        return form;
+    }
+    
+    public String getFormString() {
+        StringBuilder sb = new StringBuilder();
+        for (Section section : form) {
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(section.getSymbol());
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Gets the beat at which a position of the form starts.
+     * 
+     * @param formIndex position in the form (0-based)
+     */
+    public long getStartBeat(int formIndex) {
+        return formStarts[formIndex];
+    }
+    
+    /**
+     * Gets the length of the whole arrangement in beats.
+     */
+    public long getTotalBeats() {
+        return formStarts[form.size()];
+    }
+    
+    /**
+     * Gets the tempo in effect at a position of the form.
+     */
+    public int getTempo(int formIndex) {
+        int sectionTempo = form.get(formIndex).getTempo();
+        return sectionTempo > 0 ? sectionTempo : tempo;
+    }
+    
+    /**
+     * Gets the compiled events of a position of the form, in ticks from the
+     * start of that section. Repeated sections return the same buffer, which
+     * must not be modified.
+     * 
+     * @param formIndex position in the form (0-based)
+     * @return the shared buffer of events
+     */
+    public EventBuffer getEvents(int formIndex) {
+        return form.get(formIndex).compile(style, tempo, random.forStream(formSections[formIndex]));
+    }
+    
+    /**
+     * Gets the seed the arrangement's variation is drawn from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+    
+    /**
+     * Gets the capo fret the song is played with (0 for none).
+     */
+    public int getCapo() {
+        return capo;
+    }
+    
+    /**
+     * Gets the progression of chord shapes the guitarist fingers, i.e. the
+     * sounding progression shifted down by the capo.
+     */
+    public ChordProgression getShapeProgression() {
+        return progression.transpose(Transposition.shapeOffset(0, capo));
+    }
+    
+    /**
+     * Returns this song in another key, keeping the capo. Everything except
+     * the progression is shared with this song.
+     * 
+     * @param semitones the interval to transpose by
+     * @return the transposed song
+     */
+    public Song transpose(int semitones) {
+        Builder builder = toBuilder().progression(progression.transpose(semitones));
+        builder.sections.clear();
+        for (Section section : sections.values()) {
+            builder.section(section.transpose(semitones));
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Returns this song played with a different capo; the sounding key
+     * is unchanged, only the fingered shapes move.
+     * 
+     * @param capo the capo fret (0-12)
+     * @return the song with the new capo
+     */
+    public Song withCapo(int capo) {
+        return toBuilder().capo(capo).build();
+    }
+    
+    private Builder toBuilder() {
+        return new Builder()
+            .title(title)
+            .artist(artist)
+            .genre(genre)
+            .progression(progression)
+            .style(style)
+            .tempo(tempo)
+            .capo(capo)
+            .seed(seed)
+            .lyrics(lyrics)
+            .sections(sections.values())
+            .form(getFormString());
+    }
+    
     @Override
     public String toString() {
         return String.format("%s by %s (%s) - %d BPM", title, artist, genre, tempo);
@@ -74,7 +239,11 @@ public class Song {
         private ChordProgression progression;
         private PlayStyle style;
         private int tempo = 120;
+        private int capo = 0;
+        private long seed = 0;
         private List<String> lyrics = new ArrayList<>();
+        private final Map<String, Section> sections = new LinkedHashMap<>();
+        private String form;
         
         public Builder title(String title) {
             this.title = title;
@@ -106,6 +275,19 @@ public class Song {
             return this;
         }
         
+        public Builder capo(int capo) {
+            this.capo = capo;
+            return this;
+        }
+        
+        /**
+         * Sets the seed the arrangement's variation is drawn from.
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+        
         public Builder addLyric(String lyric) {
             this.lyrics.add(lyric);
             return this;
@@ -116,18 +298,64 @@ public class Song {
             return this;
         }
         
+        /**
+         * Adds a section; its symbol names it in the form.
+         */
+        public Builder section(Section section) {
+            this.sections.put(section.getSymbol(), section);
+            return this;
+        }
+        
+        public Builder sections(Collection<Section> sections) {
+            for (Section section : sections) {
+                section(section);
+            }
+            return this;
+        }
+        
+        /**
+         * Sets the playing order as section symbols separated by spaces,
+         * e.g. "I V C V C B C O". Defaults to each section once.
+         */
+        public Builder form(String form) {
+            this.form = form;
+            return this;
+        }
+        
         public Song build() {
             if (title == null || title.trim().isEmpty()) {
                 throw new IllegalStateException("Title is required");
             }
-            if (progression == null) {
+            if (progression == null && sections.isEmpty()) {
                 throw new IllegalStateException("Progression is required");
             }
             if (style == null) {
                 throw new IllegalStateException("Style is required");
             }
+            if (capo < 0 || capo > 12) {
+                throw new IllegalStateException("Capo must be between 0 and 12");
+            }
             
-            return new Song(this);
+            Map<String, Section> built = new LinkedHashMap<>(sections);
+            if (built.isEmpty()) {
+                built.put("A", new Section("A", "Main", progression));
+            }
+            List<Section> order = new ArrayList<>();
+            if (form == null || form.trim().isEmpty()) {
+                order.addAll(built.values());
+            } else {
+                for (String symbol : form.trim().split("\\s+")) {
+                    Section section = built.get(symbol);
+                    if (section == null) {
+                        throw new IllegalStateException("Unknown section in form: " + symbol);
+                    }
+                    order.add(section);
+                }
+            }
+            if (progression == null) {
+                progression = order.get(0).getProgression();
+            }
+            return new Song(this, built, order);
         }
     }
 }
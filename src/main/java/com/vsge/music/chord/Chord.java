@@ -2,6 +2,7 @@ package com.vsge.music.chord;
 
 import com.vsge.music.theory.Note;
 import com.vsge.music.theory.Interval;
+import com.vsge.music.theory.PitchClassSet;
 import java.util.*;
 
 /**
@@ -15,12 +16,44 @@ public abstract class Chord {
   protected final Note root;
   protected final List<Note> notes;
   protected final String symbol;
+  private final Note bass;
+  private final PitchClassSet pitchClassSet;
 
   protected Chord(Note root, String symbol) {
     this.root = root;
     this.symbol = symbol;
     this.notes = new ArrayList<>();
     buildChord(); // Template method
+    this.bass = root;
+    this.pitchClassSet = PitchClassSet.fromNotes(notes);
+  }
+
+  /**
+   * Builds a chord directly from semitone offsets above the root, for
+   * data-driven qualities. A slash bass other than the root is placed
+   * below the root as the lowest note.
+   *
+   * @param root the chord root
+   * @param symbol the chord symbol suffix
+   * @param semitones offsets of the chord tones above the root
+   * @param bass the slash bass pitch class, or null for root position
+   */
+  protected Chord(Note root, String symbol, int[] semitones, Note.PitchClass bass) {
+    this.root = root;
+    this.symbol = symbol;
+    this.notes = new ArrayList<>(semitones.length + 2);
+    notes.add(root);
+    for (int semitone : semitones) {
+      notes.add(root.transpose(semitone));
+    }
+    if (bass != null && bass != root.getPitch()) {
+      int below = Math.floorMod(root.getPitch().getValue() - bass.getValue(), 12);
+      this.bass = root.transpose(-below);
+      notes.add(0, this.bass);
+    } else {
+      this.bass = root;
+    }
+    this.pitchClassSet = PitchClassSet.fromNotes(notes);
   }
 
   /**
@@ -36,36 +69,60 @@ public abstract class Chord {
   }
 
   /**
-   * Abstract method for subclasses to define their intervals.
+   * Gets the intervals above the root. Subclasses built with the template
+   * method override this; chords built from semitones derive them from
+   * their notes.
    */
-  protected abstract List<Interval> getIntervals();
+  protected List<Interval> getIntervals() {
+    List<Interval> intervals = new ArrayList<>();
+    for (int i = notes.indexOf(root) + 1; i < notes.size(); i++) {
+      intervals.add(Interval.fromSemitones(notes.get(i).getMidiNumber() - root.getMidiNumber()));
+    }
+    return intervals;
+  }
 
   /**
    * Factory method for creating chord instances.
    */
   public static Chord create(Note root, ChordType type) {
-    switch (type) {
-      case MAJOR:
-        return new MajorChord(root);
-      case MINOR:
-        return new MinorChord(root);
-      case DOMINANT7:
-        return new Dominant7Chord(root);
-      case MINOR7:
-        return new Minor7Chord(root);
-      case MAJOR7:
-        return new Major7Chord(root);
-      case DIMINISHED:
-        return new DiminishedChord(root);
-      default:
-        throw new IllegalArgumentException("Unknown chord type: " + type);
-    }
+    return ChordQuality.of(type).create(root);
+  }
+
+  /**
+   * Factory method for creating slash chords.
+   *
+   * @param bass the bass pitch class, or null for root position
+   */
+  public static Chord create(Note root, ChordType type, Note.PitchClass bass) {
+    return ChordQuality.of(type).create(root, bass);
   }
 
   public List<Note> getNotes() {
     return Collections.unmodifiableList(notes);
   }
 
+  /**
+   * Returns the chord's pitch classes as a 12-bit set, for comparison and
+   * analysis code that does not care about octaves.
+   */
+  public PitchClassSet getPitchClassSet() {
+    return pitchClassSet;
+  }
+
+  /**
+   * Returns the quality of this chord.
+   */
+  public ChordQuality getQuality() {
+    return ChordQuality.bySymbol(symbol);
+  }
+
+  /**
+   * Returns the lowest note: the slash bass if there is one, else the root.
+   */
+  public Note getBass() {
+    return bass;
+  }
+
   public Note getRoot() { return root; }
   public String getSymbol() { return symbol; }
 
@@ -0,0 +1,301 @@
+package com.vsge.music.chord;
+
+import com.vsge.music.theory.Note;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Registry of chord qualities: the interval structure and suffix spellings
+ * of each kind of chord.
+ *
+ * <p>Every {@link ChordType} is registered at startup with its ordinal as
+ * id; further qualities can be registered at runtime. Qualities are looked
+ * up by id through an array and by suffix through a character trie, so no
+ * lookup depends on the number of registered qualities. Each quality caches
+ * one chord per root (octave 4), shared by the parser and factories.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class ChordQuality {
+    /** Upper bound on registered qualities; chord ids are packed with it. */
+    public static final int MAX_QUALITIES = 256;
+
+    private static final int DEFAULT_OCTAVE = 4;
+    private static final Note.PitchClass[] PITCH_CLASSES = Note.PitchClass.values();
+
+    private static final ChordQuality[] BY_ID = new ChordQuality[MAX_QUALITIES];
+    private static volatile int count;
+    private static volatile SuffixTrie suffixes = new SuffixTrie();
+
+    static {
+        builtin(ChordType.MAJOR, MajorChord::new, "M", "maj", "Maj", "major");
+        builtin(ChordType.MINOR, MinorChord::new, "mi", "min", "minor", "-");
+        builtin(ChordType.DOMINANT7, Dominant7Chord::new, "dom7", "dom");
+        builtin(ChordType.MINOR7, Minor7Chord::new, "mi7", "min7", "-7");
+        builtin(ChordType.MAJOR7, Major7Chord::new, "Maj7", "M7", "ma7", "Δ", "Δ7", "^7");
+        builtin(ChordType.DIMINISHED, DiminishedChord::new, "dim", "o");
+        builtin(ChordType.AUGMENTED, null, "aug", "+5");
+        builtin(ChordType.SUS4, null, "sus");
+        builtin(ChordType.SUS2, null);
+        builtin(ChordType.MAJOR6, null, "M6", "maj6");
+        builtin(ChordType.MINOR6, null, "min6", "-6");
+        builtin(ChordType.ADD9, null, "add2");
+        builtin(ChordType.MINOR_ADD9, null, "m(add9)", "minadd9");
+        builtin(ChordType.DOMINANT7_SUS4, null, "7sus");
+        builtin(ChordType.HALF_DIMINISHED, null, "ø", "ø7", "m7-5", "min7b5", "-7b5");
+        builtin(ChordType.DIMINISHED7, null, "dim7", "o7");
+        builtin(ChordType.MINOR_MAJOR7, null, "mM7", "mmaj7", "m(M7)", "-Δ7", "minmaj7");
+        builtin(ChordType.DOMINANT9, null);
+        builtin(ChordType.MAJOR9, null, "Maj9", "M9", "Δ9");
+        builtin(ChordType.MINOR9, null, "min9", "-9");
+        builtin(ChordType.DOMINANT11, null, "9sus4", "9sus");
+        builtin(ChordType.MINOR11, null, "min11", "-11");
+        builtin(ChordType.DOMINANT13, null);
+        builtin(ChordType.MAJOR13, null, "Maj13", "M13", "Δ13");
+        builtin(ChordType.MINOR13, null, "min13", "-13");
+        builtin(ChordType.DOMINANT7_FLAT5, null, "7-5", "7(b5)");
+        builtin(ChordType.DOMINANT7_SHARP5, null, "7+5", "7(#5)", "aug7", "+7");
+        builtin(ChordType.DOMINANT7_FLAT9, null, "7-9", "7(b9)");
+        builtin(ChordType.DOMINANT7_SHARP9, null, "7+9", "7(#9)");
+        builtin(ChordType.ALTERED, null, "alt");
+    }
+
+    private final int id;
+    private final String name;
+    private final String symbol;
+    private final int[] semitones;
+    private final int mask;
+    private final ChordType type;
+    private final Function<Note, Chord> factory;
+    private final Chord[] chords = new Chord[12];
+    private final Chord[] slashChords = new Chord[12 * 12];
+
+    private ChordQuality(int id, String name, String symbol, int[] semitones,
+                         ChordType type, Function<Note, Chord> factory) {
+        this.id = id;
+        this.name = name;
+        this.symbol = symbol;
+        this.semitones = semitones;
+        this.type = type;
+        this.factory = factory;
+
+        int m = 1;
+        for (int semitone : semitones) {
+            m |= 1 << (semitone % 12);
+        }
+        this.mask = m;
+    }
+
+    private static void builtin(ChordType type, Function<Note, Chord> factory, String... aliases) {
+        ChordQuality quality = add(type.getDisplayName(), type.getSymbol(), type.getSemitones(), type, factory, aliases);
+        if (quality.id != type.ordinal()) {
+            throw new IllegalStateException("Chord types must be registered in declaration order");
+        }
+    }
+
+    /**
+     * Registers a new chord quality.
+     *
+     * @param name display name, e.g. "Dominant 7th sharp 11"
+     * @param symbol canonical suffix, e.g. "7#11"
+     * @param semitones offsets of the chord tones above the root
+     * @param aliases further suffix spellings accepted by the parser
+     * @return the registered quality
+     * @throws IllegalArgumentException if the definition is invalid or a
+     *     suffix is already taken
+     */
+    public static ChordQuality register(String name, String symbol, int[] semitones, String... aliases) {
+        if (name == null || symbol == null || semitones == null || semitones.length == 0) {
+            throw new IllegalArgumentException("Name, symbol and semitones are required");
+        }
+        for (int semitone : semitones) {
+            if (semitone <= 0 || semitone > 24) {
+                throw new IllegalArgumentException("Semitone offsets must be between 1 and 24: " + semitone);
+            }
+        }
+        checkSuffix(symbol);
+        for (String alias : aliases) {
+            checkSuffix(alias);
+        }
+        return add(name, symbol, semitones.clone(), null, null, aliases);
+    }
+
+    /**
+     * Suffixes starting with an accidental or slash would be read as part of
+     * the root or bass by the parser.
+     */
+    private static void checkSuffix(String suffix) {
+        if (suffix.isEmpty()) {
+            return;
+        }
+        char first = suffix.charAt(0);
+        if (first == '#' || first == 'b' || first == '♯' || first == '♭' || suffix.indexOf('/') >= 0) {
+            throw new IllegalArgumentException("Invalid chord suffix: " + suffix);
+        }
+    }
+
+    private static synchronized ChordQuality add(String name, String symbol, int[] semitones,
+                                                 ChordType type, Function<Note, Chord> factory,
+                                                 String... aliases) {
+        if (count == MAX_QUALITIES) {
+            throw new IllegalStateException("Too many chord qualities");
+        }
+        SuffixTrie trie = suffixes.copy();
+        if (trie.get(symbol, 0, symbol.length()) != SuffixTrie.NONE) {
+            throw new IllegalArgumentException("Chord suffix already registered: " + symbol);
+        }
+        for (String alias : aliases) {
+            if (trie.get(alias, 0, alias.length()) != SuffixTrie.NONE) {
+                throw new IllegalArgumentException("Chord suffix already registered: " + alias);
+            }
+        }
+
+        ChordQuality quality = new ChordQuality(count, name, symbol, semitones, type, factory);
+        for (int root = 0; root < 12; root++) {
+            quality.chords[root] = quality.create(new Note(PITCH_CLASSES[root], DEFAULT_OCTAVE));
+        }
+        trie.put(symbol, quality.id);
+        for (String alias : aliases) {
+            trie.put(alias, quality.id);
+        }
+
+        BY_ID[quality.id] = quality;
+        suffixes = trie;
+        count = quality.id + 1;
+        return quality;
+    }
+
+    /**
+     * Returns the quality registered for a built-in chord type.
+     */
+    public static ChordQuality of(ChordType type) {
+        return BY_ID[type.ordinal()];
+    }
+
+    /**
+     * Returns the quality with the given id.
+     *
+     * @throws IllegalArgumentException if no quality has that id
+     */
+    public static ChordQuality byId(int id) {
+        if (id < 0 || id >= count) {
+            throw new IllegalArgumentException("Unknown chord quality id: " + id);
+        }
+        return BY_ID[id];
+    }
+
+    /**
+     * Returns the quality spelled by a suffix, or null if none matches.
+     */
+    public static ChordQuality bySymbol(CharSequence suffix) {
+        int id = suffixes.get(suffix, 0, suffix.length());
+        return id == SuffixTrie.NONE ? null : BY_ID[id];
+    }
+
+    /**
+     * Matches {@code text[start, end)} as a suffix without allocating.
+     *
+     * @return the quality id, or -1 if the suffix is unknown
+     */
+    static int matchSuffix(CharSequence text, int start, int end) {
+        return suffixes.get(text, start, end);
+    }
+
+    public static int size() {
+        return count;
+    }
+
+    public static List<ChordQuality> values() {
+        int n = count;
+        return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(BY_ID).subList(0, n)));
+    }
+
+    /**
+     * Creates a chord of this quality. Built-in types with a dedicated
+     * subclass use it; every other quality produces an {@link ExtendedChord}.
+     */
+    public Chord create(Note root) {
+        return factory != null ? factory.apply(root) : new ExtendedChord(root, this);
+    }
+
+    /**
+     * Creates a chord of this quality over a slash bass.
+     *
+     * @param root the chord root
+     * @param bass the bass pitch class, or null for root position
+     */
+    public Chord create(Note root, Note.PitchClass bass) {
+        if (bass == null || bass == root.getPitch()) {
+            return create(root);
+        }
+        return new ExtendedChord(root, this, bass);
+    }
+
+    /**
+     * Returns the shared chord instance for a root pitch class (octave 4).
+     */
+    public Chord chordAt(int rootPitch) {
+        return chords[rootPitch];
+    }
+
+    /**
+     * Returns the shared slash chord instance for a root and bass pitch class.
+     */
+    public Chord chordAt(int rootPitch, int bassPitch) {
+        if (bassPitch < 0 || bassPitch == rootPitch) {
+            return chords[rootPitch];
+        }
+        int index = rootPitch * 12 + bassPitch;
+        Chord chord = slashChords[index];
+        if (chord == null) {
+            // Benign race: chords are immutable and equivalent
+            chord = create(chords[rootPitch].getRoot(), PITCH_CLASSES[bassPitch]);
+            slashChords[index] = chord;
+        }
+        return chord;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public int[] getSemitones() {
+        return semitones.clone();
+    }
+
+    int[] semitones() {
+        return semitones;
+    }
+
+    /**
+     * Returns the pitch-class mask of this quality built on C.
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Returns the built-in type of this quality, or null for runtime
+     * registrations.
+     */
+    public ChordType getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,223 @@
+package com.vsge.music.chord;
+
+import com.vsge.music.theory.Note;
+import com.vsge.music.theory.PitchClassSet;
+import java.util.List;
+
+/**
+ * Recognizes chords from arbitrary sets of MIDI notes.
+ * A table indexed by the 12-bit pitch-class mask holds the best matching
+ * root and chord type for every possible note set, so recognition is a
+ * mask computation plus a single array lookup.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class ChordRecognizer {
+
+    /** Packed table value for pitch-class sets that match no chord. */
+    public static final int NO_MATCH = -1;
+
+    private static final ChordType[] TYPES = ChordType.values();
+    private static final Note.PitchClass[] PITCH_CLASSES = Note.PitchClass.values();
+
+    // Root-position template mask and ordered chord-tone offsets per chord type
+    private static final int[] TEMPLATES = new int[TYPES.length];
+    private static final int[][] TONE_OFFSETS = new int[TYPES.length][];
+
+    // Packed (type << 4 | root) for each pitch-class mask, or NO_MATCH
+    private static final short[] TABLE = new short[PitchClassSet.FULL_MASK + 1];
+
+    static {
+        Note reference = new Note(Note.PitchClass.C, 4);
+        for (ChordType type : TYPES) {
+            Chord chord = Chord.create(reference, type);
+            List<Note> notes = chord.getNotes();
+            int[] offsets = new int[notes.size()];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = notes.get(i).getMidiNumber() - reference.getMidiNumber();
+            }
+            TEMPLATES[type.ordinal()] = chord.getPitchClassSet().getMask();
+            TONE_OFFSETS[type.ordinal()] = offsets;
+        }
+        for (int mask = 0; mask <= PitchClassSet.FULL_MASK; mask++) {
+            TABLE[mask] = (short) findBestMatch(mask);
+        }
+    }
+
+    private ChordRecognizer() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Scores every root and chord type against a mask and packs the winner.
+     * Matching tones count for the chord, missing and extra tones against it;
+     * the root itself must be sounding.
+     */
+    private static int findBestMatch(int mask) {
+        int best = NO_MATCH;
+        int bestScore = 0;
+        for (int t = 0; t < TYPES.length; t++) {
+            for (int root = 0; root < 12; root++) {
+                if ((mask & (1 << root)) == 0) {
+                    continue;
+                }
+                int template = PitchClassSet.transpose(TEMPLATES[t], root);
+                int score = 4 * Integer.bitCount(mask & template)
+                    - 3 * Integer.bitCount(template & ~mask)
+                    - 2 * Integer.bitCount(mask & ~template);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = (t << 4) | root;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Looks up the packed match for a pitch-class mask without allocating.
+     *
+     * @param mask the 12-bit pitch-class mask
+     * @return {@code type.ordinal() << 4 | root}, or {@link #NO_MATCH}
+     */
+    public static int lookup(int mask) {
+        return TABLE[mask & PitchClassSet.FULL_MASK];
+    }
+
+    /**
+     * Recognizes the chord formed by a set of MIDI notes.
+     * The lowest note determines the inversion.
+     *
+     * @param midiNumbers the sounding MIDI note numbers
+     * @return the best match, or null if no chord type fits
+     */
+    public static Match recognize(int... midiNumbers) {
+        if (midiNumbers == null || midiNumbers.length == 0) {
+            return null;
+        }
+        int mask = 0;
+        int bass = Integer.MAX_VALUE;
+        for (int midi : midiNumbers) {
+            mask |= 1 << Math.floorMod(midi, 12);
+            bass = Math.min(bass, midi);
+        }
+        return toMatch(mask, Math.floorMod(bass, 12));
+    }
+
+    /**
+     * Recognizes the chord formed by a list of notes.
+     *
+     * @param notes the sounding notes
+     * @return the best match, or null if no chord type fits
+     */
+    public static Match recognize(List<Note> notes) {
+        if (notes == null || notes.isEmpty()) {
+            return null;
+        }
+        int mask = 0;
+        Note bass = notes.get(0);
+        for (Note note : notes) {
+            mask |= 1 << note.getPitch().getValue();
+            if (note.compareTo(bass) < 0) {
+                bass = note;
+            }
+        }
+        return toMatch(mask, bass.getPitch().getValue());
+    }
+
+    /**
+     * Recognizes a pitch-class set, assuming root position.
+     *
+     * @param pitchClasses the pitch classes to recognize
+     * @return the best match, or null if no chord type fits
+     */
+    public static Match recognize(PitchClassSet pitchClasses) {
+        int packed = lookup(pitchClasses.getMask());
+        if (packed == NO_MATCH) {
+            return null;
+        }
+        return toMatch(pitchClasses.getMask(), packed & 0xF);
+    }
+
+    private static Match toMatch(int mask, int bassPitch) {
+        int packed = TABLE[mask];
+        if (packed == NO_MATCH) {
+            return null;
+        }
+        int root = packed & 0xF;
+        int t = packed >> 4;
+        int template = PitchClassSet.transpose(TEMPLATES[t], root);
+
+        int inversion = -1;
+        int[] offsets = TONE_OFFSETS[t];
+        for (int i = 0; i < offsets.length; i++) {
+            if ((root + offsets[i]) % 12 == bassPitch) {
+                inversion = i;
+                break;
+            }
+        }
+
+        return new Match(
+            PITCH_CLASSES[root],
+            TYPES[t],
+            inversion,
+            PitchClassSet.fromMask(template & ~mask),
+            PitchClassSet.fromMask(mask & ~template)
+        );
+    }
+
+    /**
+     * Result of a chord recognition.
+     */
+    public static class Match {
+        private final Note.PitchClass root;
+        private final ChordType type;
+        private final int inversion;
+        private final PitchClassSet missingTones;
+        private final PitchClassSet extraTones;
+
+        public Match(Note.PitchClass root, ChordType type, int inversion,
+                     PitchClassSet missingTones, PitchClassSet extraTones) {
+            this.root = root;
+            this.type = type;
+            this.inversion = inversion;
+            this.missingTones = missingTones;
+            this.extraTones = extraTones;
+        }
+
+        public Note.PitchClass getRoot() { return root; }
+        public ChordType getType() { return type; }
+
+        /**
+         * Index of the bass note among the chord tones (0 = root position,
+         * 1 = first inversion, ...), or -1 if the bass is not a chord tone.
+         */
+        public int getInversion() { return inversion; }
+
+        public PitchClassSet getMissingTones() { return missingTones; }
+        public PitchClassSet getExtraTones() { return extraTones; }
+
+        /**
+         * Whether the notes spell the chord exactly, with nothing missing or added.
+         */
+        public boolean isExact() {
+            return missingTones.isEmpty() && extraTones.isEmpty();
+        }
+
+        /**
+         * Builds the recognized chord with its root in the given octave.
+         */
+        public Chord toChord(int octave) {
+            return Chord.create(new Note(root, octave), type);
+        }
+
+        @Override
+        public String toString() {
+            return root.name() + " " + type.getDisplayName()
+                + (inversion > 0 ? " (inversion " + inversion + ")" : "")
+                + (missingTones.isEmpty() ? "" : " missing " + missingTones)
+                + (extraTones.isEmpty() ? "" : " extra " + extraTones);
+        }
+    }
+}
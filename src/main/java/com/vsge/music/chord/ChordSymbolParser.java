@@ -0,0 +1,263 @@
+package com.vsge.music.chord;
+
+/**
+ * Single-pass parser for chord symbols such as "C#m7", "Bbmaj7" or "D/F#".
+ * Parsing walks the input once, matches the quality suffix against the
+ * {@link ChordQuality} suffix trie and allocates nothing; the result is an
+ * integer chord id that maps to a cached {@link Chord} instance.
+ *
+ * <p>Grammar: {@code root accidental* suffix? ('/' root accidental*)?} where
+ * the root is a letter A-G, accidentals are {@code #}, {@code ♯}, {@code b}
+ * or {@code ♭}, and the suffix is one of the registered quality spellings.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class ChordSymbolParser {
+
+    private static final int ROOTS = 12;
+    private static final int CHORDS_PER_BASS = ChordQuality.MAX_QUALITIES * ROOTS;
+
+    // Natural pitch class for 'A'..'G'
+    private static final int[] LETTER_PITCHES = {9, 11, 0, 2, 4, 5, 7};
+
+    private ChordSymbolParser() {
+        // Private constructor to prevent instantiation
+    }
+
+    // ---- Chord ids -----------------------------------------------------------
+
+    /**
+     * Encodes a root and chord type as a chord id with no slash bass.
+     */
+    public static int chordId(int rootPitch, ChordType type) {
+        return chordId(rootPitch, ChordQuality.of(type));
+    }
+
+    /**
+     * Encodes a root and chord quality as a chord id with no slash bass.
+     */
+    public static int chordId(int rootPitch, ChordQuality quality) {
+        return quality.getId() * ROOTS + rootPitch;
+    }
+
+    /**
+     * Encodes a root, chord type and slash bass pitch class as a chord id.
+     */
+    public static int chordId(int rootPitch, ChordType type, int bassPitch) {
+        return (bassPitch + 1) * CHORDS_PER_BASS + chordId(rootPitch, type);
+    }
+
+    public static int rootOf(int chordId) {
+        return chordId % ROOTS;
+    }
+
+    public static ChordQuality qualityOf(int chordId) {
+        return ChordQuality.byId((chordId % CHORDS_PER_BASS) / ROOTS);
+    }
+
+    /**
+     * Returns the built-in type of a chord id, or null for qualities
+     * registered at runtime.
+     */
+    public static ChordType typeOf(int chordId) {
+        return qualityOf(chordId).getType();
+    }
+
+    /**
+     * Returns the slash bass pitch class of a chord id, or -1 if it has none.
+     */
+    public static int bassOf(int chordId) {
+        return chordId / CHORDS_PER_BASS - 1;
+    }
+
+    /**
+     * Transposes a chord id, moving its root and slash bass.
+     */
+    public static int transposeId(int chordId, int semitones) {
+        int shift = Math.floorMod(semitones, ROOTS);
+        int bass = bassOf(chordId);
+        int id = chordId % CHORDS_PER_BASS;
+        id += (id % ROOTS + shift) % ROOTS - id % ROOTS;
+        return bass < 0 ? id : id + ((bass + shift) % ROOTS + 1) * CHORDS_PER_BASS;
+    }
+
+    /**
+     * Transposes a parsed chart in place.
+     *
+     * @return the same array, for chaining
+     */
+    public static int[] transposeChart(int[] chordIds, int semitones) {
+        for (int i = 0; i < chordIds.length; i++) {
+            chordIds[i] = transposeId(chordIds[i], semitones);
+        }
+        return chordIds;
+    }
+
+    /**
+     * Returns the cached chord for an id, including its slash bass.
+     */
+    public static Chord chordForId(int chordId) {
+        return qualityOf(chordId).chordAt(rootOf(chordId), bassOf(chordId));
+    }
+
+    // ---- Parsing -------------------------------------------------------------
+
+    /**
+     * Parses a chord symbol into a cached chord instance.
+     *
+     * @param symbol the chord symbol (e.g., "Am", "C#7", "Bbmaj7")
+     * @return the cached chord
+     * @throws IllegalArgumentException if the symbol is invalid
+     */
+    public static Chord parse(CharSequence symbol) {
+        return chordForId(parseId(symbol));
+    }
+
+    /**
+     * Parses a chord symbol into a chord id, ignoring surrounding whitespace.
+     *
+     * @param symbol the chord symbol
+     * @return the chord id
+     * @throws IllegalArgumentException if the symbol is invalid
+     */
+    public static int parseId(CharSequence symbol) {
+        if (symbol == null) {
+            throw new IllegalArgumentException("Chord symbol cannot be null");
+        }
+        int start = 0;
+        int end = symbol.length();
+        while (start < end && Character.isWhitespace(symbol.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(symbol.charAt(end - 1))) {
+            end--;
+        }
+        return parseId(symbol, start, end);
+    }
+
+    /**
+     * Parses the chord symbol occupying {@code [start, end)} of a sequence.
+     *
+     * @param text the text containing the symbol
+     * @param start index of the first character
+     * @param end index after the last character
+     * @return the chord id
+     * @throws IllegalArgumentException if the symbol is invalid
+     */
+    public static int parseId(CharSequence text, int start, int end) {
+        if (start >= end) {
+            throw new IllegalArgumentException("Chord symbol cannot be empty");
+        }
+
+        int pos = start;
+        int root = letterPitch(text.charAt(pos++));
+        if (root < 0) {
+            throw invalid("Invalid root note in chord", text, start, end);
+        }
+        while (pos < end && isAccidental(text.charAt(pos))) {
+            root += accidentalShift(text.charAt(pos++));
+        }
+        root = Math.floorMod(root, ROOTS);
+
+        int suffixStart = pos;
+        while (pos < end && text.charAt(pos) != '/') {
+            pos++;
+        }
+        int qualityId = ChordQuality.matchSuffix(text, suffixStart, pos);
+        if (qualityId < 0) {
+            throw invalid("Invalid chord suffix", text, start, end);
+        }
+        int id = qualityId * ROOTS + root;
+
+        if (pos < end) {
+            pos++; // '/'
+            if (pos >= end) {
+                throw invalid("Missing slash bass", text, start, end);
+            }
+            int bass = letterPitch(text.charAt(pos++));
+            if (bass < 0) {
+                throw invalid("Invalid slash bass", text, start, end);
+            }
+            while (pos < end && isAccidental(text.charAt(pos))) {
+                bass += accidentalShift(text.charAt(pos++));
+            }
+            if (pos != end) {
+                throw invalid("Invalid slash bass", text, start, end);
+            }
+            id += (Math.floorMod(bass, ROOTS) + 1) * CHORDS_PER_BASS;
+        }
+        return id;
+    }
+
+    /**
+     * Parses a whole chord chart into chord ids.
+     * Symbols are separated by whitespace, commas or bar lines ({@code |}).
+     *
+     * @param chart the chart text
+     * @return the chord ids in chart order
+     * @throws IllegalArgumentException if any symbol is invalid
+     */
+    public static int[] parseChart(CharSequence chart) {
+        if (chart == null) {
+            throw new IllegalArgumentException("Chart cannot be null");
+        }
+        int length = chart.length();
+        int[] ids = new int[countSymbols(chart, length)];
+        int count = 0;
+        int pos = 0;
+        while (pos < length) {
+            while (pos < length && isSeparator(chart.charAt(pos))) {
+                pos++;
+            }
+            int start = pos;
+            while (pos < length && !isSeparator(chart.charAt(pos))) {
+                pos++;
+            }
+            if (pos > start) {
+                ids[count++] = parseId(chart, start, pos);
+            }
+        }
+        return ids;
+    }
+
+    private static int countSymbols(CharSequence chart, int length) {
+        int count = 0;
+        boolean inSymbol = false;
+        for (int i = 0; i < length; i++) {
+            boolean separator = isSeparator(chart.charAt(i));
+            if (!separator && !inSymbol) {
+                count++;
+            }
+            inSymbol = !separator;
+        }
+        return count;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '|' || c == ',';
+    }
+
+    private static int letterPitch(char c) {
+        char upper = (char) (c & ~0x20);
+        if (upper >= 'A' && upper <= 'G') {
+            return LETTER_PITCHES[upper - 'A'];
+        }
+        return -1;
+    }
+
+    /**
+     * No suffix begins with 'b', so a 'b' after a root is always a flat.
+     */
+    private static boolean isAccidental(char c) {
+        return c == '#' || c == '♯' || c == 'b' || c == '♭';
+    }
+
+    private static int accidentalShift(char c) {
+        return (c == '#' || c == '♯') ? 1 : -1;
+    }
+
+    private static IllegalArgumentException invalid(String message, CharSequence text, int start, int end) {
+        return new IllegalArgumentException(message + ": " + text.subSequence(start, end));
+    }
+}
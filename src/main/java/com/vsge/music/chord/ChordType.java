@@ -2,23 +2,73 @@
 package com.vsge.music.chord;
 
 /**
- * Enumeration of supported chord types.
+ * Enumeration of built-in chord types.
+ * Each type carries its canonical suffix and the semitone offsets of its
+ * tones above the root; {@link ChordQuality} registers every type at
+ * startup and can be extended with further qualities at runtime.
+ *
+ * <p>Declaration order doubles as a preference order when a note set
+ * matches several types equally well.
  */
 public enum ChordType {
-  MAJOR("Major"),
-  MINOR("Minor"),
-  DOMINANT7("Dominant 7th"),
-  MINOR7("Minor 7th"),
-  MAJOR7("Major 7th"),
-  DIMINISHED("Diminished");
+  MAJOR("Major", "", 4, 7),
+  MINOR("Minor", "m", 3, 7),
+  DOMINANT7("Dominant 7th", "7", 4, 7, 10),
+  MINOR7("Minor 7th", "m7", 3, 7, 10),
+  MAJOR7("Major 7th", "maj7", 4, 7, 11),
+  DIMINISHED("Diminished", "°", 3, 6),
+  AUGMENTED("Augmented", "+", 4, 8),
+  SUS4("Suspended 4th", "sus4", 5, 7),
+  SUS2("Suspended 2nd", "sus2", 2, 7),
+  MAJOR6("Major 6th", "6", 4, 7, 9),
+  MINOR6("Minor 6th", "m6", 3, 7, 9),
+  ADD9("Added 9th", "add9", 4, 7, 14),
+  MINOR_ADD9("Minor added 9th", "madd9", 3, 7, 14),
+  DOMINANT7_SUS4("Dominant 7th suspended 4th", "7sus4", 5, 7, 10),
+  HALF_DIMINISHED("Half-diminished 7th", "m7b5", 3, 6, 10),
+  DIMINISHED7("Diminished 7th", "°7", 3, 6, 9),
+  MINOR_MAJOR7("Minor-major 7th", "m(maj7)", 3, 7, 11),
+  DOMINANT9("Dominant 9th", "9", 4, 7, 10, 14),
+  MAJOR9("Major 9th", "maj9", 4, 7, 11, 14),
+  MINOR9("Minor 9th", "m9", 3, 7, 10, 14),
+  DOMINANT11("Dominant 11th", "11", 7, 10, 14, 17),
+  MINOR11("Minor 11th", "m11", 3, 7, 10, 14, 17),
+  DOMINANT13("Dominant 13th", "13", 4, 7, 10, 14, 21),
+  MAJOR13("Major 13th", "maj13", 4, 7, 11, 14, 21),
+  MINOR13("Minor 13th", "m13", 3, 7, 10, 14, 21),
+  DOMINANT7_FLAT5("Dominant 7th flat 5", "7b5", 4, 6, 10),
+  DOMINANT7_SHARP5("Dominant 7th sharp 5", "7#5", 4, 8, 10),
+  DOMINANT7_FLAT9("Dominant 7th flat 9", "7b9", 4, 7, 10, 13),
+  DOMINANT7_SHARP9("Dominant 7th sharp 9", "7#9", 4, 7, 10, 15),
+  ALTERED("Altered dominant", "7alt", 4, 10, 13, 15, 20);
 
   private final String displayName;
+  private final String symbol;
+  private final int[] semitones;
 
-  ChordType(String displayName) {
+  ChordType(String displayName, String symbol, int... semitones) {
     this.displayName = displayName;
+    this.symbol = symbol;
+    this.semitones = semitones;
   }
 
   public String getDisplayName() {
     return displayName;
   }
+
+  /**
+   * Returns the canonical chord-symbol suffix, e.g. "m7".
+   */
+  public String getSymbol() {
+    return symbol;
+  }
+
+  /**
+   * Returns the semitone offsets of the chord tones above the root,
+   * excluding the root itself. Extensions above the octave keep their
+   * compound size (a ninth is 14).
+   */
+  public int[] getSemitones() {
+    return semitones.clone();
+  }
 }
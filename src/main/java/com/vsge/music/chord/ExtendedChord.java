@@ -0,0 +1,49 @@
+package com.vsge.music.chord;
+
+import com.vsge.music.theory.Note;
+
+/**
+ * Chord built from a registered {@link ChordQuality} rather than a
+ * dedicated subclass. Covers suspended, sixth, added-tone, extended and
+ * altered chords as well as slash chords of any quality.
+ * 
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class ExtendedChord extends Chord {
+    private final ChordQuality quality;
+
+    public ExtendedChord(Note root, ChordQuality quality) {
+        this(root, quality, null);
+    }
+
+    /**
+     * Creates a chord of a quality over a slash bass.
+     * 
+     * @param root the chord root
+     * @param quality the chord quality
+     * @param bass the bass pitch class, or null for root position
+     */
+    public ExtendedChord(Note root, ChordQuality quality, Note.PitchClass bass) {
+        super(root, symbolFor(quality, root, bass), quality.semitones(), bass);
+        this.quality = quality;
+    }
+
+    private static String symbolFor(ChordQuality quality, Note root, Note.PitchClass bass) {
+        if (bass == null || bass == root.getPitch()) {
+            return quality.getSymbol();
+        }
+        return quality.getSymbol() + "/" + spell(bass);
+    }
+
+    // Spelled as ChordSymbolParser reads it, e.g. "F#" rather than "FS"
+    private static String spell(Note.PitchClass pitch) {
+        String name = pitch.name();
+        return name.length() > 1 ? name.charAt(0) + "#" : name;
+    }
+
+    @Override
+    public ChordQuality getQuality() {
+        return quality;
+    }
+}
@@ -0,0 +1,106 @@
+package com.vsge.music.chord;
+
+import java.util.Arrays;
+
+/**
+ * Character trie mapping chord-symbol suffixes to integer values.
+ * Nodes are stored as first-child/next-sibling links in flat arrays so that
+ * lookups neither allocate nor box characters.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+final class SuffixTrie {
+    static final int NONE = -1;
+
+    private char[] keys;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int[] values;
+    private int size;
+
+    SuffixTrie() {
+        keys = new char[64];
+        firstChild = new int[64];
+        nextSibling = new int[64];
+        values = new int[64];
+        firstChild[0] = NONE;
+        nextSibling[0] = NONE;
+        values[0] = NONE;
+        size = 1;
+    }
+
+    private SuffixTrie(SuffixTrie other) {
+        keys = other.keys.clone();
+        firstChild = other.firstChild.clone();
+        nextSibling = other.nextSibling.clone();
+        values = other.values.clone();
+        size = other.size;
+    }
+
+    /**
+     * Returns an independent copy, used to publish updates copy-on-write.
+     */
+    SuffixTrie copy() {
+        return new SuffixTrie(this);
+    }
+
+    /**
+     * Looks up the value stored for {@code text[start, end)}.
+     *
+     * @return the value, or {@link #NONE} if the suffix is unknown
+     */
+    int get(CharSequence text, int start, int end) {
+        int node = 0;
+        for (int pos = start; pos < end; pos++) {
+            node = child(node, text.charAt(pos));
+            if (node == NONE) {
+                return NONE;
+            }
+        }
+        return values[node];
+    }
+
+    /**
+     * Stores a value for a suffix.
+     *
+     * @return the value previously stored, or {@link #NONE}
+     */
+    int put(String suffix, int value) {
+        int node = 0;
+        for (int i = 0; i < suffix.length(); i++) {
+            int next = child(node, suffix.charAt(i));
+            if (next == NONE) {
+                next = add(node, suffix.charAt(i));
+            }
+            node = next;
+        }
+        int previous = values[node];
+        values[node] = value;
+        return previous;
+    }
+
+    private int child(int node, char c) {
+        for (int i = firstChild[node]; i != NONE; i = nextSibling[i]) {
+            if (keys[i] == c) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+
+    private int add(int parent, char c) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            firstChild = Arrays.copyOf(firstChild, size * 2);
+            nextSibling = Arrays.copyOf(nextSibling, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        keys[size] = c;
+        firstChild[size] = NONE;
+        nextSibling[size] = firstChild[parent];
+        values[size] = NONE;
+        firstChild[parent] = size;
+        return size++;
+    }
+}
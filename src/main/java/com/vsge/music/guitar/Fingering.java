@@ -0,0 +1,89 @@
+package com.vsge.music.guitar;
+
+import com.vsge.music.theory.Note;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A playable chord shape: one fret per string, or {@link #MUTED}.
+ * Frets are relative to the capo and strings are ordered low to high,
+ * which is also the order of a downstroke.
+ * 
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class Fingering {
+    public static final int MUTED = -1;
+
+    private final int[] frets;
+    private final int[] midiNumbers;
+    private final int score;
+
+    Fingering(int[] frets, int[] midiNumbers, int score) {
+        this.frets = frets;
+        this.midiNumbers = midiNumbers;
+        this.score = score;
+    }
+
+    /**
+     * Gets the fret played on a string.
+     * 
+     * @param string string index, 0 = lowest string
+     * @return fret relative to the capo, 0 = open, or {@link #MUTED}
+     */
+    public int getFret(int string) {
+        return frets[string];
+    }
+
+    public int getStringCount() {
+        return frets.length;
+    }
+
+    public int[] getFrets() {
+        return frets.clone();
+    }
+
+    /**
+     * Returns the sounding MIDI numbers in string order, low to high.
+     */
+    public int[] getMidiNumbers() {
+        return midiNumbers.clone();
+    }
+
+    /**
+     * Returns the sounding notes in string order, low to high.
+     */
+    public List<Note> getNotes() {
+        List<Note> notes = new ArrayList<>(midiNumbers.length);
+        for (int midi : midiNumbers) {
+            notes.add(Note.fromMidiNumber(midi));
+        }
+        return Collections.unmodifiableList(notes);
+    }
+
+    /**
+     * Ranking score; lower scores are easier, more idiomatic shapes.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the shape in tab notation, e.g. "x32010".
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int fret : frets) {
+            if (fret == MUTED) {
+                sb.append('x');
+            } else if (fret > 9) {
+                sb.append('(').append(fret).append(')');
+            } else {
+                sb.append(fret);
+            }
+        }
+        return sb.toString();
+    }
+}
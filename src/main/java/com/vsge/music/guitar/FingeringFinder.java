@@ -0,0 +1,247 @@
+package com.vsge.music.guitar;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordType;
+import com.vsge.music.theory.Note;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds playable fingerings for chords on a fretboard.
+ *
+ * <p>The search slides a hand-span window along the neck and combines, per
+ * string, a muted string, the open string or any fret in the window that
+ * sounds a chord tone. Shapes are pruned by finger count and number of
+ * sounding strings, then ranked. Results are stored in a shape table keyed by
+ * (bass, chord tones, effective tuning) packed into a {@code long}, so after
+ * the first lookup -- or after {@link #precompute(Fretboard)} -- switching
+ * chords is a map lookup.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class FingeringFinder {
+    private static final int DEFAULT_MAX_SPAN = 4;
+    private static final int MAX_FINGERS = 4;
+    private static final int MIN_STRINGS = 3;
+    private static final int MAX_RESULTS = 16;
+
+    private static final Comparator<Fingering> RANKING =
+        Comparator.comparingInt(Fingering::getScore)
+            .thenComparing(Fingering::getFrets, Arrays::compare);
+
+    private final int maxSpan;
+    private final Map<Long, List<Fingering>> shapeTable = new ConcurrentHashMap<>();
+
+    public FingeringFinder() {
+        this(DEFAULT_MAX_SPAN);
+    }
+
+    /**
+     * Creates a finder for a given hand span.
+     *
+     * @param maxSpan number of frets the fretting hand can cover (2-6)
+     */
+    public FingeringFinder(int maxSpan) {
+        if (maxSpan < 2 || maxSpan > 6) {
+            throw new IllegalArgumentException("Hand span must be between 2 and 6 frets");
+        }
+        this.maxSpan = maxSpan;
+    }
+
+    /**
+     * Gets ranked fingerings for a chord, best first.
+     *
+     * @param chord the chord to finger
+     * @param fretboard the instrument
+     * @return unmodifiable list of fingerings, possibly empty
+     */
+    public List<Fingering> find(Chord chord, Fretboard fretboard) {
+        if (chord == null || fretboard == null) {
+            throw new IllegalArgumentException("Chord and fretboard cannot be null");
+        }
+        return find(chord.getBass().getPitch().getValue(), chord.getPitchClassSet().getMask(), fretboard);
+    }
+
+    /**
+     * Gets ranked fingerings for a bass and pitch-class mask, best first.
+     * The bass is always the lowest sounding note: the root, or the slash
+     * bass of a chord such as C/E.
+     *
+     * @param bassPitch bass pitch class (0-11)
+     * @param mask 12-bit mask of the chord tones
+     * @param fretboard the instrument
+     * @return unmodifiable list of fingerings, possibly empty
+     */
+    public List<Fingering> find(int bassPitch, int mask, Fretboard fretboard) {
+        // Shapes depend only on the bass, the chord tones and the capoed open strings
+        long key = ((long) fretboard.getShapeId() << 16) | ((bassPitch & 0xF) << 12) | (mask & 0xFFF);
+        List<Fingering> shapes = shapeTable.get(key);
+        if (shapes == null) {
+            shapes = search(bassPitch, mask, fretboard);
+            shapeTable.putIfAbsent(key, shapes);
+        }
+        return shapes;
+    }
+
+    /**
+     * Gets the best-ranked fingering for a chord.
+     *
+     * @return the best fingering, or null if the chord is unplayable
+     */
+    public Fingering best(Chord chord, Fretboard fretboard) {
+        List<Fingering> shapes = find(chord, fretboard);
+        return shapes.isEmpty() ? null : shapes.get(0);
+    }
+
+    /**
+     * Fills the shape table for every root and chord type on a fretboard.
+     */
+    public void precompute(Fretboard fretboard) {
+        for (ChordType type : ChordType.values()) {
+            for (Note.PitchClass root : Note.PitchClass.values()) {
+                find(Chord.create(new Note(root, 4), type), fretboard);
+            }
+        }
+    }
+
+    /**
+     * Number of (chord, tuning, capo) entries in the shape table.
+     */
+    public int getCachedShapeCount() {
+        return shapeTable.size();
+    }
+
+    private List<Fingering> search(int bassPitch, int mask, Fretboard fretboard) {
+        int strings = fretboard.getStringCount();
+        int[] open = new int[strings];
+        for (int s = 0; s < strings; s++) {
+            open[s] = fretboard.getMidiNumber(s, 0);
+        }
+        int minStrings = Math.min(strings, Math.max(MIN_STRINGS, Integer.bitCount(mask)));
+
+        SearchState state = new SearchState(open, bassPitch, mask, minStrings);
+        int lastBase = Math.max(1, fretboard.getAvailableFrets() - maxSpan + 1);
+        for (int base = 1; base <= lastBase; base++) {
+            state.windowLow = base;
+            state.windowHigh = Math.min(base + maxSpan - 1, fretboard.getAvailableFrets());
+            state.visit(0, 0, 0, false);
+        }
+
+        List<Fingering> results = state.results;
+        results.sort(RANKING);
+        if (results.size() > MAX_RESULTS) {
+            results = new ArrayList<>(results.subList(0, MAX_RESULTS));
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Depth-first enumeration over strings, low to high.
+     */
+    private static final class SearchState {
+        final int[] open;
+        final int bassPitch;
+        final int mask;
+        final int minStrings;
+        final int[] frets;
+        final Set<String> seen = new HashSet<>();
+        final List<Fingering> results = new ArrayList<>();
+        int windowLow;
+        int windowHigh;
+
+        SearchState(int[] open, int bassPitch, int mask, int minStrings) {
+            this.open = open;
+            this.bassPitch = bassPitch;
+            this.mask = mask;
+            this.minStrings = minStrings;
+            this.frets = new int[open.length];
+        }
+
+        void visit(int string, int covered, int sounding, boolean started) {
+            if (string == open.length) {
+                if (covered == mask && sounding >= minStrings) {
+                    accept(sounding);
+                }
+                return;
+            }
+            // Strings left cannot reach the minimum string count
+            if (sounding + (open.length - string) < minStrings) {
+                return;
+            }
+
+            // Muted strings only below the bass note, so the shape can be strummed
+            if (!started) {
+                frets[string] = Fingering.MUTED;
+                visit(string + 1, covered, sounding, false);
+            }
+
+            int openPitch = Math.floorMod(open[string], 12);
+            if (isAllowed(openPitch, started)) {
+                frets[string] = 0;
+                visit(string + 1, covered | (1 << openPitch), sounding + 1, true);
+            }
+
+            for (int fret = windowLow; fret <= windowHigh; fret++) {
+                int pitch = Math.floorMod(open[string] + fret, 12);
+                if (isAllowed(pitch, started)) {
+                    frets[string] = fret;
+                    visit(string + 1, covered | (1 << pitch), sounding + 1, true);
+                }
+            }
+        }
+
+        private boolean isAllowed(int pitch, boolean started) {
+            // The first sounding string must play the root
+            return started ? (mask & (1 << pitch)) != 0 : pitch == bassPitch;
+        }
+
+        private void accept(int sounding) {
+            int minFret = Integer.MAX_VALUE;
+            int maxFret = 0;
+            int fretted = 0;
+            for (int fret : frets) {
+                if (fret > 0) {
+                    fretted++;
+                    minFret = Math.min(minFret, fret);
+                    maxFret = Math.max(maxFret, fret);
+                }
+            }
+            int atMin = 0;
+            for (int fret : frets) {
+                if (fret > 0 && fret == minFret) {
+                    atMin++;
+                }
+            }
+            // Notes on the lowest fret can share one barre finger
+            int fingers = atMin > 1 ? fretted - atMin + 1 : fretted;
+            if (fingers > MAX_FINGERS) {
+                return;
+            }
+            if (!seen.add(Arrays.toString(frets))) {
+                return;
+            }
+
+            int position = fretted == 0 ? 0 : minFret;
+            int span = fretted == 0 ? 0 : maxFret - minFret;
+            int muted = open.length - sounding;
+            int score = 3 * position + 2 * span + fingers + 2 * muted;
+
+            int[] midi = new int[sounding];
+            int m = 0;
+            for (int s = 0; s < frets.length; s++) {
+                if (frets[s] != Fingering.MUTED) {
+                    midi[m++] = open[s] + frets[s];
+                }
+            }
+            results.add(new Fingering(frets.clone(), midi, score));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.vsge.music.guitar;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Describes a guitar neck: its tuning, capo position and number of frets.
+ * Fret numbers used with a fretboard are relative to the capo, so fret 0
+ * is the capoed "open" string.
+ * 
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class Fretboard {
+    private static final int DEFAULT_FRETS = 20;
+    private static final Map<String, Integer> SHAPE_IDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_SHAPE_ID = new AtomicInteger();
+
+    private final Tuning tuning;
+    private final int capo;
+    private final int fretCount;
+    private final int shapeId;
+
+    public Fretboard() {
+        this(Tuning.STANDARD, 0, DEFAULT_FRETS);
+    }
+
+    public Fretboard(Tuning tuning, int capo) {
+        this(tuning, capo, DEFAULT_FRETS);
+    }
+
+    /**
+     * Creates a fretboard.
+     * 
+     * @param tuning the open-string tuning
+     * @param capo the capo fret (0 = no capo)
+     * @param fretCount the number of frets on the neck
+     */
+    public Fretboard(Tuning tuning, int capo, int fretCount) {
+        if (tuning == null) {
+            throw new IllegalArgumentException("Tuning cannot be null");
+        }
+        if (fretCount < 1 || fretCount > 30) {
+            throw new IllegalArgumentException("Fret count must be between 1 and 30");
+        }
+        if (capo < 0 || capo >= fretCount) {
+            throw new IllegalArgumentException("Capo must be between 0 and " + (fretCount - 1));
+        }
+        for (int s = 0; s < tuning.getStringCount(); s++) {
+            if (tuning.getOpenString(s) + fretCount > 127) {
+                throw new IllegalArgumentException("Fretboard exceeds MIDI range");
+            }
+        }
+        this.tuning = tuning;
+        this.capo = capo;
+        this.fretCount = fretCount;
+        this.shapeId = shapeIdOf(tuning, capo, fretCount);
+    }
+
+    /**
+     * Numbers each distinct set of capoed open strings and playable frets,
+     * so fretboards that finger chords the same way share an id.
+     */
+    private static int shapeIdOf(Tuning tuning, int capo, int fretCount) {
+        int[] open = new int[tuning.getStringCount()];
+        for (int s = 0; s < open.length; s++) {
+            open[s] = tuning.getOpenString(s) + capo;
+        }
+        String signature = Arrays.toString(open) + "/" + (fretCount - capo);
+        return SHAPE_IDS.computeIfAbsent(signature, key -> NEXT_SHAPE_ID.getAndIncrement());
+    }
+
+    public Tuning getTuning() {
+        return tuning;
+    }
+
+    public int getCapo() {
+        return capo;
+    }
+
+    public int getFretCount() {
+        return fretCount;
+    }
+
+    public int getStringCount() {
+        return tuning.getStringCount();
+    }
+
+    /**
+     * Gets the id shared by fretboards with the same capoed open strings and
+     * playable frets, as used by the shape table.
+     */
+    int getShapeId() {
+        return shapeId;
+    }
+
+    /**
+     * Number of frets playable above the capo.
+     */
+    public int getAvailableFrets() {
+        return fretCount - capo;
+    }
+
+    /**
+     * Gets the sounding pitch of a string at a fret above the capo.
+     * 
+     * @param string string index, 0 = lowest string
+     * @param fret fret relative to the capo
+     * @return MIDI number of the fretted note
+     */
+    public int getMidiNumber(int string, int fret) {
+        return tuning.getOpenString(string) + capo + fret;
+    }
+
+    @Override
+    public String toString() {
+        return tuning.getName() + (capo > 0 ? " (capo " + capo + ")" : "");
+    }
+}
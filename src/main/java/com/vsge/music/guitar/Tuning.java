@@ -0,0 +1,75 @@
+package com.vsge.music.guitar;
+
+import java.util.Arrays;
+
+/**
+ * Represents the open-string pitches of a fretted instrument.
+ * Strings are ordered from the lowest-pitched string to the highest.
+ * Immutable class following the value object pattern.
+ * 
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class Tuning {
+    public static final Tuning STANDARD = new Tuning("Standard", 40, 45, 50, 55, 59, 64);
+    public static final Tuning DROP_D = new Tuning("Drop D", 38, 45, 50, 55, 59, 64);
+    public static final Tuning OPEN_G = new Tuning("Open G", 38, 43, 50, 55, 59, 62);
+    public static final Tuning DADGAD = new Tuning("DADGAD", 38, 45, 50, 55, 57, 62);
+
+    private final String name;
+    private final int[] openStrings;
+
+    /**
+     * Creates a tuning.
+     * 
+     * @param name the display name
+     * @param openStrings MIDI numbers of the open strings, low to high
+     */
+    public Tuning(String name, int... openStrings) {
+        if (openStrings == null || openStrings.length == 0) {
+            throw new IllegalArgumentException("Tuning needs at least one string");
+        }
+        for (int midi : openStrings) {
+            if (midi < 0 || midi > 127) {
+                throw new IllegalArgumentException("Open string out of MIDI range: " + midi);
+            }
+        }
+        this.name = name;
+        this.openStrings = openStrings.clone();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStringCount() {
+        return openStrings.length;
+    }
+
+    /**
+     * Gets the open pitch of a string.
+     * 
+     * @param string string index, 0 = lowest string
+     * @return MIDI number of the open string
+     */
+    public int getOpenString(int string) {
+        return openStrings[string];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Tuning)) return false;
+        return Arrays.equals(openStrings, ((Tuning) obj).openStrings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(openStrings);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -2,19 +2,45 @@ package com.vsge.music.progression;
 
 import com.vsge.music.chord.Chord;
 import com.vsge.music.chord.ChordType;
+import com.vsge.music.theory.Key;
 import com.vsge.music.theory.Note;
+import com.vsge.music.theory.Scale;
+import com.vsge.music.theory.Transposition;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a chord progression in a specific key.
  * Supports Roman numeral notation and common progressions.
+ *
+ * <p>Degrees are resolved against the precomputed tables of a {@link Key},
+ * so the same degrees yield i - iv - v in a minor key or modal chords in a
+ * mode. The major-key offsets and types on {@link Degree} remain the
+ * defaults for callers that do not name a scale.
+ *
+ * <p>Chords and bars can be pulled lazily through {@link #iterator()},
+ * {@link #spliterator()} and {@link #bars()}, so a sequencer only needs to
+ * stay a few bars ahead of the playhead. {@link #loopBars()} and
+ * {@link #bars(Note, Scale, Iterator, int)} extend this to endless vamps
+ * and generated degree streams at constant memory.
+ *
+ * <p>Chords are materialized once per degree and shared by every position
+ * using that degree, and the chord list and bars of a pass are cached, so
+ * replaying a progression allocates no chords. A progression is immutable;
+ * {@link #transpose(int)} returns a new one with its own caches.
  * 
  * @author VSGE Team
  * @version 1.0.0
  */
-public class ChordProgression {
+public class ChordProgression implements Iterable<Chord> {
     
     /**
      * Roman numeral chord degrees in a key.
@@ -51,10 +77,63 @@ public class ChordProgression {
         }
     }
 
+    /**
+     * One chord occupying a span of beats, as pulled by a sequencer.
+     */
+    public static final class Bar {
+        private final long index;
+        private final Chord chord;
+        private final Degree degree;
+        private final long startBeat;
+        private final int beats;
+
+        Bar(long index, Chord chord, Degree degree, long startBeat, int beats) {
+            this.index = index;
+            this.chord = chord;
+            this.degree = degree;
+            this.startBeat = startBeat;
+            this.beats = beats;
+        }
+
+        public long getIndex() {
+            return index;
+        }
+
+        public Chord getChord() {
+            return chord;
+        }
+
+        public Degree getDegree() {
+            return degree;
+        }
+
+        /**
+         * Gets the beat this bar starts on, counted from the first bar.
+         */
+        public long getStartBeat() {
+            return startBeat;
+        }
+
+        public int getBeats() {
+            return beats;
+        }
+
+        @Override
+        public String toString() {
+            return index + ": " + chord + " @" + startBeat;
+        }
+    }
+
     private final Note key;
+    private final Key tonality;
     private final List<Degree> progression;
     private final int beatsPerChord;
 
+    // Lazily filled caches; races are benign because chords are immutable
+    private final Chord[] byDegree = new Chord[Degree.values().length];
+    private volatile List<Chord> chords;
+    private volatile Bar[] passBars;
+
     // Common progression patterns
     public static final Degree[] POP_PROGRESSION = {Degree.I, Degree.V, Degree.vi, Degree.IV};
     public static final Degree[] BLUES_12_BAR = {
@@ -75,6 +154,18 @@ public class ChordProgression {
      * @param beatsPerChord number of beats per chord
      */
     public ChordProgression(Note key, Degree[] degrees, int beatsPerChord) {
+        this(key, Scale.MAJOR, degrees, beatsPerChord);
+    }
+
+    /**
+     * Creates a new chord progression in a given scale.
+     * 
+     * @param key the tonic of the progression
+     * @param scale the scale the degrees are taken from (must have seven notes)
+     * @param degrees the chord degrees in Roman numeral notation
+     * @param beatsPerChord number of beats per chord
+     */
+    public ChordProgression(Note key, Scale scale, Degree[] degrees, int beatsPerChord) {
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
@@ -84,9 +175,13 @@ public class ChordProgression {
         if (beatsPerChord <= 0) {
             throw new IllegalArgumentException("Beats per chord must be positive");
         }
+        if (scale == null || !scale.isHeptatonic()) {
+            throw new IllegalArgumentException("Progressions require a seven-note scale");
+        }
 
         this.key = key;
-        this.progression = Arrays.asList(degrees);
+        this.tonality = Key.of(key.getPitch(), scale);
+        this.progression = Arrays.asList(degrees.clone());
         this.beatsPerChord = beatsPerChord;
     }
 
@@ -102,18 +197,39 @@ public class ChordProgression {
         return new ChordProgression(key, pattern, beatsPerChord);
     }
 
+    /**
+     * Returns this progression in another key. Degrees are relative to the
+     * key, so only the tonic moves; a tonic leaving the MIDI range is folded
+     * back by octaves instead of failing.
+     * 
+     * @param semitones the interval to transpose by
+     * @return a progression with the same degrees in the new key
+     */
+    public ChordProgression transpose(int semitones) {
+        if (semitones == 0) {
+            return this;
+        }
+        return new ChordProgression(Transposition.transpose(key, semitones), tonality.getScale(),
+            progression.toArray(new Degree[0]), beatsPerChord);
+    }
+
     /**
      * Generates the actual chord objects for this progression.
+     * The list is built on the first call and shared afterwards.
      * 
-     * @return list of chord objects
+     * @return unmodifiable list of chord objects
      */
     public List<Chord> generateChords() {
-        List<Chord> chords = new ArrayList<>();
-        for (Degree degree : progression) {
-            Note chordRoot = key.transpose(degree.getSemitones());
-            chords.add(Chord.create(chordRoot, degree.getDefaultType()));
+        List<Chord> result = chords;
+        if (result == null) {
+            Chord[] materialized = new Chord[progression.size()];
+            for (int i = 0; i < materialized.length; i++) {
+                materialized[i] = chordFor(progression.get(i));
+            }
+            result = Collections.unmodifiableList(Arrays.asList(materialized));
+            chords = result;
         }
-        return chords;
+        return result;
     }
 
     /**
@@ -136,15 +252,229 @@ public class ChordProgression {
             throw new IllegalArgumentException("Index out of bounds: " + index);
         }
         
-        Degree degree = progression.get(index);
-        Note chordRoot = key.transpose(degree.getSemitones());
-        return Chord.create(chordRoot, degree.getDefaultType());
+        return chordFor(progression.get(index));
+    }
+
+    private Chord chordFor(Degree degree) {
+        return resolve(key, tonality, byDegree, degree);
+    }
+
+    /**
+     * Resolves a degree in a key, memoizing the chord in a per-degree cache.
+     */
+    private static Chord resolve(Note key, Key tonality, Chord[] cache, Degree degree) {
+        int d = degree.ordinal();
+        Chord chord = cache[d];
+        if (chord == null) {
+            Note chordRoot = key.transpose(tonality.getOffset(d));
+            ChordType type = tonality.getTriad(d);
+            chord = Chord.create(chordRoot, type != null ? type : degree.getDefaultType());
+            cache[d] = chord;
+        }
+        return chord;
+    }
+
+    /**
+     * Iterates over the chords, building each degree's chord only when it
+     * is first reached.
+     * 
+     * @return a lazy iterator over the chords
+     */
+    @Override
+    public Iterator<Chord> iterator() {
+        return new Iterator<Chord>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < progression.size();
+            }
+
+            @Override
+            public Chord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return chordFor(progression.get(next++));
+            }
+        };
+    }
+
+    /**
+     * Splits the chords by index range for parallel processing.
+     * 
+     * @return a sized, ordered spliterator over the chords
+     */
+    @Override
+    public Spliterator<Chord> spliterator() {
+        return new ChordSpliterator(0, progression.size());
+    }
+
+    /**
+     * Streams the chords lazily.
+     * 
+     * @return a sequential stream of chords
+     */
+    public Stream<Chord> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Iterates over the bars of one pass through the progression.
+     * 
+     * @return a lazy iterator over the bars
+     */
+    public Iterator<Bar> bars() {
+        Bar[] bars = passBars;
+        if (bars == null) {
+            bars = new Bar[progression.size()];
+            BarIterator source = new BarIterator(key, tonality, byDegree, progression.iterator(), beatsPerChord);
+            for (int i = 0; i < bars.length; i++) {
+                bars[i] = source.next();
+            }
+            passBars = bars;
+        }
+        return Arrays.asList(bars).iterator();
+    }
+
+    /**
+     * Iterates over the bars of this progression repeated forever, for vamps
+     * and practice loops.
+     * 
+     * @return an endless lazy iterator over the bars
+     */
+    public Iterator<Bar> loopBars() {
+        Iterator<Degree> cycle = new Iterator<Degree>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Degree next() {
+                Degree degree = progression.get(next);
+                next = (next + 1) % progression.size();
+                return degree;
+            }
+        };
+        return new BarIterator(key, tonality, byDegree, cycle, beatsPerChord);
+    }
+
+    /**
+     * Resolves a possibly endless stream of degrees into bars as they are
+     * pulled, e.g. from a generator.
+     * 
+     * @param key the tonic
+     * @param scale the scale the degrees are taken from (must have seven notes)
+     * @param degrees the degree source
+     * @param beatsPerChord number of beats per chord
+     * @return a lazy iterator over the bars
+     */
+    public static Iterator<Bar> bars(Note key, Scale scale, Iterator<Degree> degrees, int beatsPerChord) {
+        if (key == null || degrees == null) {
+            throw new IllegalArgumentException("Key and degrees cannot be null");
+        }
+        if (scale == null || !scale.isHeptatonic()) {
+            throw new IllegalArgumentException("Progressions require a seven-note scale");
+        }
+        if (beatsPerChord <= 0) {
+            throw new IllegalArgumentException("Beats per chord must be positive");
+        }
+        return new BarIterator(key, Key.of(key.getPitch(), scale), new Chord[Degree.values().length],
+            degrees, beatsPerChord);
+    }
+
+    /**
+     * Pulls one degree at a time and resolves it in a key.
+     */
+    private static final class BarIterator implements Iterator<Bar> {
+        private final Note key;
+        private final Key tonality;
+        private final Chord[] cache;
+        private final Iterator<Degree> degrees;
+        private final int beatsPerChord;
+        private long index;
+
+        BarIterator(Note key, Key tonality, Chord[] cache, Iterator<Degree> degrees, int beatsPerChord) {
+            this.key = key;
+            this.tonality = tonality;
+            this.cache = cache;
+            this.degrees = degrees;
+            this.beatsPerChord = beatsPerChord;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return degrees.hasNext();
+        }
+
+        @Override
+        public Bar next() {
+            Degree degree = degrees.next();
+            Bar bar = new Bar(index, resolve(key, tonality, cache, degree), degree, index * beatsPerChord, beatsPerChord);
+            index++;
+            return bar;
+        }
+    }
+
+    /**
+     * Index-range spliterator; chords are built as they are consumed.
+     */
+    private final class ChordSpliterator implements Spliterator<Chord> {
+        private int from;
+        private final int to;
+
+        ChordSpliterator(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Chord> action) {
+            if (from >= to) {
+                return false;
+            }
+            action.accept(chordFor(progression.get(from++)));
+            return true;
+        }
+
+        @Override
+        public Spliterator<Chord> trySplit() {
+            int mid = (from + to) >>> 1;
+            if (mid <= from) {
+                return null;
+            }
+            Spliterator<Chord> prefix = new ChordSpliterator(from, mid);
+            from = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
     }
 
     public Note getKey() {
         return key;
     }
 
+    /**
+     * Gets the key and scale the degrees are resolved in.
+     * 
+     * @return the tonality of this progression
+     */
+    public Key getTonality() {
+        return tonality;
+    }
+
     public List<Degree> getProgression() {
         return new ArrayList<>(progression);
     }
@@ -160,11 +490,15 @@ public class ChordProgression {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        sb.append("Key: ").append(key.toString()).append(" | ");
+        sb.append("Key: ").append(key.toString());
+        if (tonality.getScale() != Scale.MAJOR) {
+            sb.append(" ").append(tonality.getScale().getDisplayName());
+        }
+        sb.append(" | ");
         sb.append("Progression: ");
         for (int i = 0; i < progression.size(); i++) {
             if (i > 0) sb.append(" - ");
-            sb.append(progression.get(i).getSymbol());
+            sb.append(tonality.getRomanNumeral(progression.get(i).ordinal()));
         }
         sb.append(" | ").append(beatsPerChord).append(" beats per chord");
         return sb.toString();
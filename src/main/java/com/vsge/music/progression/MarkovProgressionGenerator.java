@@ -0,0 +1,258 @@
+package com.vsge.music.progression;
+
+import com.vsge.music.chord.ChordSymbolParser;
+import com.vsge.music.progression.ChordProgression.Degree;
+import com.vsge.music.theory.Key;
+import com.vsge.music.theory.Note;
+import com.vsge.music.theory.Scale;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
+/**
+ * Generates chord progressions from degree-transition statistics learned
+ * from a corpus.
+ *
+ * <p>A context is the last {@code order} degrees (1-3), padded with a start
+ * symbol at the beginning of each training sequence. Contexts are packed as
+ * base-8 integers, so the model is a set of flat {@code int} tables of
+ * cumulative counts, one per order from 0 up to the configured order. When a
+ * context was never seen, sampling backs off to the next lower order. The
+ * model is immutable once built; callers pass their own
+ * {@link SplittableRandom}, so sampling needs no locks and a seed
+ * reproduces the same progressions.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class MarkovProgressionGenerator {
+    public static final int MAX_ORDER = 3;
+
+    private static final Degree[] DEGREES = Degree.values();
+    private static final int SYMBOLS = DEGREES.length;
+    private static final int START = SYMBOLS;
+    private static final int BASE = 8;
+
+    private final int order;
+    // cumulative[o][context * SYMBOLS + degree]; cumulative[0] is the unigram
+    private final int[][] cumulative;
+
+    private MarkovProgressionGenerator(int order, int[][] counts) {
+        this.order = order;
+        this.cumulative = new int[order + 1][];
+        for (int o = 0; o <= order; o++) {
+            int[] table = counts[o].clone();
+            for (int base = 0; base < table.length; base += SYMBOLS) {
+                for (int i = 1; i < SYMBOLS; i++) {
+                    table[base + i] += table[base + i - 1];
+                }
+            }
+            cumulative[o] = table;
+        }
+    }
+
+    /**
+     * Creates a generator trained on the built-in progression patterns.
+     *
+     * @param order context length, 1 to {@value #MAX_ORDER}
+     */
+    public static MarkovProgressionGenerator fromBuiltInPatterns(int order) {
+        return new Builder(order)
+            .train(ChordProgression.POP_PROGRESSION)
+            .train(ChordProgression.BLUES_12_BAR)
+            .train(ChordProgression.JAZZ_II_V_I)
+            .train(ChordProgression.CIRCLE_OF_FIFTHS)
+            .build();
+    }
+
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * Samples a progression of degrees.
+     *
+     * @param length number of chords
+     * @param random the random source; the same seed gives the same result
+     * @return the sampled degrees
+     */
+    public Degree[] generate(int length, SplittableRandom random) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("Length must be positive");
+        }
+        Degree[] result = new Degree[length];
+        Iterator<Degree> degrees = degrees(random);
+        for (int i = 0; i < length; i++) {
+            result[i] = degrees.next();
+        }
+        return result;
+    }
+
+    /**
+     * Samples a progression and places it in a key.
+     *
+     * @param key the tonic
+     * @param scale the scale (must have seven notes)
+     * @param length number of chords
+     * @param beatsPerChord number of beats per chord
+     * @param random the random source
+     * @return the generated progression
+     */
+    public ChordProgression generate(Note key, Scale scale, int length, int beatsPerChord,
+                                     SplittableRandom random) {
+        return new ChordProgression(key, scale, generate(length, random), beatsPerChord);
+    }
+
+    /**
+     * Returns an endless degree stream, e.g. for
+     * {@link ChordProgression#bars(Note, Scale, Iterator, int)}.
+     *
+     * @param random the random source, used only by the returned iterator
+     */
+    public Iterator<Degree> degrees(SplittableRandom random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random source cannot be null");
+        }
+        return new Iterator<Degree>() {
+            private final int[] contexts = startContexts(order);
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Degree next() {
+                int symbol = sample(contexts, random);
+                for (int o = 1; o <= order; o++) {
+                    contexts[o] = push(contexts[o], symbol, o);
+                }
+                return DEGREES[symbol];
+            }
+        };
+    }
+
+    private int sample(int[] contexts, SplittableRandom random) {
+        for (int o = order; o >= 0; o--) {
+            int[] table = cumulative[o];
+            int base = contexts[o] * SYMBOLS;
+            int total = table[base + SYMBOLS - 1];
+            if (total > 0) {
+                int r = random.nextInt(total);
+                int symbol = 0;
+                while (table[base + symbol] <= r) {
+                    symbol++;
+                }
+                return symbol;
+            }
+        }
+        throw new IllegalStateException("Model has no transitions");
+    }
+
+    private static int[] startContexts(int order) {
+        int[] contexts = new int[order + 1];
+        for (int o = 1; o <= order; o++) {
+            for (int i = 0; i < o; i++) {
+                contexts[o] = contexts[o] * BASE + START;
+            }
+        }
+        return contexts;
+    }
+
+    private static int push(int context, int symbol, int order) {
+        return (context * BASE + symbol) % contextCount(order);
+    }
+
+    private static int contextCount(int order) {
+        return 1 << (3 * order);
+    }
+
+    /**
+     * Accumulates transition counts from a corpus.
+     * A builder is not thread-safe; the generator it builds is.
+     */
+    public static final class Builder {
+        private final int order;
+        private final int[][] counts;
+        private int transitions;
+
+        /**
+         * @param order context length, 1 to {@value #MAX_ORDER}
+         */
+        public Builder(int order) {
+            if (order < 1 || order > MAX_ORDER) {
+                throw new IllegalArgumentException("Order must be between 1 and " + MAX_ORDER);
+            }
+            this.order = order;
+            this.counts = new int[order + 1][];
+            counts[0] = new int[SYMBOLS];
+            for (int o = 1; o <= order; o++) {
+                counts[o] = new int[contextCount(o) * SYMBOLS];
+            }
+        }
+
+        /**
+         * Counts the transitions of one sequence of degrees.
+         */
+        public Builder train(Degree[] degrees) {
+            if (degrees == null) {
+                throw new IllegalArgumentException("Degrees cannot be null");
+            }
+            int[] contexts = startContexts(order);
+            for (Degree degree : degrees) {
+                contexts = count(contexts, degree.ordinal());
+            }
+            return this;
+        }
+
+        public Builder train(ChordProgression progression) {
+            return train(progression.getProgression().toArray(new Degree[0]));
+        }
+
+        public Builder train(Iterable<ChordProgression> corpus) {
+            for (ChordProgression progression : corpus) {
+                train(progression);
+            }
+            return this;
+        }
+
+        /**
+         * Counts the transitions of a chord chart read in a key. Chords whose
+         * root is outside the key end the current sequence.
+         *
+         * @param chart chord symbols separated by spaces, bars or commas
+         * @param key the key the chart is in
+         */
+        public Builder trainChart(CharSequence chart, Key key) {
+            if (!key.getScale().isHeptatonic()) {
+                throw new IllegalArgumentException("Charts must be read in a seven-note key");
+            }
+            Note.PitchClass[] pitches = Note.PitchClass.values();
+            int[] contexts = startContexts(order);
+            for (int id : ChordSymbolParser.parseChart(chart)) {
+                int degree = key.degreeOf(pitches[ChordSymbolParser.rootOf(id)]);
+                contexts = degree < 0 ? startContexts(order) : count(contexts, degree);
+            }
+            return this;
+        }
+
+        private int[] count(int[] contexts, int symbol) {
+            counts[0][symbol]++;
+            for (int o = 1; o <= order; o++) {
+                counts[o][contexts[o] * SYMBOLS + symbol]++;
+                contexts[o] = push(contexts[o], symbol, o);
+            }
+            transitions++;
+            return contexts;
+        }
+
+        /**
+         * @throws IllegalStateException if nothing was trained
+         */
+        public MarkovProgressionGenerator build() {
+            if (transitions == 0) {
+                throw new IllegalStateException("No training data");
+            }
+            return new MarkovProgressionGenerator(order, counts);
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.vsge.music.progression;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordQuality;
+import com.vsge.music.chord.ChordSymbolParser;
+import com.vsge.music.chord.ChordType;
+import com.vsge.music.progression.ChordProgression.Degree;
+import com.vsge.music.theory.Key;
+import com.vsge.music.theory.Note;
+import com.vsge.music.theory.PitchClassSet;
+import com.vsge.music.theory.Scale;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Infers the key of a chord sequence and labels every chord with a Roman
+ * numeral relative to it: diatonic chords, secondary dominants ("V7/ii"),
+ * chords borrowed from the parallel key ("bVI" in major) and remaining
+ * chromatic chords.
+ *
+ * <p>Sequences are analyzed as chord ids from {@link ChordSymbolParser}, so
+ * every chord reduces to a pitch-class mask and the key search is 24 mask
+ * tests per chord. A whole corpus is analyzed with a parallel stream and
+ * reduced into {@link Statistics} without shared mutable state.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class RomanNumeralAnalyzer {
+
+    /**
+     * Harmonic function of a chord within the inferred key.
+     */
+    public enum Function {
+        DIATONIC, SECONDARY_DOMINANT, BORROWED, CHROMATIC
+    }
+
+    private static final Note.PitchClass[] PITCH_CLASSES = Note.PitchClass.values();
+    private static final Degree[] DEGREES = Degree.values();
+    private static final String[] ROOT_NUMERALS = {
+        "I", "bII", "II", "bIII", "III", "IV", "#IV", "V", "bVI", "VI", "bVII", "VII"
+    };
+
+    // Candidate keys: 12 major then 12 minor; minor masks include the leading tone
+    private static final Key[] KEYS = new Key[24];
+    private static final int[] KEY_MASKS = new int[24];
+
+    static {
+        for (int tonic = 0; tonic < 12; tonic++) {
+            Key major = Key.major(PITCH_CLASSES[tonic]);
+            Key minor = Key.minor(PITCH_CLASSES[tonic]);
+            KEYS[tonic] = major;
+            KEY_MASKS[tonic] = major.getMask();
+            KEYS[12 + tonic] = minor;
+            KEY_MASKS[12 + tonic] = minor.getMask() | 1 << (tonic + 11) % 12;
+        }
+    }
+
+    private RomanNumeralAnalyzer() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Analyzes a chord chart such as "C | Am | F | G7".
+     *
+     * @throws IllegalArgumentException if the chart is empty or has an invalid symbol
+     */
+    public static Analysis analyze(CharSequence chart) {
+        return analyze(ChordSymbolParser.parseChart(chart));
+    }
+
+    /**
+     * Analyzes a list of chords.
+     */
+    public static Analysis analyze(List<? extends Chord> chords) {
+        int[] ids = new int[chords.size()];
+        for (int i = 0; i < ids.length; i++) {
+            Chord chord = chords.get(i);
+            ChordQuality quality = chord.getQuality();
+            if (quality == null) {
+                throw new IllegalArgumentException("Chord has no registered quality: " + chord);
+            }
+            ids[i] = ChordSymbolParser.chordId(chord.getRoot().getPitch().getValue(), quality);
+        }
+        return analyze(ids);
+    }
+
+    /**
+     * Analyzes a sequence of chord ids.
+     */
+    public static Analysis analyze(int[] chordIds) {
+        if (chordIds == null || chordIds.length == 0) {
+            throw new IllegalArgumentException("Chord sequence cannot be empty");
+        }
+        int[] masks = new int[chordIds.length];
+        for (int i = 0; i < chordIds.length; i++) {
+            masks[i] = maskOf(chordIds[i]);
+        }
+        int k = inferKey(chordIds, masks);
+
+        Label[] labels = new Label[chordIds.length];
+        for (int i = 0; i < chordIds.length; i++) {
+            labels[i] = label(KEYS[k], KEY_MASKS[k], chordIds[i], masks[i]);
+        }
+        return new Analysis(KEYS[k], labels);
+    }
+
+    /**
+     * Analyzes every chart of a corpus in parallel and aggregates the results.
+     */
+    public static Statistics analyzeCorpus(Collection<? extends CharSequence> charts) {
+        return charts.parallelStream()
+            .map(RomanNumeralAnalyzer::analyze)
+            .collect(Statistics::new, Statistics::add, Statistics::combine);
+    }
+
+    private static int maskOf(int chordId) {
+        return PitchClassSet.transpose(ChordSymbolParser.qualityOf(chordId).getMask(),
+            ChordSymbolParser.rootOf(chordId));
+    }
+
+    /**
+     * Scores the 24 major and minor keys: a chord entirely in the key counts
+     * two, a chord whose root is in the key one, and a first or last chord
+     * on the tonic two more. Ties go to the earlier candidate (major first).
+     */
+    private static int inferKey(int[] chordIds, int[] masks) {
+        int first = ChordSymbolParser.rootOf(chordIds[0]);
+        int last = ChordSymbolParser.rootOf(chordIds[chordIds.length - 1]);
+        int best = 0;
+        int bestScore = Integer.MIN_VALUE;
+        for (int k = 0; k < KEYS.length; k++) {
+            int keyMask = KEY_MASKS[k];
+            int tonic = k % 12;
+            int score = (first == tonic ? 2 : 0) + (last == tonic ? 2 : 0);
+            for (int i = 0; i < masks.length; i++) {
+                if ((masks[i] & ~keyMask) == 0) {
+                    score += 2;
+                } else if ((keyMask & 1 << ChordSymbolParser.rootOf(chordIds[i])) != 0) {
+                    score += 1;
+                }
+            }
+            if (score > bestScore) {
+                best = k;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private static Label label(Key key, int keyMask, int chordId, int mask) {
+        int root = ChordSymbolParser.rootOf(chordId);
+        ChordQuality quality = ChordSymbolParser.qualityOf(chordId);
+        int tonic = key.getTonic().getValue();
+        int offset = Math.floorMod(root - tonic, 12);
+        int degree = key.degreeOf(PITCH_CLASSES[root]);
+        Degree rootDegree = degree < 0 ? null : DEGREES[degree];
+
+        if ((mask & ~keyMask) == 0) {
+            return new Label(chordId, numeral(offset, quality), Function.DIATONIC, rootDegree);
+        }
+        if (isDominant(quality)) {
+            int target = key.degreeOf(PITCH_CLASSES[(root + 5) % 12]);
+            if (target > 0 && key.getTriad(target) != ChordType.DIMINISHED) {
+                String dominant = quality.getType() == ChordType.MAJOR ? "V" : "V" + suffix(quality);
+                String targetNumeral = numeral(key.getOffset(target), ChordQuality.of(key.getTriad(target)));
+                return new Label(chordId, dominant + "/" + targetNumeral, Function.SECONDARY_DOMINANT, rootDegree);
+            }
+        }
+        if ((mask & ~key.getParallel().getMask()) == 0) {
+            return new Label(chordId, numeral(offset, quality), Function.BORROWED, rootDegree);
+        }
+        return new Label(chordId, numeral(offset, quality), Function.CHROMATIC, rootDegree);
+    }
+
+    /**
+     * Major triads and chords with a major third and minor seventh.
+     */
+    private static boolean isDominant(ChordQuality quality) {
+        int mask = quality.getMask();
+        boolean majorThird = (mask & (1 << 4)) != 0 && (mask & (1 << 3)) == 0;
+        return majorThird && (mask & (1 << 7)) != 0 && (mask & (1 << 11)) == 0
+            && (quality.getType() == ChordType.MAJOR || (mask & (1 << 10)) != 0);
+    }
+
+    private static String numeral(int offset, ChordQuality quality) {
+        int mask = quality.getMask();
+        boolean minorThird = (mask & (1 << 3)) != 0 && (mask & (1 << 4)) == 0;
+        String numeral = ROOT_NUMERALS[offset];
+        if (minorThird) {
+            numeral = numeral.toLowerCase();
+        }
+        return numeral + suffix(quality);
+    }
+
+    private static String suffix(ChordQuality quality) {
+        ChordType type = quality.getType();
+        if (type == null) {
+            return quality.getSymbol();
+        }
+        switch (type) {
+            case MAJOR:
+            case MINOR:
+                return "";
+            case DIMINISHED:
+                return "°";
+            case AUGMENTED:
+                return "+";
+            case MINOR7:
+            case DOMINANT7:
+                return "7";
+            case HALF_DIMINISHED:
+                return "ø7";
+            default:
+                // Minor qualities already show as lower case
+                String symbol = quality.getSymbol();
+                return minorPrefixed(type) ? symbol.substring(1) : symbol;
+        }
+    }
+
+    private static boolean minorPrefixed(ChordType type) {
+        return type.getSymbol().startsWith("m") && !type.getSymbol().startsWith("maj");
+    }
+
+    /**
+     * The Roman-numeral reading of one chord.
+     */
+    public static final class Label {
+        private final int chordId;
+        private final String numeral;
+        private final Function function;
+        private final Degree degree;
+
+        Label(int chordId, String numeral, Function function, Degree degree) {
+            this.chordId = chordId;
+            this.numeral = numeral;
+            this.function = function;
+            this.degree = degree;
+        }
+
+        public int getChordId() {
+            return chordId;
+        }
+
+        public Chord getChord() {
+            return ChordSymbolParser.chordForId(chordId);
+        }
+
+        /**
+         * Gets the numeral, e.g. "ii7", "V7/V" or "bVII".
+         */
+        public String getNumeral() {
+            return numeral;
+        }
+
+        public Function getFunction() {
+            return function;
+        }
+
+        /**
+         * Gets the scale degree of the chord root, or null if the root is
+         * outside the key.
+         */
+        public Degree getDegree() {
+            return degree;
+        }
+
+        @Override
+        public String toString() {
+            return numeral;
+        }
+    }
+
+    /**
+     * The inferred key and the label of every chord.
+     */
+    public static final class Analysis {
+        private final Key key;
+        private final Label[] labels;
+
+        Analysis(Key key, Label[] labels) {
+            this.key = key;
+            this.labels = labels;
+        }
+
+        public Key getKey() {
+            return key;
+        }
+
+        public int size() {
+            return labels.length;
+        }
+
+        public Label getLabel(int index) {
+            return labels[index];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(key.toString()).append(":");
+            for (Label label : labels) {
+                sb.append(' ').append(label.numeral);
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Aggregate counts over a corpus. Instances are filled by one thread
+     * each and merged with {@link #combine(Statistics)}.
+     */
+    public static final class Statistics {
+        private long charts;
+        private long chords;
+        private final long[] keyCounts = new long[KEYS.length];
+        private final long[] functionCounts = new long[Function.values().length];
+        private final Map<String, Long> numeralCounts = new HashMap<>();
+
+        public void add(Analysis analysis) {
+            charts++;
+            chords += analysis.labels.length;
+            keyCounts[indexOf(analysis.key)]++;
+            for (Label label : analysis.labels) {
+                functionCounts[label.function.ordinal()]++;
+                numeralCounts.merge(label.numeral, 1L, Long::sum);
+            }
+        }
+
+        public void combine(Statistics other) {
+            charts += other.charts;
+            chords += other.chords;
+            for (int i = 0; i < keyCounts.length; i++) {
+                keyCounts[i] += other.keyCounts[i];
+            }
+            for (int i = 0; i < functionCounts.length; i++) {
+                functionCounts[i] += other.functionCounts[i];
+            }
+            other.numeralCounts.forEach((numeral, count) -> numeralCounts.merge(numeral, count, Long::sum));
+        }
+
+        private static int indexOf(Key key) {
+            int tonic = key.getTonic().getValue();
+            return key.getScale() == Scale.MAJOR ? tonic : 12 + tonic;
+        }
+
+        public long getChartCount() {
+            return charts;
+        }
+
+        public long getChordCount() {
+            return chords;
+        }
+
+        /**
+         * Number of charts inferred to be in a major or natural minor key.
+         */
+        public long getKeyCount(Key key) {
+            Scale scale = key.getScale();
+            if (scale != Scale.MAJOR && scale != Scale.NATURAL_MINOR) {
+                return 0;
+            }
+            return keyCounts[indexOf(key)];
+        }
+
+        public long getFunctionCount(Function function) {
+            return functionCounts[function.ordinal()];
+        }
+
+        /**
+         * Occurrences of every numeral in the corpus.
+         */
+        public Map<String, Long> getNumeralCounts() {
+            return Collections.unmodifiableMap(numeralCounts);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.vsge.music.progression;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.theory.Key;
+import com.vsge.music.theory.Note;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Chooses voicings for a whole chord progression so that the total
+ * semitone movement between consecutive chords is minimal.
+ *
+ * <p>For every chord, all voicings that place each chord tone exactly once
+ * inside a register range are enumerated. Dynamic programming over the
+ * progression then picks the cheapest sequence. Transition cost matrices are
+ * memoized per chord pair, and finished results are cached per
+ * (progression, range) so playback only has to read the stored voicings.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class VoiceLeadingOptimizer {
+    private static final int DEFAULT_CACHE_SIZE = 256;
+
+    private final Map<CacheKey, VoicedProgression> cache;
+
+    public VoiceLeadingOptimizer() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates an optimizer that keeps at most {@code cacheSize} results.
+     *
+     * @param cacheSize maximum number of cached progressions
+     */
+    public VoiceLeadingOptimizer(int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<CacheKey, VoicedProgression>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, VoicedProgression> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Returns the smoothest voicing sequence for a progression.
+     *
+     * @param progression the chord progression
+     * @param lowMidi lowest allowed MIDI note (inclusive)
+     * @param highMidi highest allowed MIDI note (inclusive)
+     * @return the voiced progression
+     * @throws IllegalArgumentException if the range cannot hold a chord
+     */
+    public VoicedProgression optimize(ChordProgression progression, int lowMidi, int highMidi) {
+        if (progression == null) {
+            throw new IllegalArgumentException("Progression cannot be null");
+        }
+        if (lowMidi < 0 || highMidi > 127 || highMidi - lowMidi < 11) {
+            throw new IllegalArgumentException("Range must span at least an octave within 0-127");
+        }
+
+        CacheKey key = new CacheKey(progression, lowMidi, highMidi);
+        VoicedProgression cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        VoicedProgression result = solve(progression.generateChords(), lowMidi, highMidi);
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Clears all cached results.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    private static VoicedProgression solve(List<Chord> chords, int lowMidi, int highMidi) {
+        int n = chords.size();
+        int[][][] candidates = new int[n][][];
+        Map<Integer, int[][]> candidatesByChord = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Chord chord = chords.get(i);
+            candidates[i] = candidatesByChord.computeIfAbsent(chordKey(chord),
+                k -> enumerateVoicings(chord, lowMidi, highMidi));
+            if (candidates[i].length == 0) {
+                throw new IllegalArgumentException("No voicing of " + chord + " fits the range");
+            }
+        }
+
+        // Viterbi pass: cost[c] = cheapest total movement ending in candidate c
+        Map<Long, int[][]> transitions = new HashMap<>();
+        int[] cost = new int[candidates[0].length];
+        int[][] back = new int[n][];
+        for (int i = 1; i < n; i++) {
+            int[][] from = candidates[i - 1];
+            int[][] to = candidates[i];
+            long pairKey = ((long) chordKey(chords.get(i - 1)) << 32) | chordKey(chords.get(i));
+            int[][] matrix = transitions.computeIfAbsent(pairKey, k -> transitionMatrix(from, to));
+
+            int[] next = new int[to.length];
+            back[i] = new int[to.length];
+            for (int t = 0; t < to.length; t++) {
+                int best = Integer.MAX_VALUE;
+                int bestFrom = 0;
+                for (int f = 0; f < from.length; f++) {
+                    int total = cost[f] + matrix[f][t];
+                    if (total < best) {
+                        best = total;
+                        bestFrom = f;
+                    }
+                }
+                next[t] = best;
+                back[i][t] = bestFrom;
+            }
+            cost = next;
+        }
+
+        int last = 0;
+        for (int c = 1; c < cost.length; c++) {
+            if (cost[c] < cost[last]) {
+                last = c;
+            }
+        }
+        int totalMovement = cost[last];
+
+        int[][] voicings = new int[n][];
+        for (int i = n - 1; i >= 0; i--) {
+            voicings[i] = candidates[i][last];
+            if (i > 0) {
+                last = back[i][last];
+            }
+        }
+        return new VoicedProgression(voicings, totalMovement);
+    }
+
+    /**
+     * Identifies a chord by root pitch class and pitch-class mask, which is
+     * all that candidate enumeration depends on.
+     */
+    private static int chordKey(Chord chord) {
+        return (chord.getRoot().getPitch().getValue() << 12) | chord.getPitchClassSet().getMask();
+    }
+
+    /**
+     * Enumerates every ascending voicing that contains each chord tone once
+     * within {@code [lowMidi, highMidi]}. Candidates are ordered by bass note.
+     */
+    static int[][] enumerateVoicings(Chord chord, int lowMidi, int highMidi) {
+        List<Note> notes = chord.getNotes();
+        int[] pitchClasses = new int[notes.size()];
+        for (int i = 0; i < pitchClasses.length; i++) {
+            pitchClasses[i] = notes.get(i).getPitch().getValue();
+        }
+
+        List<int[]> result = new ArrayList<>();
+        enumerate(pitchClasses, 0, new int[pitchClasses.length], lowMidi, highMidi, result);
+        for (int[] voicing : result) {
+            Arrays.sort(voicing);
+        }
+        result.sort((a, b) -> Arrays.compare(a, b));
+        return result.toArray(new int[0][]);
+    }
+
+    private static void enumerate(int[] pitchClasses, int index, int[] current,
+                                  int lowMidi, int highMidi, List<int[]> out) {
+        if (index == pitchClasses.length) {
+            out.add(current.clone());
+            return;
+        }
+        int first = lowMidi + Math.floorMod(pitchClasses[index] - lowMidi, 12);
+        for (int midi = first; midi <= highMidi; midi += 12) {
+            current[index] = midi;
+            enumerate(pitchClasses, index + 1, current, lowMidi, highMidi, out);
+        }
+    }
+
+    private static int[][] transitionMatrix(int[][] from, int[][] to) {
+        int[][] matrix = new int[from.length][to.length];
+        for (int f = 0; f < from.length; f++) {
+            for (int t = 0; t < to.length; t++) {
+                matrix[f][t] = movement(from[f], to[t]);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Semitone movement between two sorted voicings. Voicings of equal size
+     * move voice by voice; otherwise every note is charged the distance to
+     * the nearest note of the other chord.
+     */
+    static int movement(int[] a, int[] b) {
+        int total = 0;
+        if (a.length == b.length) {
+            for (int i = 0; i < a.length; i++) {
+                total += Math.abs(a[i] - b[i]);
+            }
+            return total;
+        }
+        for (int x : a) {
+            total += nearestDistance(x, b);
+        }
+        for (int y : b) {
+            total += nearestDistance(y, a);
+        }
+        return total;
+    }
+
+    private static int nearestDistance(int midi, int[] voicing) {
+        int best = Integer.MAX_VALUE;
+        for (int v : voicing) {
+            best = Math.min(best, Math.abs(midi - v));
+        }
+        return best;
+    }
+
+    /**
+     * Voicings chosen for each chord of a progression, as MIDI numbers.
+     */
+    public static class VoicedProgression {
+        private final int[][] voicings;
+        private final int totalMovement;
+
+        VoicedProgression(int[][] voicings, int totalMovement) {
+            this.voicings = voicings;
+            this.totalMovement = totalMovement;
+        }
+
+        public int getLength() {
+            return voicings.length;
+        }
+
+        public int getVoiceCount(int index) {
+            return voicings[index].length;
+        }
+
+        /**
+         * Reads one voice without copying, for use on the playback path.
+         */
+        public int getMidiNumber(int index, int voice) {
+            return voicings[index][voice];
+        }
+
+        /**
+         * Returns a copy of the MIDI numbers voiced for one chord, low to high.
+         */
+        public int[] getMidiNumbers(int index) {
+            return voicings[index].clone();
+        }
+
+        public List<Note> getNotes(int index) {
+            List<Note> notes = new ArrayList<>(voicings[index].length);
+            for (int midi : voicings[index]) {
+                notes.add(Note.fromMidiNumber(midi));
+            }
+            return Collections.unmodifiableList(notes);
+        }
+
+        /**
+         * Total semitone movement across the whole progression.
+         */
+        public int getTotalMovement() {
+            return totalMovement;
+        }
+    }
+
+    private static final class CacheKey {
+        private final int keyMidi;
+        private final Key tonality;
+        private final List<ChordProgression.Degree> degrees;
+        private final int lowMidi;
+        private final int highMidi;
+
+        CacheKey(ChordProgression progression, int lowMidi, int highMidi) {
+            this.keyMidi = progression.getKey().getMidiNumber();
+            this.tonality = progression.getTonality();
+            this.degrees = progression.getProgression();
+            this.lowMidi = lowMidi;
+            this.highMidi = highMidi;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof CacheKey)) return false;
+            CacheKey other = (CacheKey) obj;
+            return keyMidi == other.keyMidi && tonality == other.tonality && lowMidi == other.lowMidi
+                && highMidi == other.highMidi && degrees.equals(other.degrees);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(keyMidi, tonality, degrees, lowMidi, highMidi);
+        }
+    }
+}
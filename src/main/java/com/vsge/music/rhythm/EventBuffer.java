@@ -0,0 +1,338 @@
+package com.vsge.music.rhythm;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.theory.Note;
+import com.vsge.music.theory.Transposition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable struct-of-arrays buffer of rhythm events.
+ * Each event is one index across parallel primitive arrays, so rendering a
+ * bar into a cleared buffer allocates nothing once the arrays have grown to
+ * the bar's size.
+ *
+ * <p>Times are stored as integer {@link Ticks}; the beat-valued accessors
+ * convert on the way in and out for callers working in beats.
+ *
+ * <p>Not thread-safe; use one buffer per rendering thread.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class EventBuffer {
+    private static final Technique[] TECHNIQUES = Technique.values();
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private int size;
+    private int[] pitches;
+    private int[] startTicks;
+    private int[] durationTicks;
+    private int[] velocities;
+    private int[] offsetTicks;
+    private int[] velocityVariations;
+    private boolean[] accents;
+    private byte[] techniques;
+
+    // Scratch space for the pitches of the chord being rendered
+    private final int[] chordPitches = new int[PatternTemplate.MAX_TONES];
+    private RandomSource random = RandomSource.withRandomSeed();
+    private long barStartTick;
+
+    public EventBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public EventBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        pitches = new int[capacity];
+        startTicks = new int[capacity];
+        durationTicks = new int[capacity];
+        velocities = new int[capacity];
+        offsetTicks = new int[capacity];
+        velocityVariations = new int[capacity];
+        accents = new boolean[capacity];
+        techniques = new byte[capacity];
+    }
+
+    /**
+     * Gets the random source renderers and processors of this buffer use.
+     */
+    public RandomSource getRandom() {
+        return random;
+    }
+
+    /**
+     * Sets the random source for the next render, e.g. the substream of the
+     * bar about to be rendered.
+     */
+    public void setRandom(RandomSource random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random source cannot be null");
+        }
+        this.random = random;
+    }
+
+    /**
+     * Gets the position of the rendered bar in beats from the start of the
+     * song, for stages that vary over the song rather than per bar.
+     */
+    public double getBarStart() {
+        return Ticks.toBeats(barStartTick);
+    }
+
+    public void setBarStart(double barStart) {
+        this.barStartTick = Math.round(barStart * Ticks.PPQ);
+    }
+
+    public long getBarStartTick() {
+        return barStartTick;
+    }
+
+    public void setBarStartTick(long barStartTick) {
+        this.barStartTick = barStartTick;
+    }
+
+    /**
+     * Removes all events, keeping the allocated capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends an event.
+     *
+     * @return the index of the new event
+     */
+    public int add(int pitch, double startTime, double duration, int velocity,
+                   double timingOffset, int velocityVariation, boolean accent, Technique technique) {
+        return addTicks(pitch, Ticks.fromBeats(startTime), Ticks.fromBeats(duration), velocity,
+            Ticks.fromBeats(timingOffset), velocityVariation, accent, technique);
+    }
+
+    /**
+     * Appends an event with times in ticks.
+     *
+     * @return the index of the new event
+     */
+    public int addTicks(int pitch, int startTick, int durationTicks, int velocity,
+                        int timingOffsetTicks, int velocityVariation, boolean accent, Technique technique) {
+        if (size == pitches.length) {
+            grow();
+        }
+        int i = size++;
+        pitches[i] = pitch;
+        startTicks[i] = startTick;
+        this.durationTicks[i] = durationTicks;
+        velocities[i] = velocity;
+        offsetTicks[i] = timingOffsetTicks;
+        velocityVariations[i] = velocityVariation;
+        accents[i] = accent;
+        techniques[i] = (byte) technique.ordinal();
+        return i;
+    }
+
+    /**
+     * Appends a legacy event object.
+     */
+    public int add(RhythmPattern.RhythmEvent event) {
+        return add(event.getNote().getMidiNumber(), event.getStartTime(), event.getDuration(),
+            event.getVelocity(), event.getTimingOffset(), event.getVelocityVariation(),
+            event.isAccent(), techniqueOf(event.getTechnique()));
+    }
+
+    /**
+     * Appends copies of another buffer's events.
+     *
+     * @param other the buffer to copy from
+     * @param from index of the first event to copy
+     */
+    public void addAll(EventBuffer other, int from) {
+        int count = other.size - from;
+        if (count <= 0) {
+            return;
+        }
+        while (size + count > pitches.length) {
+            grow();
+        }
+        System.arraycopy(other.pitches, from, pitches, size, count);
+        System.arraycopy(other.startTicks, from, startTicks, size, count);
+        System.arraycopy(other.durationTicks, from, durationTicks, size, count);
+        System.arraycopy(other.velocities, from, velocities, size, count);
+        System.arraycopy(other.offsetTicks, from, offsetTicks, size, count);
+        System.arraycopy(other.velocityVariations, from, velocityVariations, size, count);
+        System.arraycopy(other.accents, from, accents, size, count);
+        System.arraycopy(other.techniques, from, techniques, size, count);
+        size += count;
+    }
+
+    private static Technique techniqueOf(String name) {
+        for (Technique technique : TECHNIQUES) {
+            if (technique.getName().equals(name)) {
+                return technique;
+            }
+        }
+        return Technique.CHORD;
+    }
+
+    /**
+     * Removes the events from an index on that start at or after a time,
+     * keeping the order of the rest.
+     *
+     * @param from index of the first event to check
+     * @param endTime the first start time removed, in beats
+     */
+    public void removeAfter(int from, double endTime) {
+        retain(from, Integer.MIN_VALUE, Ticks.fromBeats(endTime));
+    }
+
+    /**
+     * Removes the events from an index on that start outside a window,
+     * keeping the order of the rest.
+     *
+     * @param from index of the first event to check
+     * @param startTick the first start tick kept
+     * @param endTick the first start tick removed after the window
+     */
+    public void retain(int from, int startTick, int endTick) {
+        int kept = from;
+        for (int i = from; i < size; i++) {
+            if (startTicks[i] < startTick || startTicks[i] >= endTick) {
+                continue;
+            }
+            if (kept != i) {
+                pitches[kept] = pitches[i];
+                startTicks[kept] = startTicks[i];
+                durationTicks[kept] = durationTicks[i];
+                velocities[kept] = velocities[i];
+                offsetTicks[kept] = offsetTicks[i];
+                velocityVariations[kept] = velocityVariations[i];
+                accents[kept] = accents[i];
+                techniques[kept] = techniques[i];
+            }
+            kept++;
+        }
+        size = kept;
+    }
+
+    /**
+     * Moves the events from an index on later by a number of ticks, e.g.
+     * to place a bar rendered from tick 0 within a longer passage.
+     *
+     * @param from index of the first event to move
+     * @param ticks the distance to move by
+     */
+    public void shift(int from, int ticks) {
+        for (int i = from; i < size; i++) {
+            startTicks[i] += ticks;
+        }
+    }
+
+    /**
+     * Transposes every event in place. Pitches leaving the MIDI range are
+     * folded back by octaves, as {@link Transposition} does, so a live key
+     * change never fails part-way through a bar.
+     *
+     * @param semitones the interval to shift by
+     */
+    public void transpose(int semitones) {
+        Transposition.transpose(pitches, 0, size, semitones, Transposition.MIN_MIDI, Transposition.MAX_MIDI);
+    }
+
+    private void grow() {
+        int capacity = pitches.length * 2;
+        pitches = Arrays.copyOf(pitches, capacity);
+        startTicks = Arrays.copyOf(startTicks, capacity);
+        durationTicks = Arrays.copyOf(durationTicks, capacity);
+        velocities = Arrays.copyOf(velocities, capacity);
+        offsetTicks = Arrays.copyOf(offsetTicks, capacity);
+        velocityVariations = Arrays.copyOf(velocityVariations, capacity);
+        accents = Arrays.copyOf(accents, capacity);
+        techniques = Arrays.copyOf(techniques, capacity);
+    }
+
+    /**
+     * Loads the MIDI numbers of a chord's notes into the scratch array.
+     *
+     * @return the number of tones loaded (at most {@link PatternTemplate#MAX_TONES})
+     */
+    int loadChord(Chord chord) {
+        List<Note> notes = chord.getNotes();
+        int count = Math.min(notes.size(), chordPitches.length);
+        for (int i = 0; i < count; i++) {
+            chordPitches[i] = notes.get(i).getMidiNumber();
+        }
+        return count;
+    }
+
+    int chordPitch(int tone) {
+        return chordPitches[tone];
+    }
+
+    public int getPitch(int i) { return pitches[i]; }
+    public double getStartTime(int i) { return Ticks.toBeats(startTicks[i]); }
+    public double getDuration(int i) { return Ticks.toBeats(durationTicks[i]); }
+    public int getVelocity(int i) { return velocities[i]; }
+    public double getTimingOffset(int i) { return Ticks.toBeats(offsetTicks[i]); }
+    public int getVelocityVariation(int i) { return velocityVariations[i]; }
+    public boolean isAccent(int i) { return accents[i]; }
+    public Technique getTechnique(int i) { return TECHNIQUES[techniques[i]]; }
+
+    public int getStartTick(int i) { return startTicks[i]; }
+    public int getDurationTicks(int i) { return durationTicks[i]; }
+    public int getTimingOffsetTicks(int i) { return offsetTicks[i]; }
+
+    // Mutators for processing stages such as humanization
+    public void setDuration(int i, double duration) { durationTicks[i] = Ticks.fromBeats(duration); }
+    public void setTimingOffset(int i, double offset) { offsetTicks[i] = Ticks.fromBeats(offset); }
+    public void setVelocityVariation(int i, int variation) { velocityVariations[i] = variation; }
+    public void setDurationTicks(int i, int ticks) { durationTicks[i] = ticks; }
+    public void setTimingOffsetTicks(int i, int ticks) { offsetTicks[i] = ticks; }
+
+    /**
+     * Gets the velocity with humanization applied, as
+     * {@link RhythmPattern.RhythmEvent#getFinalVelocity()}.
+     */
+    public int getFinalVelocity(int i) {
+        return Math.max(20, Math.min(127, velocities[i] + velocityVariations[i]));
+    }
+
+    /**
+     * Gets the start time with humanization applied.
+     */
+    public double getFinalStartTime(int i) {
+        return Ticks.toBeats(getFinalStartTick(i));
+    }
+
+    /**
+     * Gets the start tick with humanization applied.
+     */
+    public int getFinalStartTick(int i) {
+        return startTicks[i] + offsetTicks[i];
+    }
+
+    /**
+     * Copies the events into legacy event objects.
+     */
+    public List<RhythmPattern.RhythmEvent> toRhythmEvents() {
+        List<RhythmPattern.RhythmEvent> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(new RhythmPattern.RhythmEvent(Note.fromMidiNumber(pitches[i]), getStartTime(i),
+                getDuration(i), velocities[i], getTimingOffset(i), velocityVariations[i], accents[i],
+                TECHNIQUES[techniques[i]].getName()));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,46 @@
+package com.vsge.music.rhythm;
+
+import com.vsge.music.chord.Chord;
+
+/**
+ * Anything that renders a bar of a chord into an {@link EventBuffer}.
+ * Both {@link RhythmPattern} and {@link com.vsge.style.PlayStyle} are event
+ * sources, so playback, humanization and export consume one event model.
+ * 
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface EventSource {
+    
+    /**
+     * Appends the events for one bar of a chord, with start times in beats
+     * from the start of the bar.
+     * 
+     * @param chord the chord to play
+     * @param beatsPerMeasure number of beats in a measure
+     * @param tempo BPM
+     * @param out the buffer to append to
+     */
+    void render(Chord chord, int beatsPerMeasure, int tempo, EventBuffer out);
+    
+    /**
+     * Appends the events for one bar of a chord in a meter. Sources that
+     * only know whole-beat bars render every beat the bar touches and drop
+     * the events starting after its end.
+     * 
+     * @param chord the chord to play
+     * @param meter the meter of the bar
+     * @param tempo BPM
+     * @param out the buffer to append to
+     */
+    default void render(Chord chord, Meter meter, int tempo, EventBuffer out) {
+        int from = out.size();
+        double length = meter.getLength();
+        int beats = (int) Math.ceil(length);
+        render(chord, beats, tempo, out);
+        if (beats != length) {
+            out.removeAfter(from, length);
+        }
+    }
+}
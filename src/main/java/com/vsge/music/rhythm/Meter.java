@@ -0,0 +1,206 @@
+package com.vsge.music.rhythm;
+
+import java.util.Arrays;
+
+/**
+ * A time signature, such as 4/4, 3/4, 6/8 or 7/8.
+ *
+ * <p>Event times throughout the engine are in quarter-note beats, so a bar
+ * of 6/8 is {@link #getLength() 3.0} beats long and a bar of 7/8 is 3.5.
+ * Besides its length a meter knows how its bar is felt: the eighth notes
+ * are split into {@link #getGroups() groups}, one per pulse - two per
+ * quarter in simple meters, three per dotted quarter in compound meters,
+ * and twos followed by a three in odd eighth meters (7/8 is 2+2+3).
+ * Patterns use the groups to place their strong strokes.
+ *
+ * <p>Meters are immutable values and can be used as map keys.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class Meter {
+    public static final Meter TWO_FOUR = new Meter(2, 4);
+    public static final Meter THREE_FOUR = new Meter(3, 4);
+    public static final Meter FOUR_FOUR = new Meter(4, 4);
+    public static final Meter FIVE_FOUR = new Meter(5, 4);
+    public static final Meter FIVE_EIGHT = new Meter(5, 8);
+    public static final Meter SIX_EIGHT = new Meter(6, 8);
+    public static final Meter SEVEN_EIGHT = new Meter(7, 8);
+    public static final Meter NINE_EIGHT = new Meter(9, 8);
+    public static final Meter TWELVE_EIGHT = new Meter(12, 8);
+
+    public static final int MAX_BEATS = 32;
+
+    private static final Meter[] COMMON = {
+        TWO_FOUR, THREE_FOUR, FOUR_FOUR, FIVE_FOUR,
+        FIVE_EIGHT, SIX_EIGHT, SEVEN_EIGHT, NINE_EIGHT, TWELVE_EIGHT
+    };
+
+    private final int beats;
+    private final int beatUnit;
+    private final int[] groups;
+
+    private Meter(int beats, int beatUnit) {
+        this.beats = beats;
+        this.beatUnit = beatUnit;
+        this.groups = group(beats, beatUnit);
+    }
+
+    /**
+     * Gets a meter.
+     *
+     * @param beats the upper number, 1 to {@value #MAX_BEATS}
+     * @param beatUnit the lower number: 2, 4 or 8
+     * @return the meter
+     * @throws IllegalArgumentException if the meter is not supported
+     */
+    public static Meter of(int beats, int beatUnit) {
+        if (beats < 1 || beats > MAX_BEATS) {
+            throw new IllegalArgumentException("Beats must be between 1 and " + MAX_BEATS + ": " + beats);
+        }
+        if (beatUnit != 2 && beatUnit != 4 && beatUnit != 8) {
+            throw new IllegalArgumentException("Beat unit must be 2, 4 or 8: " + beatUnit);
+        }
+        for (Meter meter : COMMON) {
+            if (meter.beats == beats && meter.beatUnit == beatUnit) {
+                return meter;
+            }
+        }
+        return new Meter(beats, beatUnit);
+    }
+
+    /**
+     * Parses a time signature such as {@code "6/8"}.
+     *
+     * @throws IllegalArgumentException if the text is not a supported meter
+     */
+    public static Meter parse(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Meter cannot be null");
+        }
+        int slash = text.indexOf('/');
+        if (slash < 0) {
+            throw new IllegalArgumentException("Invalid meter: '" + text + "'");
+        }
+        try {
+            return of(Integer.parseInt(text.substring(0, slash).trim()),
+                Integer.parseInt(text.substring(slash + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid meter: '" + text + "'");
+        }
+    }
+
+    private static int[] group(int beats, int beatUnit) {
+        int eighths = beats * 8 / beatUnit;
+        if (beatUnit != 8) {
+            // Simple meters: one group per written beat
+            int[] groups = new int[beats];
+            Arrays.fill(groups, 8 / beatUnit);
+            return groups;
+        }
+        if (eighths % 3 == 0 && eighths > 3) {
+            int[] groups = new int[eighths / 3];
+            Arrays.fill(groups, 3);
+            return groups;
+        }
+        if (eighths < 4) {
+            return new int[] {eighths};
+        }
+        // Odd meters: twos, then a three if the count is odd
+        int[] groups = new int[eighths / 2];
+        Arrays.fill(groups, 2);
+        if (eighths % 2 == 1) {
+            groups[groups.length - 1] = 3;
+        }
+        return groups;
+    }
+
+    public int getBeats() {
+        return beats;
+    }
+
+    public int getBeatUnit() {
+        return beatUnit;
+    }
+
+    /**
+     * Gets the bar length in quarter-note beats.
+     */
+    public double getLength() {
+        return beats * 4.0 / beatUnit;
+    }
+
+    /**
+     * Gets the bar length in {@link Ticks}.
+     */
+    public int getLengthTicks() {
+        return beats * 4 * Ticks.PPQ / beatUnit;
+    }
+
+    /**
+     * Gets the length of one written beat in quarter-note beats, e.g. 0.5
+     * for eighth-note meters.
+     */
+    public double getUnitLength() {
+        return 4.0 / beatUnit;
+    }
+
+    /**
+     * Gets the number of eighth notes in a bar.
+     */
+    public int getEighths() {
+        return beats * 8 / beatUnit;
+    }
+
+    /**
+     * Gets the pulse groups of the bar, in eighth notes.
+     */
+    public int[] getGroups() {
+        return groups.clone();
+    }
+
+    /**
+     * Gets the number of pulses (felt beats) in a bar.
+     */
+    public int getPulseCount() {
+        return groups.length;
+    }
+
+    /**
+     * Checks whether the beats divide in three, as in 6/8 or 12/8.
+     */
+    public boolean isCompound() {
+        return beatUnit == 8 && beats % 3 == 0 && beats > 3;
+    }
+
+    /**
+     * Gets the number of steps of a pattern grid that start inside the bar.
+     *
+     * @param stepsPerBeat steps per quarter-note beat
+     */
+    public int getSteps(int stepsPerBeat) {
+        return (beats * stepsPerBeat * 4 + beatUnit - 1) / beatUnit;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Meter)) {
+            return false;
+        }
+        Meter other = (Meter) o;
+        return beats == other.beats && beatUnit == other.beatUnit;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * beats + beatUnit;
+    }
+
+    @Override
+    public String toString() {
+        return beats + "/" + beatUnit;
+    }
+}
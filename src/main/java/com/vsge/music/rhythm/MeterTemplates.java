@@ -0,0 +1,60 @@
+package com.vsge.music.rhythm;
+
+import com.vsge.music.chord.Chord;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled templates of one pattern for each meter it is played in.
+ *
+ * <p>A pattern is compiled for a meter the first time a bar in that meter
+ * is rendered; later bars reuse the templates, so switching a song to 6/8
+ * costs one compilation, not one per bar.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class MeterTemplates {
+
+    /**
+     * Builds a pattern's template for a meter and chord size.
+     */
+    @FunctionalInterface
+    public interface Compiler {
+        PatternTemplate compile(Meter meter, int toneCount);
+    }
+
+    private final Compiler compiler;
+    private final Map<Meter, PatternTemplate[]> templates = new ConcurrentHashMap<>();
+
+    public MeterTemplates(Compiler compiler) {
+        if (compiler == null) {
+            throw new IllegalArgumentException("Compiler cannot be null");
+        }
+        this.compiler = compiler;
+    }
+
+    /**
+     * Gets the templates for a meter, compiling them on first use.
+     *
+     * @return templates indexed by chord tone count
+     */
+    public PatternTemplate[] get(Meter meter) {
+        return templates.computeIfAbsent(meter,
+            key -> PatternTemplate.compileAll(toneCount -> compiler.compile(key, toneCount)));
+    }
+
+    /**
+     * Renders one bar of a chord in a meter.
+     */
+    public void render(Chord chord, Meter meter, EventBuffer out) {
+        PatternTemplate.render(get(meter), chord, meter, out);
+    }
+
+    /**
+     * Gets the number of meters compiled so far.
+     */
+    public int size() {
+        return templates.size();
+    }
+}
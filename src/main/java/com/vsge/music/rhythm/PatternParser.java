@@ -0,0 +1,265 @@
+package com.vsge.music.rhythm;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses the compact rhythm pattern language into compiled templates.
+ *
+ * <p>A pattern is a sequence of steps of equal length, optionally preceded
+ * by the number of steps per beat and a colon (default 2, i.e. eighth
+ * notes):
+ * <ul>
+ *   <li>{@code D} / {@code U} - down / up strum across all chord tones</li>
+ *   <li>{@code X} - all chord tones struck together</li>
+ *   <li>{@code T} - thumb on the bass (first chord tone)</li>
+ *   <li>{@code 1}-{@code 8} - finger on that chord tone, wrapping for
+ *       smaller chords</li>
+ *   <li>{@code .} or {@code -} - rest</li>
+ *   <li>{@code >} before a step - accent</li>
+ *   <li>{@code +} between picks - play them together, e.g. {@code T+3}</li>
+ * </ul>
+ * Whitespace only separates steps, so {@code "D.DU.UDU"} and
+ * {@code "T 3 2 3 T 3 2 3"} are both valid. A pattern repeats to fill bars
+ * longer than itself.
+ *
+ * <p>Compiled templates are cached by source string, so a pattern used by
+ * many songs or loaded twice is parsed once.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class PatternParser {
+    public static final int DEFAULT_STEPS_PER_BEAT = 2;
+    public static final int MAX_STEPS_PER_BEAT = 16;
+
+    private static final int REST = 0;
+    private static final int DOWN = 1;
+    private static final int UP = 2;
+    private static final int HIT = 3;
+    private static final int PICK = 4;
+
+    private static final double STRUM_SPREAD = 0.02;   // beats between strings
+    private static final double LEGATO = 0.8;          // fraction of a step a note sounds
+    private static final int ACCENT_BOOST = 15;
+    private static final double TIMING_JITTER = 0.03;
+    private static final int VELOCITY_JITTER = 8;
+
+    private static final Map<String, PatternTemplate[]> CACHE = new ConcurrentHashMap<>();
+
+    private PatternParser() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Compiles a pattern, reusing the templates of an identical source.
+     *
+     * @param source the pattern text
+     * @return templates indexed by chord tone count
+     * @throws IllegalArgumentException if the pattern is malformed
+     */
+    public static PatternTemplate[] compile(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Pattern cannot be null");
+        }
+        return CACHE.computeIfAbsent(source, key -> parse(key).compile());
+    }
+
+    /**
+     * Checks a pattern without compiling it.
+     *
+     * @throws IllegalArgumentException if the pattern is malformed
+     */
+    public static void validate(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Pattern cannot be null");
+        }
+        parse(source);
+    }
+
+    /**
+     * Gets the number of distinct compiled patterns.
+     */
+    public static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    private static Steps parse(String source) {
+        int pos = skipWhitespace(source, 0);
+        int stepsPerBeat = DEFAULT_STEPS_PER_BEAT;
+        int colon = source.indexOf(':');
+        if (colon >= 0) {
+            String prefix = source.substring(pos, colon).trim();
+            try {
+                stepsPerBeat = Integer.parseInt(prefix);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid steps per beat: '" + prefix + "'");
+            }
+            if (stepsPerBeat < 1 || stepsPerBeat > MAX_STEPS_PER_BEAT) {
+                throw new IllegalArgumentException("Steps per beat must be between 1 and " + MAX_STEPS_PER_BEAT);
+            }
+            pos = colon + 1;
+        }
+
+        Steps steps = new Steps(stepsPerBeat, source.length());
+        boolean accent = false;
+        boolean join = false;
+        for (; pos < source.length(); pos++) {
+            char c = source.charAt(pos);
+            if (Character.isWhitespace(c)) {
+                if (join) {
+                    throw error(source, pos, "'+' must be followed by a pick");
+                }
+                continue;
+            }
+            switch (c) {
+                case '>':
+                    if (accent || join) {
+                        throw error(source, pos, "misplaced accent");
+                    }
+                    accent = true;
+                    break;
+                case '+':
+                    if (join || accent || steps.count == 0 || steps.kinds[steps.count - 1] != PICK) {
+                        throw error(source, pos, "'+' must join two picks");
+                    }
+                    join = true;
+                    break;
+                case '.':
+                case '-':
+                    checkNotJoined(source, pos, join);
+                    steps.add(REST, accent, 0);
+                    accent = false;
+                    break;
+                case 'D':
+                case 'U':
+                case 'X':
+                    checkNotJoined(source, pos, join);
+                    steps.add(c == 'D' ? DOWN : c == 'U' ? UP : HIT, accent, 0);
+                    accent = false;
+                    break;
+                case 'T':
+                case '1': case '2': case '3': case '4':
+                case '5': case '6': case '7': case '8':
+                    int tone = c == 'T' ? 0 : c - '1';
+                    if (join) {
+                        steps.picks[steps.count - 1] |= 1 << tone;
+                        join = false;
+                    } else {
+                        steps.add(PICK, accent, 1 << tone);
+                        accent = false;
+                    }
+                    break;
+                default:
+                    throw error(source, pos, "unexpected '" + c + "'");
+            }
+        }
+        if (accent || join) {
+            throw error(source, source.length(), "pattern ends inside a step");
+        }
+        if (steps.count == 0) {
+            throw new IllegalArgumentException("Pattern has no steps: '" + source + "'");
+        }
+        return steps;
+    }
+
+    private static void checkNotJoined(String source, int pos, boolean join) {
+        if (join) {
+            throw error(source, pos, "'+' must be followed by a pick");
+        }
+    }
+
+    private static int skipWhitespace(String source, int pos) {
+        while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static IllegalArgumentException error(String source, int pos, String message) {
+        return new IllegalArgumentException("Invalid pattern '" + source + "' at " + pos + ": " + message);
+    }
+
+    /**
+     * Parsed steps, independent of the chord size.
+     */
+    private static final class Steps {
+        final int stepsPerBeat;
+        int count;
+        final int[] kinds;
+        final boolean[] accents;
+        final int[] picks;   // bit mask of chord tones for PICK steps
+
+        Steps(int stepsPerBeat, int capacity) {
+            this.stepsPerBeat = stepsPerBeat;
+            this.kinds = new int[Math.max(1, capacity)];
+            this.accents = new boolean[kinds.length];
+            this.picks = new int[kinds.length];
+        }
+
+        void add(int kind, boolean accent, int pickMask) {
+            kinds[count] = kind;
+            accents[count] = accent;
+            picks[count] = pickMask;
+            count++;
+        }
+
+        PatternTemplate[] compile() {
+            return PatternTemplate.compileAll(this::compile);
+        }
+
+        private PatternTemplate compile(int toneCount) {
+            double stepBeats = 1.0 / stepsPerBeat;
+            double duration = stepBeats * LEGATO;
+            PatternTemplate.Builder builder = new PatternTemplate.Builder(stepsPerBeat)
+                .jitter(TIMING_JITTER, VELOCITY_JITTER)
+                .loop(count * stepBeats);
+            for (int s = 0; s < count; s++) {
+                builder.step();
+                if (toneCount == 0) {
+                    continue;
+                }
+                double time = s * stepBeats;
+                int boost = accents[s] ? ACCENT_BOOST : 0;
+                switch (kinds[s]) {
+                    case DOWN:
+                        for (int j = 0; j < toneCount; j++) {
+                            builder.event(time + j * STRUM_SPREAD, j, duration, 80 + boost, accents[s], Technique.DOWN);
+                        }
+                        break;
+                    case UP:
+                        // Up strums reach the high strings first
+                        for (int j = 0; j < toneCount; j++) {
+                            builder.event(time + j * STRUM_SPREAD, toneCount - 1 - j, duration, 65 + boost,
+                                accents[s], Technique.UP);
+                        }
+                        break;
+                    case HIT:
+                        for (int j = 0; j < toneCount; j++) {
+                            builder.event(time, j, duration, 80 + boost, accents[s], Technique.CHORD);
+                        }
+                        break;
+                    case PICK:
+                        int played = 0;
+                        for (int tone = 0; tone < PatternTemplate.MAX_TONES; tone++) {
+                            if ((picks[s] & 1 << tone) == 0) {
+                                continue;
+                            }
+                            int index = tone % toneCount;
+                            if ((played & 1 << index) != 0) {
+                                continue;   // two picks wrapped onto the same tone
+                            }
+                            played |= 1 << index;
+                            boolean thumb = tone == 0;
+                            builder.event(time, index, duration, (thumb ? 80 : 65) + boost, accents[s],
+                                thumb ? Technique.THUMB : Technique.FINGER);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return builder.build();
+        }
+    }
+}
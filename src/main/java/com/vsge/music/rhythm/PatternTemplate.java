@@ -0,0 +1,248 @@
+package com.vsge.music.rhythm;
+
+import com.vsge.music.chord.Chord;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Immutable, pre-compiled form of a rhythm pattern for one chord size.
+ *
+ * <p>A template is a sequence of steps (strokes, plucks or hits), each a
+ * run of events stored as parallel primitive arrays: start tick, chord-tone
+ * index, duration in ticks, velocity, accent and {@link Technique}. Times
+ * are given in beats to the builder and held as {@link Ticks}. Playing a bar
+ * substitutes the chord's MIDI pitches for the tone indices and appends to
+ * an {@link EventBuffer}; nothing is allocated and no strings are compared.
+ *
+ * <p>Patterns vary with the number of chord tones (a strum hits every
+ * string, a fingerpicking figure wraps around), so a pattern is compiled
+ * into one template per tone count with {@link #compileAll(IntFunction)}.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class PatternTemplate {
+    /** Largest chord size a template is compiled for; extra tones are ignored. */
+    public static final int MAX_TONES = 8;
+
+    private final int stepsPerBeat;
+    private final int[] stepEnds;
+    private final int[] times;
+    private final byte[] tones;
+    private final int[] durations;
+    private final int[] velocities;
+    private final boolean[] accents;
+    private final Technique[] techniques;
+    private final int timingJitter;
+    private final int velocityJitter;
+    private final int loopTicks;
+
+    private PatternTemplate(Builder builder) {
+        int count = builder.count;
+        this.stepsPerBeat = builder.stepsPerBeat;
+        this.stepEnds = Arrays.copyOf(builder.stepEnds, builder.steps);
+        this.times = Arrays.copyOf(builder.times, count);
+        this.tones = Arrays.copyOf(builder.tones, count);
+        this.durations = Arrays.copyOf(builder.durations, count);
+        this.velocities = Arrays.copyOf(builder.velocities, count);
+        this.accents = Arrays.copyOf(builder.accents, count);
+        this.techniques = Arrays.copyOf(builder.techniques, count);
+        this.timingJitter = builder.timingJitter;
+        this.velocityJitter = builder.velocityJitter;
+        this.loopTicks = builder.loopTicks;
+    }
+
+    /**
+     * Compiles a pattern for every chord size from 0 to {@link #MAX_TONES}.
+     *
+     * @param compiler builds the template for a given number of chord tones
+     * @return templates indexed by tone count
+     */
+    public static PatternTemplate[] compileAll(IntFunction<PatternTemplate> compiler) {
+        PatternTemplate[] templates = new PatternTemplate[MAX_TONES + 1];
+        for (int toneCount = 0; toneCount <= MAX_TONES; toneCount++) {
+            templates[toneCount] = compiler.apply(toneCount);
+        }
+        return templates;
+    }
+
+    /**
+     * Renders a chord with the template matching its size.
+     *
+     * @param templates templates from {@link #compileAll(IntFunction)}
+     * @param chord the chord to play
+     * @param beatsPerMeasure number of beats in the bar
+     * @param out buffer the events are appended to
+     */
+    public static void render(PatternTemplate[] templates, Chord chord, int beatsPerMeasure, EventBuffer out) {
+        int toneCount = out.loadChord(chord);
+        PatternTemplate template = templates[toneCount];
+        template.instantiate(beatsPerMeasure * template.stepsPerBeat, out);
+    }
+
+    /**
+     * Renders a chord in a meter with the template matching its size. Steps
+     * starting before the end of the bar are played, so a pattern of
+     * quarter-note steps plays four of them in 7/8.
+     *
+     * @param templates templates from {@link #compileAll(IntFunction)}
+     * @param chord the chord to play
+     * @param meter the meter of the bar
+     * @param out buffer the events are appended to
+     */
+    public static void render(PatternTemplate[] templates, Chord chord, Meter meter, EventBuffer out) {
+        int toneCount = out.loadChord(chord);
+        PatternTemplate template = templates[toneCount];
+        template.instantiate(meter.getSteps(template.stepsPerBeat), out);
+    }
+
+    /**
+     * Appends the events of this template using the chord pitches loaded into
+     * the buffer. Steps past the end of the bar are skipped; a looping
+     * template repeats until the bar is full.
+     *
+     * @param barSteps number of steps in the bar
+     */
+    private void instantiate(int barSteps, EventBuffer out) {
+        int stepCount = stepEnds.length;
+        if (loopTicks <= 0 || stepCount == 0) {
+            int steps = Math.min(stepCount, barSteps);
+            emit(steps == 0 ? 0 : stepEnds[steps - 1], 0, out);
+            return;
+        }
+        int offset = 0;
+        for (int start = 0; start < barSteps; start += stepCount, offset += loopTicks) {
+            int steps = Math.min(stepCount, barSteps - start);
+            emit(stepEnds[steps - 1], offset, out);
+        }
+    }
+
+    private void emit(int end, int offset, EventBuffer out) {
+        RandomSource random = out.getRandom();
+        for (int e = 0; e < end; e++) {
+            // Humanization parameters
+            int timingOffset = random.jitter(timingJitter);
+            int velocityVariation = random.jitter(velocityJitter);
+            out.addTicks(out.chordPitch(tones[e]), times[e] + offset, durations[e], velocities[e],
+                timingOffset, velocityVariation, accents[e], techniques[e]);
+        }
+    }
+
+    public int getStepCount() {
+        return stepEnds.length;
+    }
+
+    public int getEventCount() {
+        return times.length;
+    }
+
+    public int getStepsPerBeat() {
+        return stepsPerBeat;
+    }
+
+    /**
+     * Gets the loop length in beats, or 0 if the template plays once per bar.
+     */
+    public double getLoopBeats() {
+        return Ticks.toBeats(loopTicks);
+    }
+
+    /**
+     * Builds a template step by step.
+     */
+    public static final class Builder {
+        private final int stepsPerBeat;
+        private int steps;
+        private int[] stepEnds = new int[8];
+        private int count;
+        private int[] times = new int[16];
+        private byte[] tones = new byte[16];
+        private int[] durations = new int[16];
+        private int[] velocities = new int[16];
+        private boolean[] accents = new boolean[16];
+        private Technique[] techniques = new Technique[16];
+        private int timingJitter;
+        private int velocityJitter;
+        private int loopTicks;
+
+        /**
+         * @param stepsPerBeat steps in one beat, used to cut the pattern to the bar length
+         */
+        public Builder(int stepsPerBeat) {
+            if (stepsPerBeat <= 0) {
+                throw new IllegalArgumentException("Steps per beat must be positive");
+            }
+            this.stepsPerBeat = stepsPerBeat;
+        }
+
+        /**
+         * Sets the random humanization range: timing in beats, velocity in MIDI units.
+         */
+        public Builder jitter(double timing, int velocity) {
+            this.timingJitter = Ticks.fromBeats(timing);
+            this.velocityJitter = velocity;
+            return this;
+        }
+
+        /**
+         * Makes the template repeat every {@code beats} beats to fill longer bars.
+         */
+        public Builder loop(double beats) {
+            if (beats <= 0) {
+                throw new IllegalArgumentException("Loop length must be positive");
+            }
+            this.loopTicks = Ticks.fromBeats(beats);
+            return this;
+        }
+
+        /**
+         * Starts a new step; following events belong to it. A step without
+         * events is a rest.
+         */
+        public Builder step() {
+            if (steps == stepEnds.length) {
+                stepEnds = Arrays.copyOf(stepEnds, steps * 2);
+            }
+            stepEnds[steps++] = count;
+            return this;
+        }
+
+        /**
+         * Adds an event to the current step.
+         *
+         * @param time start time in beats
+         * @param tone index of the chord tone, below {@link #MAX_TONES}
+         */
+        public Builder event(double time, int tone, double duration, int velocity,
+                             boolean accent, Technique technique) {
+            if (steps == 0) {
+                throw new IllegalStateException("Call step() before adding events");
+            }
+            if (tone < 0 || tone >= MAX_TONES) {
+                throw new IllegalArgumentException("Tone index out of range: " + tone);
+            }
+            if (count == times.length) {
+                int capacity = count * 2;
+                times = Arrays.copyOf(times, capacity);
+                tones = Arrays.copyOf(tones, capacity);
+                durations = Arrays.copyOf(durations, capacity);
+                velocities = Arrays.copyOf(velocities, capacity);
+                accents = Arrays.copyOf(accents, capacity);
+                techniques = Arrays.copyOf(techniques, capacity);
+            }
+            times[count] = Ticks.fromBeats(time);
+            tones[count] = (byte) tone;
+            durations[count] = Ticks.fromBeats(duration);
+            velocities[count] = velocity;
+            accents[count] = accent;
+            techniques[count] = technique;
+            count++;
+            stepEnds[steps - 1] = count;
+            return this;
+        }
+
+        public PatternTemplate build() {
+            return new PatternTemplate(this);
+        }
+    }
+}
@@ -11,7 +11,7 @@ import java.util.List;
  * @author VSGE Team
  * @version 1.0.0
  */
-public interface RhythmPattern {
+public interface RhythmPattern extends EventSource {
     
     /**
      * Generates rhythm events for a chord based on the pattern.
@@ -23,6 +23,18 @@ public interface RhythmPattern {
      */
     List<RhythmEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo);
     
+    /**
+     * Appends the rhythm events for a chord to a reusable buffer. Patterns
+     * backed by a {@link PatternTemplate} override this to render without
+     * allocating; the default adapts {@link #generatePattern(Chord, int, int)}.
+     */
+    @Override
+    default void render(Chord chord, int beatsPerMeasure, int tempo, EventBuffer out) {
+        for (RhythmEvent event : generatePattern(chord, beatsPerMeasure, tempo)) {
+            out.add(event);
+        }
+    }
+    
     /**
      * Returns the name of this rhythm pattern.
      */
@@ -1,6 +1,17 @@
 package com.vsge.music.rhythm;
 
 import com.vsge.music.rhythm.impl.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory for creating rhythm patterns.
@@ -11,6 +22,11 @@ import com.vsge.music.rhythm.impl.*;
  */
 public class RhythmPatternFactory {
     
+    private static final String[] BUILT_IN = {"folk", "pop", "jazz", "rock"};
+    
+    // Text patterns registered at runtime, by lower-case name
+    private static final Map<String, TextRhythmPattern> REGISTERED = new ConcurrentHashMap<>();
+    
     /**
      * Creates a rhythm pattern based on the style name.
      * 
@@ -33,17 +49,90 @@ public class RhythmPatternFactory {
             case "rock":
                 return new RockPowerPattern();
             default:
-                throw new IllegalArgumentException("Unknown style: " + styleName);
+                TextRhythmPattern pattern = REGISTERED.get(styleName.toLowerCase());
+                if (pattern == null) {
+                    throw new IllegalArgumentException("Unknown style: " + styleName);
+                }
+                return pattern;
+        }
+    }
+    
+    /**
+     * Registers a text pattern under a name, replacing any earlier pattern
+     * with that name. See {@link PatternParser} for the pattern language.
+     * 
+     * @param name the style name
+     * @param source the pattern text
+     * @return the compiled pattern
+     * @throws IllegalArgumentException if the name is built in or the pattern is malformed
+     */
+    public static RhythmPattern register(String name, String source) {
+        TextRhythmPattern pattern = new TextRhythmPattern(name, source);
+        String key = pattern.getName().toLowerCase();
+        for (String builtIn : BUILT_IN) {
+            if (builtIn.equals(key)) {
+                throw new IllegalArgumentException("Cannot replace built-in style: " + name);
+            }
+        }
+        REGISTERED.put(key, pattern);
+        return pattern;
+    }
+    
+    /**
+     * Loads text patterns from a UTF-8 file of {@code name = pattern} lines.
+     * Blank lines and lines starting with {@code #} are ignored.
+     * 
+     * @param file the pattern file
+     * @return the number of patterns registered
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a line is malformed; earlier lines stay registered
+     */
+    public static int loadPatterns(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return loadPatterns(reader);
+        }
+    }
+    
+    /**
+     * Loads text patterns from a reader of {@code name = pattern} lines.
+     * 
+     * @see #loadPatterns(Path)
+     */
+    public static int loadPatterns(Reader reader) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader
+            ? (BufferedReader) reader : new BufferedReader(reader);
+        int count = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            int equals = trimmed.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected 'name = pattern'");
+            }
+            try {
+                register(trimmed.substring(0, equals), trimmed.substring(equals + 1).trim());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+            count++;
         }
+        return count;
     }
     
     /**
-     * Gets all available rhythm pattern names.
+     * Gets all available rhythm pattern names, built-in ones first.
      * 
      * @return array of available pattern names
      */
     public static String[] getAvailablePatterns() {
-        return new String[]{"folk", "pop", "jazz", "rock"};
+        List<String> names = new ArrayList<>(Arrays.asList(BUILT_IN));
+        names.addAll(REGISTERED.keySet());
+        return names.toArray(new String[0]);
     }
     
     /**
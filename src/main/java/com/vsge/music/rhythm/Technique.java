@@ -0,0 +1,28 @@
+package com.vsge.music.rhythm;
+
+/**
+ * Playing technique of a rhythm event.
+ * 
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public enum Technique {
+    DOWN("down"),
+    UP("up"),
+    THUMB("thumb"),
+    FINGER("finger"),
+    CHORD("chord");
+
+    private final String name;
+
+    Technique(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the lower-case name used by {@link RhythmPattern.RhythmEvent}.
+     */
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,67 @@
+package com.vsge.music.rhythm;
+
+import com.vsge.music.chord.Chord;
+import java.util.List;
+
+/**
+ * Rhythm pattern defined in the {@link PatternParser} language, such as
+ * {@code "D.DU.UDU"} or {@code "T 3 2 3 T 3 2 3"}.
+ * 
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class TextRhythmPattern implements RhythmPattern {
+    private final String name;
+    private final String source;
+    private final PatternTemplate[] templates;
+    
+    /**
+     * Creates a pattern from its source text.
+     * 
+     * @param name the pattern name
+     * @param source the pattern text
+     * @throws IllegalArgumentException if the name is empty or the pattern is malformed
+     */
+    public TextRhythmPattern(String name, String source) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Pattern name cannot be null or empty");
+        }
+        this.name = name.trim();
+        this.source = source;
+        this.templates = PatternParser.compile(source);
+    }
+    
+    /**
+     * Gets the pattern text this pattern was compiled from.
+     */
+    public String getSource() {
+        return source;
+    }
+    
+    @Override
+    public List<RhythmEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
+        EventBuffer buffer = new EventBuffer();
+        render(chord, beatsPerMeasure, tempo, buffer);
+        return buffer.toRhythmEvents();
+    }
+    
+    @Override
+    public void render(Chord chord, int beatsPerMeasure, int tempo, EventBuffer out) {
+        PatternTemplate.render(templates, chord, beatsPerMeasure, out);
+    }
+    
+    @Override
+    public void render(Chord chord, Meter meter, int tempo, EventBuffer out) {
+        PatternTemplate.render(templates, chord, meter, out);
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Pattern \"" + source.trim() + "\"";
+    }
+}
@@ -0,0 +1,37 @@
+package com.vsge.music.rhythm;
+
+/**
+ * The engine's integer timebase: {@value #PPQ} ticks per quarter-note beat.
+ *
+ * <p>Rendered events, humanization offsets and bar positions are held in
+ * ticks, so timing is exact and reproducible and the hot loops use integer
+ * arithmetic. 960 divides evenly by 2, 3, 4, 5, 6, 8, 10, 12, 15 and 16, so
+ * every common subdivision and tuplet falls on a whole tick. Times are
+ * converted from beats once, when an event enters an {@link EventBuffer},
+ * and to wall-clock time once, by the tempo map.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class Ticks {
+    /** Ticks per quarter note. */
+    public static final int PPQ = 960;
+
+    private Ticks() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Converts beats to the nearest tick.
+     */
+    public static int fromBeats(double beats) {
+        return (int) Math.round(beats * PPQ);
+    }
+
+    /**
+     * Converts ticks to beats.
+     */
+    public static double toBeats(long ticks) {
+        return (double) ticks / PPQ;
+    }
+}
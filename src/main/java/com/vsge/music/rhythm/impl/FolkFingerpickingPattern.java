@@ -1,9 +1,12 @@
 package com.vsge.music.rhythm.impl;
 
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.MeterTemplates;
+import com.vsge.music.rhythm.PatternTemplate;
 import com.vsge.music.rhythm.RhythmPattern;
+import com.vsge.music.rhythm.Technique;
 import com.vsge.music.chord.Chord;
-import com.vsge.music.theory.Note;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -21,43 +24,69 @@ public class FolkFingerpickingPattern implements RhythmPattern {
     private static final int[] VELOCITIES = {80, 60, 70, 60, 80, 60, 70, 60}; // bass stronger
     private static final boolean[] ACCENTS = {true, false, false, false, true, false, false, false};
     
-    @Override
-    public List<RhythmEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
-        List<RhythmEvent> events = new ArrayList<>();
-        List<Note> chordNotes = chord.getNotes();
+    private static final MeterTemplates TEMPLATES = new MeterTemplates(FolkFingerpickingPattern::compile);
+    
+    /**
+     * Compiles the pattern for a meter and a chord with the given number of tones.
+     */
+    private static PatternTemplate compile(Meter meter, int toneCount) {
+        // Humanization: ±25ms timing, ±5 velocity
+        PatternTemplate.Builder builder = new PatternTemplate.Builder(2).jitter(0.05, 10);
         
         // Ensure we have at least 3 notes for proper fingerpicking
-        if (chordNotes.size() < 3) {
-            return events;
+        if (toneCount < 3) {
+            return builder.build();
         }
         
-        for (int i = 0; i < TIMING.length && i < beatsPerMeasure * 2; i++) {
-            int noteIndex = NOTE_INDICES[i % NOTE_INDICES.length] % chordNotes.size();
-            Note note = chordNotes.get(noteIndex);
-            
-            // Humanization parameters
-            double timingOffset = (Math.random() - 0.5) * 0.05; // ±25ms variation
-            int velocityVariation = (int)((Math.random() - 0.5) * 10); // ±5 velocity variation
-            
-            // Bass notes get more emphasis
-            int baseVelocity = VELOCITIES[i % VELOCITIES.length];
-            if (noteIndex == 0) { // Bass note
-                baseVelocity += 10;
+        if (meter.getBeatUnit() == 8) {
+            // Eighth-note meters: thumb on the bass at the start of each
+            // group, fingers alternating on the upper tones in between
+            int eighth = 0;
+            int finger = 0;
+            for (int group : meter.getGroups()) {
+                for (int k = 0; k < group; k++, eighth++) {
+                    int noteIndex = k == 0 ? 0 : (finger++ % 2 == 0 ? 2 : 1);
+                    int velocity = k == 0 ? VELOCITIES[0] : noteIndex == 1 ? VELOCITIES[2] : VELOCITIES[1];
+                    pick(builder.step(), eighth * 0.5, noteIndex, velocity, k == 0);
+                }
             }
-            
-            events.add(new RhythmEvent(
-                note,
-                TIMING[i],
-                0.4, // Short duration for fingerpicking
-                baseVelocity,
-                timingOffset,
-                velocityVariation,
-                ACCENTS[i % ACCENTS.length],
-                noteIndex == 0 ? "thumb" : "finger"
-            ));
+            return builder.build();
         }
         
-        return events;
+        builder.loop(4.0);
+        for (int i = 0; i < TIMING.length; i++) {
+            pick(builder.step(), TIMING[i], NOTE_INDICES[i] % toneCount, VELOCITIES[i], ACCENTS[i]);
+        }
+        return builder.build();
+    }
+    
+    private static void pick(PatternTemplate.Builder builder, double time, int noteIndex,
+                             int velocity, boolean accent) {
+        // Bass notes get more emphasis
+        int baseVelocity = velocity;
+        if (noteIndex == 0) { // Bass note
+            baseVelocity += 10;
+        }
+        
+        builder.event(time, noteIndex, 0.4, baseVelocity, accent,
+            noteIndex == 0 ? Technique.THUMB : Technique.FINGER);
+    }
+    
+    @Override
+    public List<RhythmEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
+        EventBuffer buffer = new EventBuffer();
+        render(chord, beatsPerMeasure, tempo, buffer);
+        return buffer.toRhythmEvents();
+    }
+    
+    @Override
+    public void render(Chord chord, int beatsPerMeasure, int tempo, EventBuffer out) {
+        PatternTemplate.render(TEMPLATES.get(Meter.FOUR_FOUR), chord, beatsPerMeasure, out);
+    }
+    
+    @Override
+    public void render(Chord chord, Meter meter, int tempo, EventBuffer out) {
+        TEMPLATES.render(chord, meter, out);
     }
     
     @Override
@@ -1,9 +1,12 @@
 package com.vsge.music.rhythm.impl;
 
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.MeterTemplates;
+import com.vsge.music.rhythm.PatternTemplate;
 import com.vsge.music.rhythm.RhythmPattern;
+import com.vsge.music.rhythm.Technique;
 import com.vsge.music.chord.Chord;
-import com.vsge.music.theory.Note;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -19,47 +22,71 @@ public class JazzCompingPattern implements RhythmPattern {
     private static final double[] TIMING = {0.0, 0.75, 1.5, 2.25, 3.0};
     private static final int[] VELOCITIES = {70, 85, 70, 85, 70}; // Emphasis on 2 and 4
     private static final boolean[] ACCENTS = {false, true, false, true, false};
-    private static final String[] TECHNIQUES = {"chord", "chord", "chord", "chord", "chord"};
     
-    @Override
-    public List<RhythmEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
-        List<RhythmEvent> events = new ArrayList<>();
-        List<Note> chordNotes = chord.getNotes();
-        
-        // Jazz comping typically uses 3-4 note voicings, emphasize 3rd and 7th
-        for (int i = 0; i < TIMING.length && i < beatsPerMeasure; i++) {
-            // Play chord notes with slight stagger for jazz feel
-            for (int j = 0; j < chordNotes.size(); j++) {
-                Note note = chordNotes.get(j);
-                
-                // Jazz voicing: slight delay between notes for sophisticated sound
-                double noteDelay = j * 0.01; // 10ms delay between notes
-                double noteStartTime = TIMING[i] + noteDelay;
-                
-                // Humanization parameters (more subtle for jazz)
-                double timingOffset = (Math.random() - 0.5) * 0.02; // ±10ms variation
-                int velocityVariation = (int)((Math.random() - 0.5) * 6); // ±3 velocity variation
-                
-                // Emphasize 3rd and 7th (typically indices 1 and 3 in jazz chords)
-                int baseVelocity = VELOCITIES[i % VELOCITIES.length];
-                if (j == 1 || j == 3) { // 3rd and 7th
-                    baseVelocity += 10;
+    private static final MeterTemplates TEMPLATES = new MeterTemplates(JazzCompingPattern::compile);
+    
+    /**
+     * Compiles the pattern for a meter and a chord with the given number of tones.
+     */
+    private static PatternTemplate compile(Meter meter, int toneCount) {
+        // Humanization (more subtle for jazz): ±10ms timing, ±3 velocity
+        if (meter.getBeatUnit() == 8) {
+            // Eighth-note meters: the downbeat, then an accented push on the
+            // last eighth of every group
+            PatternTemplate.Builder builder = new PatternTemplate.Builder(2).jitter(0.02, 6);
+            int eighth = 0;
+            for (int group : meter.getGroups()) {
+                for (int k = 0; k < group; k++, eighth++) {
+                    builder.step();
+                    if (eighth == 0) {
+                        comp(builder, 0.0, toneCount, VELOCITIES[0], 0.4, ACCENTS[0]);
+                    } else if (k == group - 1) {
+                        comp(builder, eighth * 0.5, toneCount, VELOCITIES[1], 0.4, ACCENTS[1]);
+                    }
                 }
-                
-                events.add(new RhythmEvent(
-                    note,
-                    noteStartTime,
-                    0.6, // Longer duration for jazz chords
-                    baseVelocity,
-                    timingOffset,
-                    velocityVariation,
-                    ACCENTS[i % ACCENTS.length],
-                    TECHNIQUES[i % TECHNIQUES.length]
-                ));
             }
+            return builder.build();
         }
         
-        return events;
+        PatternTemplate.Builder builder = new PatternTemplate.Builder(1).jitter(0.02, 6);
+        for (int i = 0; i < TIMING.length; i++) {
+            comp(builder.step(), TIMING[i], toneCount, VELOCITIES[i], 0.6, ACCENTS[i]);
+        }
+        return builder.build();
+    }
+    
+    private static void comp(PatternTemplate.Builder builder, double time, int toneCount,
+                             int velocity, double duration, boolean accent) {
+        // Jazz comping typically uses 3-4 note voicings, emphasize 3rd and 7th
+        for (int j = 0; j < toneCount; j++) {
+            // Jazz voicing: slight delay between notes for sophisticated sound
+            double noteDelay = j * 0.01; // 10ms delay between notes
+            
+            // Emphasize 3rd and 7th (typically indices 1 and 3 in jazz chords)
+            int baseVelocity = velocity;
+            if (j == 1 || j == 3) { // 3rd and 7th
+                baseVelocity += 10;
+            }
+            
+            builder.event(time + noteDelay, j, duration, baseVelocity, accent, Technique.CHORD);
+        }
+    }
+    
+    @Override
+    public List<RhythmEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
+        EventBuffer buffer = new EventBuffer();
+        render(chord, beatsPerMeasure, tempo, buffer);
+        return buffer.toRhythmEvents();
+    }
+    
+    @Override
+    public void render(Chord chord, int beatsPerMeasure, int tempo, EventBuffer out) {
+        PatternTemplate.render(TEMPLATES.get(Meter.FOUR_FOUR), chord, beatsPerMeasure, out);
+    }
+    
+    @Override
+    public void render(Chord chord, Meter meter, int tempo, EventBuffer out) {
+        TEMPLATES.render(chord, meter, out);
     }
     
     @Override
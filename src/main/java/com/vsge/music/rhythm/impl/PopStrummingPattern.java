@@ -1,9 +1,12 @@
 package com.vsge.music.rhythm.impl;
 
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.MeterTemplates;
+import com.vsge.music.rhythm.PatternTemplate;
 import com.vsge.music.rhythm.RhythmPattern;
+import com.vsge.music.rhythm.Technique;
 import com.vsge.music.chord.Chord;
-import com.vsge.music.theory.Note;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -19,46 +22,72 @@ public class PopStrummingPattern implements RhythmPattern {
     private static final double[] TIMING = {0.0, 0.5, 1.0, 1.5, 2.0, 2.5, 3.0, 3.5};
     private static final int[] VELOCITIES = {90, 60, 85, 65, 90, 60, 85, 65}; // Downstrokes stronger
     private static final boolean[] ACCENTS = {true, false, true, false, true, false, true, false};
-    private static final String[] TECHNIQUES = {"down", "up", "down", "up", "down", "up", "down", "up"};
+    private static final Technique[] TECHNIQUES = {
+        Technique.DOWN, Technique.UP, Technique.DOWN, Technique.UP,
+        Technique.DOWN, Technique.UP, Technique.DOWN, Technique.UP
+    };
     
-    @Override
-    public List<RhythmEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
-        List<RhythmEvent> events = new ArrayList<>();
-        List<Note> chordNotes = chord.getNotes();
-        
-        for (int i = 0; i < TIMING.length && i < beatsPerMeasure * 2; i++) {
-            // Play all chord notes simultaneously for strumming
-            for (int j = 0; j < chordNotes.size(); j++) {
-                Note note = chordNotes.get(j);
-                
-                // Strumming effect: slight delay between strings
-                double stringDelay = j * 0.02; // 20ms delay between strings
-                double noteStartTime = TIMING[i] + stringDelay;
-                
-                // Humanization parameters
-                double timingOffset = (Math.random() - 0.5) * 0.03; // ±15ms variation
-                int velocityVariation = (int)((Math.random() - 0.5) * 8); // ±4 velocity variation
-                
-                // Downstrokes are stronger and more consistent
-                int baseVelocity = VELOCITIES[i % VELOCITIES.length];
-                if (TECHNIQUES[i % TECHNIQUES.length].equals("down")) {
-                    baseVelocity += 5;
+    private static final MeterTemplates TEMPLATES = new MeterTemplates(PopStrummingPattern::compile);
+    
+    /**
+     * Compiles the pattern for a meter and a chord with the given number of tones.
+     */
+    private static PatternTemplate compile(Meter meter, int toneCount) {
+        // Humanization: ±15ms timing, ±4 velocity
+        PatternTemplate.Builder builder = new PatternTemplate.Builder(2).jitter(0.03, 8);
+        if (meter.getBeatUnit() == 8) {
+            // Eighth-note meters: an accented downstroke opens each group,
+            // the last eighth of a group is an upstroke (D-U, D-d-U)
+            int eighth = 0;
+            for (int group : meter.getGroups()) {
+                for (int k = 0; k < group; k++, eighth++) {
+                    Technique technique = k > 0 && k == group - 1 ? Technique.UP : Technique.DOWN;
+                    int velocity = k == 0 ? 90 : technique == Technique.UP ? 60 : 70;
+                    strum(builder.step(), eighth * 0.5, toneCount, velocity, k == 0, technique);
                 }
-                
-                events.add(new RhythmEvent(
-                    note,
-                    noteStartTime,
-                    0.3, // Short duration for strumming
-                    baseVelocity,
-                    timingOffset,
-                    velocityVariation,
-                    ACCENTS[i % ACCENTS.length],
-                    TECHNIQUES[i % TECHNIQUES.length]
-                ));
             }
+            return builder.build();
         }
         
-        return events;
+        builder.loop(4.0);
+        for (int i = 0; i < TIMING.length; i++) {
+            strum(builder.step(), TIMING[i], toneCount, VELOCITIES[i], ACCENTS[i], TECHNIQUES[i]);
+        }
+        return builder.build();
+    }
+    
+    private static void strum(PatternTemplate.Builder builder, double time, int toneCount,
+                              int velocity, boolean accent, Technique technique) {
+        // Play all chord notes for strumming
+        for (int j = 0; j < toneCount; j++) {
+            // Strumming effect: slight delay between strings
+            double stringDelay = j * 0.02; // 20ms delay between strings
+            
+            // Downstrokes are stronger and more consistent
+            int baseVelocity = velocity;
+            if (technique == Technique.DOWN) {
+                baseVelocity += 5;
+            }
+            
+            builder.event(time + stringDelay, j, 0.3, baseVelocity, accent, technique);
+        }
+    }
+    
+    @Override
+    public List<RhythmEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
+        EventBuffer buffer = new EventBuffer();
+        render(chord, beatsPerMeasure, tempo, buffer);
+        return buffer.toRhythmEvents();
+    }
+    
+    @Override
+    public void render(Chord chord, int beatsPerMeasure, int tempo, EventBuffer out) {
+        PatternTemplate.render(TEMPLATES.get(Meter.FOUR_FOUR), chord, beatsPerMeasure, out);
+    }
+    
+    @Override
+    public void render(Chord chord, Meter meter, int tempo, EventBuffer out) {
+        TEMPLATES.render(chord, meter, out);
     }
     
     @Override
@@ -1,9 +1,12 @@
 package com.vsge.music.rhythm.impl;
 
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.MeterTemplates;
+import com.vsge.music.rhythm.PatternTemplate;
 import com.vsge.music.rhythm.RhythmPattern;
+import com.vsge.music.rhythm.Technique;
 import com.vsge.music.chord.Chord;
-import com.vsge.music.theory.Note;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -19,47 +22,68 @@ public class RockPowerPattern implements RhythmPattern {
     private static final double[] TIMING = {0.0, 1.0, 2.0, 3.0};
     private static final int[] VELOCITIES = {110, 110, 110, 110}; // High velocity for power
     private static final boolean[] ACCENTS = {true, true, true, true}; // All accented
-    private static final String[] TECHNIQUES = {"down", "down", "down", "down"};
     
-    @Override
-    public List<RhythmEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
-        List<RhythmEvent> events = new ArrayList<>();
-        List<Note> chordNotes = chord.getNotes();
-        
-        // Rock power chords typically use root and fifth (first two notes)
-        for (int i = 0; i < TIMING.length && i < beatsPerMeasure; i++) {
-            // Play root and fifth with slight delay for power chord effect
-            for (int j = 0; j < Math.min(2, chordNotes.size()); j++) {
-                Note note = chordNotes.get(j);
-                
-                // Power chord effect: slight delay between root and fifth
-                double noteDelay = j * 0.01; // 10ms delay
-                double noteStartTime = TIMING[i] + noteDelay;
-                
-                // Humanization parameters (minimal for rock consistency)
-                double timingOffset = (Math.random() - 0.5) * 0.01; // ±5ms variation
-                int velocityVariation = (int)((Math.random() - 0.5) * 4); // ±2 velocity variation
-                
-                // Rock power: high velocity with slight palm muting effect
-                int baseVelocity = VELOCITIES[i % VELOCITIES.length];
-                if (j == 1) { // Fifth note slightly softer for palm muting effect
-                    baseVelocity -= 5;
+    private static final MeterTemplates TEMPLATES = new MeterTemplates(RockPowerPattern::compile);
+    
+    /**
+     * Compiles the pattern for a meter and a chord with the given number of tones.
+     */
+    private static PatternTemplate compile(Meter meter, int toneCount) {
+        // Humanization (minimal for rock consistency): ±5ms timing, ±2 velocity
+        if (meter.getBeatUnit() == 8) {
+            // Eighth-note meters: one stroke per group, held for the group
+            PatternTemplate.Builder builder = new PatternTemplate.Builder(2).jitter(0.01, 4);
+            int eighth = 0;
+            for (int group : meter.getGroups()) {
+                builder.step();
+                hit(builder, eighth * 0.5, toneCount, VELOCITIES[0], group * 0.4, ACCENTS[0]);
+                for (int k = 1; k < group; k++) {
+                    builder.step();
                 }
-                
-                events.add(new RhythmEvent(
-                    note,
-                    noteStartTime,
-                    0.8, // Longer duration for power chords
-                    baseVelocity,
-                    timingOffset,
-                    velocityVariation,
-                    ACCENTS[i % ACCENTS.length],
-                    TECHNIQUES[i % TECHNIQUES.length]
-                ));
+                eighth += group;
             }
+            return builder.build();
         }
         
-        return events;
+        PatternTemplate.Builder builder = new PatternTemplate.Builder(1).jitter(0.01, 4).loop(4.0);
+        for (int i = 0; i < TIMING.length; i++) {
+            hit(builder.step(), TIMING[i], toneCount, VELOCITIES[i], 0.8, ACCENTS[i]);
+        }
+        return builder.build();
+    }
+    
+    private static void hit(PatternTemplate.Builder builder, double time, int toneCount,
+                            int velocity, double duration, boolean accent) {
+        // Rock power chords typically use root and fifth (first two notes)
+        for (int j = 0; j < Math.min(2, toneCount); j++) {
+            // Power chord effect: slight delay between root and fifth
+            double noteDelay = j * 0.01; // 10ms delay
+            
+            // Rock power: high velocity with slight palm muting effect
+            int baseVelocity = velocity;
+            if (j == 1) { // Fifth note slightly softer for palm muting effect
+                baseVelocity -= 5;
+            }
+            
+            builder.event(time + noteDelay, j, duration, baseVelocity, accent, Technique.DOWN);
+        }
+    }
+    
+    @Override
+    public List<RhythmEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
+        EventBuffer buffer = new EventBuffer();
+        render(chord, beatsPerMeasure, tempo, buffer);
+        return buffer.toRhythmEvents();
+    }
+    
+    @Override
+    public void render(Chord chord, int beatsPerMeasure, int tempo, EventBuffer out) {
+        PatternTemplate.render(TEMPLATES.get(Meter.FOUR_FOUR), chord, beatsPerMeasure, out);
+    }
+    
+    @Override
+    public void render(Chord chord, Meter meter, int tempo, EventBuffer out) {
+        TEMPLATES.render(chord, meter, out);
     }
     
     @Override
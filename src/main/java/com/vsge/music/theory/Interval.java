@@ -2,7 +2,9 @@ package com.vsge.music.theory;
 
 /**
  * Represents a musical interval between two notes.
- * 
+ * Covers simple intervals up to the octave and compound intervals up to the
+ * double octave, so chord extensions (9ths, 11ths, 13ths) keep their size.
+ *
  * @author VSGE Team
  * @version 1.0.0
  */
@@ -19,7 +21,25 @@ public enum Interval {
   MAJOR_SIXTH(9, "M6"),
   MINOR_SEVENTH(10, "m7"),
   MAJOR_SEVENTH(11, "M7"),
-  OCTAVE(12, "P8");
+  OCTAVE(12, "P8"),
+  MINOR_NINTH(13, "m9"),
+  MAJOR_NINTH(14, "M9"),
+  MINOR_TENTH(15, "m10"),
+  MAJOR_TENTH(16, "M10"),
+  PERFECT_ELEVENTH(17, "P11"),
+  AUGMENTED_ELEVENTH(18, "A11"),
+  PERFECT_TWELFTH(19, "P12"),
+  MINOR_THIRTEENTH(20, "m13"),
+  MAJOR_THIRTEENTH(21, "M13"),
+  MINOR_FOURTEENTH(22, "m14"),
+  MAJOR_FOURTEENTH(23, "M14"),
+  DOUBLE_OCTAVE(24, "P15");
+
+  /** Largest interval covered, in semitones. */
+  public static final int MAX_SEMITONES = 24;
+
+  // Declaration order equals semitone order, so values() is the lookup table
+  private static final Interval[] BY_SEMITONES = values();
 
   private final int semitones;
   private final String symbol;
@@ -32,13 +52,73 @@ public enum Interval {
   public int getSemitones() { return semitones; }
   public String getSymbol() { return symbol; }
 
+  /**
+   * Whether this interval spans more than an octave.
+   */
+  public boolean isCompound() {
+    return semitones > 12;
+  }
+
+  /**
+   * Returns the simple interval of a compound one (a ninth becomes a
+   * second). Intervals up to the octave are returned unchanged.
+   */
+  public Interval getSimple() {
+    return semitones > 12 ? BY_SEMITONES[semitones - 12] : this;
+  }
+
+  /**
+   * Returns this interval an octave wider (a second becomes a ninth).
+   *
+   * @throws IllegalArgumentException if the result exceeds the double octave
+   */
+  public Interval getCompound() {
+    return fromSemitones(semitones + 12);
+  }
+
+  /**
+   * Returns the interval spanning an exact number of semitones.
+   *
+   * @param semitones interval size, 0 to {@link #MAX_SEMITONES}
+   * @throws IllegalArgumentException if the size is out of range
+   */
   public static Interval fromSemitones(int semitones) {
-    for (Interval interval : values()) {
-      if (interval.semitones == semitones % 12) {
-        return interval;
-      }
+    if (semitones < 0 || semitones > MAX_SEMITONES) {
+      throw new IllegalArgumentException("Invalid semitone count: " + semitones);
     }
-    throw new IllegalArgumentException("Invalid semitone count: " + semitones);
+    return BY_SEMITONES[semitones];
   }
-}
 
+  /**
+   * Returns the simple interval (unison to major seventh) of any signed
+   * semitone count, folding octaves away.
+   */
+  public static Interval reduce(int semitones) {
+    return BY_SEMITONES[Math.floorMod(semitones, 12)];
+  }
+
+  /**
+   * Returns the interval between two notes, regardless of their order.
+   *
+   * @throws IllegalArgumentException if the notes are more than two octaves apart
+   */
+  public static Interval between(Note a, Note b) {
+    return fromSemitones(Math.abs(b.getMidiNumber() - a.getMidiNumber()));
+  }
+
+  /**
+   * Returns the interval class (0-6) between two pitch-class values:
+   * the smaller of the two distances around the octave.
+   */
+  public static int intervalClass(int pitchA, int pitchB) {
+    int distance = Math.floorMod(pitchB - pitchA, 12);
+    return distance > 6 ? 12 - distance : distance;
+  }
+
+  /**
+   * Returns the interval class (0-6) between two notes, ignoring octaves.
+   */
+  public static int intervalClass(Note a, Note b) {
+    return intervalClass(a.getMidiNumber(), b.getMidiNumber());
+  }
+}
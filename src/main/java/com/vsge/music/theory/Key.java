@@ -0,0 +1,288 @@
+package com.vsge.music.theory;
+
+import com.vsge.music.chord.ChordType;
+import java.util.Arrays;
+
+/**
+ * Represents a key: a tonic pitch class and a scale.
+ * Immutable class following the value object pattern.
+ *
+ * <p>All 12 &times; {@link Scale} keys are built once at class load together
+ * with their lookup tables -- scale mask, degree of every pitch class, degree
+ * roots, triad and seventh-chord qualities, Roman numerals and the relative
+ * and parallel keys -- so every query is an array read. Degrees are 0-based.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class Key {
+  private static final Scale[] SCALES = Scale.values();
+  private static final Note.PitchClass[] PITCH_CLASSES = Note.PitchClass.values();
+  private static final String[] NUMERALS = {"I", "II", "III", "IV", "V", "VI", "VII"};
+
+  private static final Key[] KEYS = new Key[12 * SCALES.length];
+
+  // Degree chords depend only on the scale, so they are shared by all tonics
+  private static final ChordType[][] TRIADS = new ChordType[SCALES.length][];
+  private static final ChordType[][] SEVENTHS = new ChordType[SCALES.length][];
+  private static final String[][] ROMAN = new String[SCALES.length][];
+
+  static {
+    for (Scale scale : SCALES) {
+      harmonize(scale);
+    }
+    for (int tonic = 0; tonic < 12; tonic++) {
+      for (Scale scale : SCALES) {
+        KEYS[index(tonic, scale)] = new Key(tonic, scale);
+      }
+    }
+    for (Key key : KEYS) {
+      key.relative = relativeOf(key);
+      key.parallel = parallelOf(key);
+    }
+  }
+
+  private final Note.PitchClass tonic;
+  private final Scale scale;
+  private final int mask;
+  private final int[] roots;
+  private final byte[] degrees = new byte[12];
+  private Key relative;
+  private Key parallel;
+
+  private Key(int tonic, Scale scale) {
+    this.tonic = PITCH_CLASSES[tonic];
+    this.scale = scale;
+    this.mask = PitchClassSet.transpose(scale.getMask(), tonic);
+    this.roots = new int[scale.size()];
+    Arrays.fill(degrees, (byte) -1);
+    for (int degree = 0; degree < roots.length; degree++) {
+      roots[degree] = (tonic + scale.semitones(degree)) % 12;
+      degrees[roots[degree]] = (byte) degree;
+    }
+  }
+
+  private static int index(int tonic, Scale scale) {
+    return tonic * SCALES.length + scale.ordinal();
+  }
+
+  /**
+   * Returns the key for a tonic and scale.
+   */
+  public static Key of(Note.PitchClass tonic, Scale scale) {
+    if (tonic == null || scale == null) {
+      throw new IllegalArgumentException("Tonic and scale cannot be null");
+    }
+    return KEYS[index(tonic.getValue(), scale)];
+  }
+
+  public static Key major(Note.PitchClass tonic) {
+    return of(tonic, Scale.MAJOR);
+  }
+
+  public static Key minor(Note.PitchClass tonic) {
+    return of(tonic, Scale.NATURAL_MINOR);
+  }
+
+  /**
+   * Stacks thirds on each degree of a seven-note scale and names the result.
+   */
+  private static void harmonize(Scale scale) {
+    int s = scale.ordinal();
+    if (!scale.isHeptatonic()) {
+      return;
+    }
+    Scale major = Scale.MAJOR;
+    TRIADS[s] = new ChordType[7];
+    SEVENTHS[s] = new ChordType[7];
+    ROMAN[s] = new String[7];
+    for (int degree = 0; degree < 7; degree++) {
+      int third = above(scale, degree, 2);
+      int fifth = above(scale, degree, 4);
+      int seventh = above(scale, degree, 6);
+      ChordType triad = typeOf(third, fifth);
+      TRIADS[s][degree] = triad;
+      SEVENTHS[s][degree] = typeOf(third, fifth, seventh);
+
+      int shift = scale.semitones(degree) - major.semitones(degree);
+      String numeral = third == 3 ? NUMERALS[degree].toLowerCase() : NUMERALS[degree];
+      if (triad == ChordType.DIMINISHED) {
+        numeral += "°";
+      } else if (triad == ChordType.AUGMENTED) {
+        numeral += "+";
+      }
+      ROMAN[s][degree] = (shift < 0 ? "b" : shift > 0 ? "#" : "") + numeral;
+    }
+  }
+
+  private static int above(Scale scale, int degree, int steps) {
+    int target = degree + steps;
+    int semitones = scale.semitones(target % 7) + (target >= 7 ? 12 : 0);
+    return semitones - scale.semitones(degree);
+  }
+
+  private static ChordType typeOf(int... semitones) {
+    for (ChordType type : ChordType.values()) {
+      if (Arrays.equals(type.getSemitones(), semitones)) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  private static Key relativeOf(Key key) {
+    int tonic = key.tonic.getValue();
+    switch (key.scale) {
+      case MAJOR:
+        return KEYS[index((tonic + 9) % 12, Scale.NATURAL_MINOR)];
+      case MAJOR_PENTATONIC:
+        return KEYS[index((tonic + 9) % 12, Scale.MINOR_PENTATONIC)];
+      case MINOR_PENTATONIC:
+      case BLUES:
+        return KEYS[index((tonic + 3) % 12, Scale.MAJOR_PENTATONIC)];
+      case NATURAL_MINOR:
+      case HARMONIC_MINOR:
+      case MELODIC_MINOR:
+        return KEYS[index((tonic + 3) % 12, Scale.MAJOR)];
+      default:
+        // Church modes: the major key sharing the same notes
+        for (int t = 0; t < 12; t++) {
+          if (KEYS[index(t, Scale.MAJOR)].mask == key.mask) {
+            return KEYS[index(t, Scale.MAJOR)];
+          }
+        }
+        throw new IllegalStateException("No relative key for " + key);
+    }
+  }
+
+  private static Key parallelOf(Key key) {
+    int tonic = key.tonic.getValue();
+    switch (key.scale) {
+      case MAJOR_PENTATONIC:
+        return KEYS[index(tonic, Scale.MINOR_PENTATONIC)];
+      case MINOR_PENTATONIC:
+      case BLUES:
+        return KEYS[index(tonic, Scale.MAJOR_PENTATONIC)];
+      default:
+        return KEYS[index(tonic, key.scale.isMinor() ? Scale.MAJOR : Scale.NATURAL_MINOR)];
+    }
+  }
+
+  public Note.PitchClass getTonic() {
+    return tonic;
+  }
+
+  public Scale getScale() {
+    return scale;
+  }
+
+  /**
+   * Returns the 12-bit mask of the pitch classes in this key.
+   */
+  public int getMask() {
+    return mask;
+  }
+
+  public PitchClassSet getPitchClassSet() {
+    return PitchClassSet.fromMask(mask);
+  }
+
+  public boolean contains(Note.PitchClass pitch) {
+    return (mask & (1 << pitch.getValue())) != 0;
+  }
+
+  /**
+   * Whether every pitch class of a mask belongs to this key.
+   */
+  public boolean containsAll(int pitchMask) {
+    return (pitchMask & ~mask) == 0;
+  }
+
+  public int getDegreeCount() {
+    return roots.length;
+  }
+
+  /**
+   * Returns the degree of a pitch class in this key.
+   *
+   * @return the 0-based degree, or -1 if the pitch class is not in the key
+   */
+  public int degreeOf(Note.PitchClass pitch) {
+    return degrees[pitch.getValue()];
+  }
+
+  /**
+   * Returns the root pitch class of a degree.
+   */
+  public Note.PitchClass getRoot(int degree) {
+    return PITCH_CLASSES[roots[checkDegree(degree)]];
+  }
+
+  /**
+   * Returns the semitone offset of a degree above the tonic (0-11).
+   */
+  public int getOffset(int degree) {
+    return scale.semitones(checkDegree(degree));
+  }
+
+  /**
+   * Returns the triad quality built on a degree.
+   *
+   * @return the chord type, or null for scales that are not heptatonic
+   */
+  public ChordType getTriad(int degree) {
+    checkDegree(degree);
+    ChordType[] triads = TRIADS[scale.ordinal()];
+    return triads == null ? null : triads[degree];
+  }
+
+  /**
+   * Returns the seventh-chord quality built on a degree.
+   *
+   * @return the chord type, or null if the scale is not heptatonic or the
+   *     chord has no built-in type (e.g. the augmented major seventh)
+   */
+  public ChordType getSeventh(int degree) {
+    checkDegree(degree);
+    ChordType[] sevenths = SEVENTHS[scale.ordinal()];
+    return sevenths == null ? null : sevenths[degree];
+  }
+
+  /**
+   * Returns the Roman numeral of a degree, e.g. "ii" or "bVII".
+   *
+   * @return the numeral, or null for scales that are not heptatonic
+   */
+  public String getRomanNumeral(int degree) {
+    checkDegree(degree);
+    String[] numerals = ROMAN[scale.ordinal()];
+    return numerals == null ? null : numerals[degree];
+  }
+
+  /**
+   * Returns the relative key: C major and A minor, D Dorian and C major.
+   */
+  public Key getRelative() {
+    return relative;
+  }
+
+  /**
+   * Returns the parallel key: the same tonic in the opposite mode,
+   * the source of borrowed chords.
+   */
+  public Key getParallel() {
+    return parallel;
+  }
+
+  private int checkDegree(int degree) {
+    if (degree < 0 || degree >= roots.length) {
+      throw new IllegalArgumentException("Degree out of range: " + degree);
+    }
+    return degree;
+  }
+
+  @Override
+  public String toString() {
+    return tonic.name() + " " + scale.getDisplayName();
+  }
+}
@@ -0,0 +1,228 @@
+package com.vsge.music.theory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a set of pitch classes as a 12-bit mask.
+ * Bit n is set when the pitch class with value n (C = 0 ... B = 11) is present.
+ * Immutable class following the value object pattern.
+ *
+ * <p>The static {@code int}-based methods operate on raw masks so that bulk
+ * analysis code can avoid allocating a wrapper per chord.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class PitchClassSet implements Comparable<PitchClassSet> {
+  public static final int FULL_MASK = 0xFFF;
+
+  private static final PitchClassSet[] CACHE = new PitchClassSet[FULL_MASK + 1];
+  private static final short[] INVERSIONS = new short[FULL_MASK + 1];
+  private static final Note.PitchClass[] PITCH_CLASSES = Note.PitchClass.values();
+
+  static {
+    for (int mask = 0; mask <= FULL_MASK; mask++) {
+      CACHE[mask] = new PitchClassSet(mask);
+      int inverted = mask & 1;
+      for (int pc = 1; pc < 12; pc++) {
+        if ((mask & (1 << pc)) != 0) {
+          inverted |= 1 << (12 - pc);
+        }
+      }
+      INVERSIONS[mask] = (short) inverted;
+    }
+  }
+
+  public static final PitchClassSet EMPTY = CACHE[0];
+  public static final PitchClassSet CHROMATIC = CACHE[FULL_MASK];
+
+  private final int mask;
+
+  private PitchClassSet(int mask) {
+    this.mask = mask;
+  }
+
+  /**
+   * Returns the shared instance for a 12-bit mask.
+   *
+   * @param mask the pitch-class mask (0 - 0xFFF)
+   * @return the pitch class set
+   * @throws IllegalArgumentException if the mask uses bits above bit 11
+   */
+  public static PitchClassSet fromMask(int mask) {
+    if ((mask & ~FULL_MASK) != 0) {
+      throw new IllegalArgumentException("Pitch class mask must fit in 12 bits: " + mask);
+    }
+    return CACHE[mask];
+  }
+
+  public static PitchClassSet of(Note.PitchClass... pitches) {
+    int mask = 0;
+    for (Note.PitchClass pitch : pitches) {
+      mask |= 1 << pitch.getValue();
+    }
+    return CACHE[mask];
+  }
+
+  public static PitchClassSet fromNotes(Collection<Note> notes) {
+    int mask = 0;
+    for (Note note : notes) {
+      mask |= 1 << note.getPitch().getValue();
+    }
+    return CACHE[mask];
+  }
+
+  public static PitchClassSet fromMidiNumbers(int... midiNumbers) {
+    return CACHE[maskOfMidiNumbers(midiNumbers)];
+  }
+
+  // ---- Raw mask operations -------------------------------------------------
+
+  /**
+   * Builds a mask from MIDI note numbers without allocating.
+   */
+  public static int maskOfMidiNumbers(int... midiNumbers) {
+    int mask = 0;
+    for (int midi : midiNumbers) {
+      mask |= 1 << Math.floorMod(midi, 12);
+    }
+    return mask;
+  }
+
+  /**
+   * Rotates a mask up by the given number of semitones.
+   */
+  public static int transpose(int mask, int semitones) {
+    int shift = Math.floorMod(semitones, 12);
+    return ((mask << shift) | (mask >>> (12 - shift))) & FULL_MASK;
+  }
+
+  /**
+   * Inverts a mask around pitch class 0 (n maps to -n mod 12).
+   */
+  public static int invert(int mask) {
+    return INVERSIONS[mask & FULL_MASK];
+  }
+
+  /**
+   * Returns the size of a mask.
+   */
+  public static int cardinality(int mask) {
+    return Integer.bitCount(mask);
+  }
+
+  /**
+   * Counts the pitch classes two masks share.
+   */
+  public static int commonTones(int a, int b) {
+    return Integer.bitCount(a & b);
+  }
+
+  /**
+   * Computes the interval-class vector of a mask.
+   * Entry k - 1 holds the number of pairs separated by interval class k (1 - 6).
+   */
+  public static int[] intervalVector(int mask) {
+    int[] vector = new int[6];
+    for (int ic = 1; ic <= 6; ic++) {
+      int pairs = Integer.bitCount(mask & transpose(mask, ic));
+      // Tritone pairs are counted from both ends of the rotation
+      vector[ic - 1] = ic == 6 ? pairs / 2 : pairs;
+    }
+    return vector;
+  }
+
+  // ---- Instance API --------------------------------------------------------
+
+  public PitchClassSet transpose(int semitones) {
+    return CACHE[transpose(mask, semitones)];
+  }
+
+  public PitchClassSet invert() {
+    return CACHE[invert(mask)];
+  }
+
+  public PitchClassSet union(PitchClassSet other) {
+    return CACHE[mask | other.mask];
+  }
+
+  public PitchClassSet intersection(PitchClassSet other) {
+    return CACHE[mask & other.mask];
+  }
+
+  public PitchClassSet difference(PitchClassSet other) {
+    return CACHE[mask & ~other.mask];
+  }
+
+  public PitchClassSet complement() {
+    return CACHE[~mask & FULL_MASK];
+  }
+
+  public boolean contains(Note.PitchClass pitch) {
+    return (mask & (1 << pitch.getValue())) != 0;
+  }
+
+  public boolean isSubsetOf(PitchClassSet other) {
+    return (mask & ~other.mask) == 0;
+  }
+
+  public boolean isSupersetOf(PitchClassSet other) {
+    return (other.mask & ~mask) == 0;
+  }
+
+  public int commonTones(PitchClassSet other) {
+    return commonTones(mask, other.mask);
+  }
+
+  public int[] intervalVector() {
+    return intervalVector(mask);
+  }
+
+  public int size() {
+    return Integer.bitCount(mask);
+  }
+
+  public boolean isEmpty() {
+    return mask == 0;
+  }
+
+  public int getMask() {
+    return mask;
+  }
+
+  /**
+   * Returns the pitch classes in ascending order starting from C.
+   */
+  public List<Note.PitchClass> getPitchClasses() {
+    List<Note.PitchClass> pitches = new ArrayList<>(size());
+    for (int bits = mask; bits != 0; bits &= bits - 1) {
+      pitches.add(PITCH_CLASSES[Integer.numberOfTrailingZeros(bits)]);
+    }
+    return Collections.unmodifiableList(pitches);
+  }
+
+  @Override
+  public int compareTo(PitchClassSet other) {
+    return Integer.compare(this.mask, other.mask);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof PitchClassSet)) return false;
+    return mask == ((PitchClassSet) obj).mask;
+  }
+
+  @Override
+  public int hashCode() {
+    return mask;
+  }
+
+  @Override
+  public String toString() {
+    return getPitchClasses().toString();
+  }
+}
@@ -0,0 +1,84 @@
+package com.vsge.music.theory;
+
+/**
+ * Enumeration of common scales and modes.
+ * Each scale carries the semitone offsets of its degrees above the tonic and
+ * the matching 12-bit pitch-class mask built on C.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public enum Scale {
+  MAJOR("Major", 0, 2, 4, 5, 7, 9, 11),
+  DORIAN("Dorian", 0, 2, 3, 5, 7, 9, 10),
+  PHRYGIAN("Phrygian", 0, 1, 3, 5, 7, 8, 10),
+  LYDIAN("Lydian", 0, 2, 4, 6, 7, 9, 11),
+  MIXOLYDIAN("Mixolydian", 0, 2, 4, 5, 7, 9, 10),
+  NATURAL_MINOR("Natural Minor", 0, 2, 3, 5, 7, 8, 10),
+  LOCRIAN("Locrian", 0, 1, 3, 5, 6, 8, 10),
+  HARMONIC_MINOR("Harmonic Minor", 0, 2, 3, 5, 7, 8, 11),
+  MELODIC_MINOR("Melodic Minor", 0, 2, 3, 5, 7, 9, 11),
+  MAJOR_PENTATONIC("Major Pentatonic", 0, 2, 4, 7, 9),
+  MINOR_PENTATONIC("Minor Pentatonic", 0, 3, 5, 7, 10),
+  BLUES("Blues", 0, 3, 5, 6, 7, 10);
+
+  private final String displayName;
+  private final int[] semitones;
+  private final int mask;
+
+  Scale(String displayName, int... semitones) {
+    this.displayName = displayName;
+    this.semitones = semitones;
+    int m = 0;
+    for (int semitone : semitones) {
+      m |= 1 << semitone;
+    }
+    this.mask = m;
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  /**
+   * Returns the semitone offsets of the scale degrees above the tonic,
+   * starting with 0 for the tonic itself.
+   */
+  public int[] getSemitones() {
+    return semitones.clone();
+  }
+
+  int semitones(int degree) {
+    return semitones[degree];
+  }
+
+  /**
+   * Returns the pitch-class mask of this scale built on C.
+   */
+  public int getMask() {
+    return mask;
+  }
+
+  public int size() {
+    return semitones.length;
+  }
+
+  /**
+   * Seven-note scales harmonize in thirds; only they have degree chords.
+   */
+  public boolean isHeptatonic() {
+    return semitones.length == 7;
+  }
+
+  /**
+   * Whether the third above the tonic is minor.
+   */
+  public boolean isMinor() {
+    return (mask & (1 << 3)) != 0 && (mask & (1 << 4)) == 0;
+  }
+
+  @Override
+  public String toString() {
+    return displayName;
+  }
+}
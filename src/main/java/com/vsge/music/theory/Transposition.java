@@ -0,0 +1,106 @@
+package com.vsge.music.theory;
+
+/**
+ * Bulk transposition of MIDI pitch arrays.
+ *
+ * <p>Unlike {@link Note#transpose(int)}, nothing here throws for pitches
+ * leaving the playable range: results are folded back by whole octaves, so
+ * a live key change never fails part-way through a song. Arrays are
+ * transposed in place to keep re-generation allocation-free.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public final class Transposition {
+  /** Lowest MIDI number a {@link Note} can represent (C0). */
+  public static final int MIN_MIDI = 12;
+  /** Highest MIDI number. */
+  public static final int MAX_MIDI = 127;
+
+  private Transposition() {
+  }
+
+  /**
+   * Folds a MIDI number into [{@link #MIN_MIDI}, {@link #MAX_MIDI}] by octaves.
+   */
+  public static int fold(int midi) {
+    return fold(midi, MIN_MIDI, MAX_MIDI);
+  }
+
+  /**
+   * Folds a MIDI number into a range by whole octaves, keeping its pitch class.
+   *
+   * @param midi the MIDI number
+   * @param low lowest allowed MIDI number
+   * @param high highest allowed MIDI number, at least an octave above {@code low}
+   * @return the folded MIDI number
+   */
+  public static int fold(int midi, int low, int high) {
+    if (high - low < 11) {
+      throw new IllegalArgumentException("Range must span at least an octave");
+    }
+    if (midi < low) {
+      midi += (low - midi + 11) / 12 * 12;
+    } else if (midi > high) {
+      midi -= (midi - high + 11) / 12 * 12;
+    }
+    return midi;
+  }
+
+  /**
+   * Transposes a note, folding it back into range instead of throwing.
+   */
+  public static Note transpose(Note note, int semitones) {
+    return Note.fromMidiNumber(fold(note.getMidiNumber() + semitones));
+  }
+
+  /**
+   * Transposes every pitch of an array in place.
+   *
+   * @return the same array, for chaining
+   */
+  public static int[] transpose(int[] midi, int semitones) {
+    return transpose(midi, 0, midi.length, semitones, MIN_MIDI, MAX_MIDI);
+  }
+
+  /**
+   * Transposes {@code midi[from, to)} in place, folding into a range.
+   *
+   * @return the same array, for chaining
+   */
+  public static int[] transpose(int[] midi, int from, int to, int semitones, int low, int high) {
+    if (high - low < 11) {
+      throw new IllegalArgumentException("Range must span at least an octave");
+    }
+    for (int i = from; i < to; i++) {
+      int pitch = midi[i] + semitones;
+      if (pitch < low || pitch > high) {
+        pitch = fold(pitch, low, high);
+      }
+      midi[i] = pitch;
+    }
+    return midi;
+  }
+
+  /**
+   * Transposes pitch-class values (0-11) in place.
+   *
+   * @return the same array, for chaining
+   */
+  public static int[] transposePitchClasses(int[] pitchClasses, int semitones) {
+    int shift = Math.floorMod(semitones, 12);
+    for (int i = 0; i < pitchClasses.length; i++) {
+      pitchClasses[i] = (pitchClasses[i] + shift) % 12;
+    }
+    return pitchClasses;
+  }
+
+  /**
+   * Returns the shift of the fingered shapes when a song sounds
+   * {@code semitones} higher and the guitar is capoed at {@code capo}.
+   * The result is normalised to -6..5 so shapes move the shorter way.
+   */
+  public static int shapeOffset(int semitones, int capo) {
+    return Math.floorMod(semitones - capo + 6, 12) - 6;
+  }
+}
@@ -1,6 +1,10 @@
 package com.vsge.style;
 
 import com.vsge.music.chord.Chord;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.EventSource;
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.rhythm.Technique;
 import com.vsge.music.theory.Note;
 import java.util.List;
 
@@ -10,15 +14,44 @@ import java.util.List;
  * @author VSGE Team
  * @version 1.0.0
  */
-public interface PlayStyle {
+public interface PlayStyle extends EventSource {
   /**
-   * Generates a sequence of notes for the given chord.
+   * Generates a sequence of notes for the given chord with unseeded
+   * variation, so two calls may differ. This is a convenience for one-off
+   * previews; the engines and {@link #render} go through the seeded
+   * overload instead.
    * @param chord The chord to play
    * @param beatsPerMeasure Number of beats in a measure
    * @param tempo BPM
    * @return List of timed note events
    */
-  List<NoteEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo);
+  default List<NoteEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
+    return generatePattern(chord, beatsPerMeasure, tempo, RandomSource.withRandomSeed());
+  }
+
+  /**
+   * Generates a sequence of notes drawing any variation from the given
+   * source, so the same seed gives the same notes.
+   * @param chord The chord to play
+   * @param beatsPerMeasure Number of beats in a measure
+   * @param tempo BPM
+   * @param random The random source
+   * @return List of timed note events
+   */
+  List<NoteEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo, RandomSource random);
+
+  /**
+   * Appends the note events for a chord to a buffer, adapting
+   * {@link #generatePattern(Chord, int, int, RandomSource)} to the shared
+   * event model with the buffer's random source.
+   */
+  @Override
+  default void render(Chord chord, int beatsPerMeasure, int tempo, EventBuffer out) {
+    for (NoteEvent event : generatePattern(chord, beatsPerMeasure, tempo, out.getRandom())) {
+      out.add(event.getNote().getMidiNumber(), event.getStartTime(), event.getDuration(),
+          event.getVelocity(), 0.0, 0, false, Technique.CHORD);
+    }
+  }
 
   /**
    * Returns the name of this playing style.
@@ -0,0 +1,65 @@
+package com.vsge.style;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.rhythm.RhythmPattern;
+import com.vsge.music.theory.Note;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adapter presenting a {@link RhythmPattern} as a {@link PlayStyle}.
+ * Note events carry the pattern's humanized start times and velocities.
+ * 
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class RhythmPatternStyle implements PlayStyle {
+  private final RhythmPattern pattern;
+
+  public RhythmPatternStyle(RhythmPattern pattern) {
+    if (pattern == null) {
+      throw new IllegalArgumentException("Pattern cannot be null");
+    }
+    this.pattern = pattern;
+  }
+
+  public RhythmPattern getPattern() {
+    return pattern;
+  }
+
+  @Override
+  public List<NoteEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo, RandomSource random) {
+    EventBuffer buffer = new EventBuffer();
+    buffer.setRandom(random);
+    pattern.render(chord, beatsPerMeasure, tempo, buffer);
+    List<NoteEvent> events = new ArrayList<>(buffer.size());
+    for (int i = 0; i < buffer.size(); i++) {
+      events.add(new NoteEvent(Note.fromMidiNumber(buffer.getPitch(i)), buffer.getFinalStartTime(i),
+          buffer.getDuration(i), buffer.getFinalVelocity(i)));
+    }
+    return events;
+  }
+
+  @Override
+  public void render(Chord chord, int beatsPerMeasure, int tempo, EventBuffer out) {
+    pattern.render(chord, beatsPerMeasure, tempo, out);
+  }
+
+  @Override
+  public void render(Chord chord, Meter meter, int tempo, EventBuffer out) {
+    pattern.render(chord, meter, tempo, out);
+  }
+
+  @Override
+  public String getName() {
+    return pattern.getName();
+  }
+
+  @Override
+  public String getDescription() {
+    return pattern.getDescription();
+  }
+}
@@ -1,5 +1,6 @@
 package com.vsge.style;
 
+import com.vsge.music.rhythm.RhythmPatternFactory;
 import com.vsge.style.impl.*;
 
 /**
@@ -47,6 +48,10 @@ public class StyleFactory {
             case "power":
                 return new RockPowerStyle();
             default:
+                // Text patterns registered with the rhythm factory
+                if (RhythmPatternFactory.isSupported(normalized)) {
+                    return new RhythmPatternStyle(RhythmPatternFactory.create(normalized));
+                }
                 throw new IllegalArgumentException("Unknown style: " + styleName);
         }
     }
@@ -2,6 +2,7 @@ package com.vsge.style.impl;
 
 import com.vsge.style.PlayStyle;
 import com.vsge.music.chord.Chord;
+import com.vsge.music.rhythm.RandomSource;
 import com.vsge.music.theory.Note;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,7 +22,7 @@ public class FolkArpeggioStyle implements PlayStyle {
     private static final int VELOCITY_VARIATION = 20;
     
     @Override
-    public List<NoteEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
+    public List<NoteEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo, RandomSource random) {
         List<NoteEvent> events = new ArrayList<>();
         List<Note> chordNotes = chord.getNotes();
         
@@ -30,8 +31,7 @@ public class FolkArpeggioStyle implements PlayStyle {
             Note note = chordNotes.get(noteIndex);
             
             // Add subtle velocity variation for natural sound
-            int velocity = BASE_VELOCITY + 
-                (int)(Math.random() * VELOCITY_VARIATION) - (VELOCITY_VARIATION / 2);
+            int velocity = BASE_VELOCITY + random.spread(VELOCITY_VARIATION);
             
             events.add(new NoteEvent(
                 note,
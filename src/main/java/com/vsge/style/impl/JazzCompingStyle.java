@@ -2,6 +2,7 @@ package com.vsge.style.impl;
 
 import com.vsge.style.PlayStyle;
 import com.vsge.music.chord.Chord;
+import com.vsge.music.rhythm.RandomSource;
 import com.vsge.music.theory.Note;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +20,7 @@ public class JazzCompingStyle implements PlayStyle {
     private static final int VELOCITY_VARIATION = 25;
     
     @Override
-    public List<NoteEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
+    public List<NoteEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo, RandomSource random) {
         List<NoteEvent> events = new ArrayList<>();
         List<Note> chordNotes = chord.getNotes();
         
@@ -29,8 +30,7 @@ public class JazzCompingStyle implements PlayStyle {
             if (i % 2 == 0) {
                 // Full chord on strong beats
                 for (Note note : chordNotes) {
-                    int velocity = BASE_VELOCITY + 
-                        (int)(Math.random() * VELOCITY_VARIATION) - (VELOCITY_VARIATION / 2);
+                    int velocity = BASE_VELOCITY + random.spread(VELOCITY_VARIATION);
                     
                     events.add(new NoteEvent(
                         note,
@@ -45,8 +45,7 @@ public class JazzCompingStyle implements PlayStyle {
                     Note third = chordNotes.get(1);
                     Note seventh = chordNotes.size() > 3 ? chordNotes.get(3) : chordNotes.get(2);
                     
-                    int velocity = BASE_VELOCITY + 
-                        (int)(Math.random() * VELOCITY_VARIATION) - (VELOCITY_VARIATION / 2);
+                    int velocity = BASE_VELOCITY + random.spread(VELOCITY_VARIATION);
                     
                     events.add(new NoteEvent(
                         third,
@@ -2,6 +2,7 @@ package com.vsge.style.impl;
 
 import com.vsge.style.PlayStyle;
 import com.vsge.music.chord.Chord;
+import com.vsge.music.rhythm.RandomSource;
 import com.vsge.music.theory.Note;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,15 +20,14 @@ public class PopStrumStyle implements PlayStyle {
     private static final int VELOCITY_VARIATION = 15;
     
     @Override
-    public List<NoteEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo) {
+    public List<NoteEvent> generatePattern(Chord chord, int beatsPerMeasure, int tempo, RandomSource random) {
         List<NoteEvent> events = new ArrayList<>();
         List<Note> chordNotes = chord.getNotes();
         
         for (int i = 0; i < TIMING.length && i < beatsPerMeasure * 2; i++) {
             // Play all chord notes simultaneously for strumming
             for (Note note : chordNotes) {
-                int velocity = BASE_VELOCITY + 
-                    (int)(Math.random() * VELOCITY_VARIATION) - (VELOCITY_VARIATION / 2);
+                int velocity = BASE_VELOCITY + random.spread(VELOCITY_VARIATION);
                 
                 events.add(new NoteEvent(
                     note,
@@ -0,0 +1,95 @@
+package com.vsge.engine.humanizer;
+
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.rhythm.Technique;
+import javax.sound.midi.MidiEvent;
+import javax.sound.midi.Sequence;
+import javax.sound.midi.ShortMessage;
+import javax.sound.midi.Track;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for groove extraction and application.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class GrooveTemplateTest {
+
+    @Test
+    void testExtractAveragesOffsetsPerStep() {
+        // Two bars of eighths; the off-beats are late and soft
+        double[] onsets = new double[16];
+        int[] velocities = new int[16];
+        for (int i = 0; i < 16; i++) {
+            boolean offBeat = i % 2 == 1;
+            onsets[i] = i * 0.5 + (offBeat ? 0.1 : 0.0);
+            velocities[i] = offBeat ? 70 : 90;
+        }
+        GrooveTemplate groove = GrooveTemplate.extract(onsets, velocities, 16, 2, 8);
+
+        assertEquals(8, groove.getLength());
+        assertEquals(0.0f, groove.getTimingOffset(0), 1e-6f);
+        assertEquals(0.1f, groove.getTimingOffset(1), 1e-6f);
+        assertEquals(10.0f, groove.getVelocityOffset(0), 1e-6f);
+        assertEquals(-10.0f, groove.getVelocityOffset(3), 1e-6f);
+    }
+
+    @Test
+    void testEarlyNotesSnapToTheNextStep() {
+        GrooveTemplate groove = GrooveTemplate.extract(new double[] {0.95}, new int[] {80}, 1, 2, 4);
+        assertEquals(-0.05f, groove.getTimingOffset(2), 1e-6f);
+        assertEquals(2, groove.stepAt(5.0));
+    }
+
+    @Test
+    void testProcessFollowsSongPosition() {
+        GrooveTemplate groove = GrooveTemplate.of(2, new float[] {0f, 0.1f, 0f, 0.2f},
+            new float[] {0f, -10f, 0f, 5f});
+        EventBuffer bar = new EventBuffer();
+        bar.setRandom(new RandomSource(1));
+        bar.setBarStart(4.0);   // second bar of 4/4: steps 8-15, i.e. cycle steps 0-3 twice
+        bar.add(60, 0.5, 0.5, 80, 0.0, 0, false, Technique.DOWN);
+        bar.add(60, 1.5, 0.5, 80, 0.0, 0, false, Technique.DOWN);
+        groove.process(bar);
+
+        assertEquals(0.6, bar.getFinalStartTime(0), 1e-6);
+        assertEquals(70, bar.getFinalVelocity(0));
+        assertEquals(1.7, bar.getFinalStartTime(1), 1e-6);
+        assertEquals(85, bar.getFinalVelocity(1));
+    }
+
+    @Test
+    void testExtractFromMidiSequence() throws Exception {
+        Sequence sequence = new Sequence(Sequence.PPQ, 480);
+        Track track = sequence.createTrack();
+        track.add(new MidiEvent(new ShortMessage(ShortMessage.NOTE_ON, 0, 60, 100), 0));
+        track.add(new MidiEvent(new ShortMessage(ShortMessage.NOTE_OFF, 0, 60, 0), 200));
+        track.add(new MidiEvent(new ShortMessage(ShortMessage.NOTE_ON, 0, 62, 60), 288));
+        GrooveTemplate groove = GrooveTemplate.extract(sequence, 2, 2);
+
+        assertEquals(0.1f, groove.getTimingOffset(1), 1e-6f);
+        assertEquals(-20.0f, groove.getVelocityOffset(1), 1e-6f);
+        assertEquals(0.05f, groove.scaled(0.5).getTimingOffset(1), 1e-6f);
+    }
+
+    @Test
+    void testHumanizerAppliesGrooveFromSettings() {
+        HumanizationSettings settings = new HumanizationSettings();
+        settings.setTimingHumanizationEnabled(false);
+        settings.setVelocityHumanizationEnabled(false);
+        settings.setDurationHumanizationEnabled(false);
+        settings.setStrummingEffectEnabled(false);
+        settings.setGroove(GrooveTemplate.of(2, new float[] {0f, 0.05f}, new float[] {0f, 0f}));
+        EventBuffer bar = new EventBuffer();
+        bar.setRandom(new RandomSource(1));
+        bar.add(60, 0.5, 0.5, 80, 0.0, 0, false, Technique.DOWN);
+        new Humanizer(settings).process(bar);
+        assertEquals(0.55, bar.getFinalStartTime(0), 1e-6);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> GrooveTemplate.of(2, new float[2], new float[3]));
+    }
+}
@@ -0,0 +1,131 @@
+package com.vsge.engine.humanizer;
+
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.rhythm.Technique;
+import com.vsge.music.rhythm.Ticks;
+import java.util.EnumSet;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the single-pass humanizer.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class HumanizerTest {
+
+    private static HumanizationSettings quiet() {
+        HumanizationSettings settings = new HumanizationSettings();
+        settings.setTimingHumanizationEnabled(false);
+        settings.setVelocityHumanizationEnabled(false);
+        settings.setDurationHumanizationEnabled(false);
+        settings.setStrummingEffectEnabled(false);
+        settings.setSwingEnabled(false);
+        return settings;
+    }
+
+    private static EventBuffer stroke(Technique technique, double time) {
+        EventBuffer buffer = new EventBuffer();
+        buffer.setRandom(new RandomSource(5));
+        for (int pitch = 60; pitch < 63; pitch++) {
+            buffer.add(pitch, time, 0.5, 80, 0.0, 0, false, technique);
+        }
+        return buffer;
+    }
+
+    @Test
+    void testStrumSpreadsSimultaneousNotes() {
+        HumanizationSettings settings = quiet();
+        settings.setStrummingEffectEnabled(true);
+        settings.setStrumDelay(0.02);
+        Humanizer humanizer = new Humanizer(settings);
+
+        EventBuffer down = stroke(Technique.DOWN, 0.0);
+        humanizer.process(down);
+        assertEquals(0.0, down.getFinalStartTime(0), 1e-9);
+        assertEquals(0.04, down.getFinalStartTime(2), 0.5 / Ticks.PPQ);
+
+        EventBuffer up = stroke(Technique.UP, 1.0);
+        humanizer.process(up);
+        assertEquals(1.04, up.getFinalStartTime(0), 0.5 / Ticks.PPQ);
+        assertEquals(1.0, up.getFinalStartTime(2), 1e-9);
+    }
+
+    @Test
+    void testSwingDelaysOffBeats() {
+        HumanizationSettings settings = quiet();
+        settings.setSwingEnabled(true);
+        settings.setSwingRatio(0.4);
+        EventBuffer buffer = new EventBuffer();
+        buffer.add(60, 0.0, 0.5, 80, 0.0, 0, false, Technique.DOWN);
+        buffer.add(60, 0.5, 0.5, 80, 0.0, 0, false, Technique.UP);
+        new Humanizer(settings).process(buffer);
+        assertEquals(0.0, buffer.getFinalStartTime(0), 1e-9);
+        assertEquals(0.6, buffer.getFinalStartTime(1), 1e-9);
+    }
+
+    @Test
+    void testVariationStaysInRangeAndKeepsPatternOffsets() {
+        HumanizationSettings settings = new HumanizationSettings();
+        settings.setStrummingEffectEnabled(false);
+        settings.setTimingOffsetRange(0.04);
+        settings.setVelocityVariationRange(10);
+        settings.setDurationVariationRange(0.2);
+        EventBuffer buffer = new EventBuffer();
+        buffer.setRandom(new RandomSource(11));
+        for (int i = 0; i < 200; i++) {
+            buffer.add(60, i * 0.25, 1.0, 125, 0.01, 1, false, Technique.CHORD);
+        }
+        new Humanizer(settings).process(buffer);
+        for (int i = 0; i < buffer.size(); i++) {
+            assertTrue(Math.abs(buffer.getTimingOffset(i) - 0.01) <= 0.02);
+            assertTrue(buffer.getFinalVelocity(i) <= 127 && buffer.getFinalVelocity(i) >= 121);
+            assertTrue(buffer.getDuration(i) >= 0.9 && buffer.getDuration(i) <= 1.1);
+        }
+    }
+
+    @Test
+    void testRestrictedTransformsAndLiveSettings() {
+        HumanizationSettings settings = quiet();
+        settings.setStrummingEffectEnabled(true);
+        settings.setSwingEnabled(true);
+        settings.setSwingRatio(0.4);
+        Humanizer swingOnly = new Humanizer(settings, EnumSet.of(Humanizer.Transform.SWING));
+
+        EventBuffer buffer = stroke(Technique.DOWN, 0.5);
+        swingOnly.process(buffer);
+        assertEquals(0.6, buffer.getFinalStartTime(2), 1e-9);
+
+        settings.setSwingEnabled(false);
+        EventBuffer straight = stroke(Technique.DOWN, 0.5);
+        swingOnly.process(straight);
+        assertEquals(0.5, straight.getFinalStartTime(2), 1e-9);
+    }
+
+    @Test
+    void testDriftFollowsSongPosition() {
+        HumanizationSettings settings = quiet();
+        settings.setTimingHumanizationEnabled(true);
+        settings.setVelocityHumanizationEnabled(true);
+        settings.setTimingOffsetRange(0.04);
+        settings.setVelocityVariationRange(20);
+        settings.setDriftEnabled(true);
+        settings.setDriftType(NoiseTable.Type.RANDOM_WALK);
+        Humanizer humanizer = new Humanizer(settings, 99);
+
+        // The same position gets the same offset whatever the bar's random source
+        EventBuffer first = stroke(Technique.CHORD, 1.0);
+        first.setBarStart(8.0);
+        humanizer.process(first);
+        EventBuffer second = stroke(Technique.CHORD, 1.0);
+        second.setBarStart(8.0);
+        second.setRandom(new RandomSource(12345));
+        humanizer.process(second);
+        assertEquals(first.getTimingOffset(0), second.getTimingOffset(0), 0.0);
+        assertEquals(first.getVelocityVariation(2), second.getVelocityVariation(2));
+        assertTrue(Math.abs(first.getTimingOffset(0)) <= 0.02);
+        assertTrue(Math.abs(first.getVelocityVariation(0)) <= 10);
+    }
+}
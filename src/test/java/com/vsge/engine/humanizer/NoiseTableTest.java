@@ -0,0 +1,53 @@
+package com.vsge.engine.humanizer;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the correlated noise tables.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class NoiseTableTest {
+
+    @Test
+    void testTablesAreNormalizedAndReproducible() {
+        for (NoiseTable.Type type : NoiseTable.Type.values()) {
+            NoiseTable a = NoiseTable.generate(type, 1024, 3);
+            NoiseTable b = NoiseTable.generate(type, 1024, 3);
+            double sum = 0.0;
+            float peak = 0f;
+            for (int i = 0; i < a.size(); i++) {
+                assertEquals(a.at(i), b.at(i), 0.0f);
+                sum += a.at(i);
+                peak = Math.max(peak, Math.abs(a.at(i)));
+            }
+            assertEquals(0.0, sum / a.size(), 1e-4);
+            assertEquals(1.0f, peak, 1e-6f);
+        }
+    }
+
+    @Test
+    void testNeighboursAreCorrelated() {
+        // Mean squared step is far below that of independent uniform noise
+        for (NoiseTable.Type type : NoiseTable.Type.values()) {
+            NoiseTable table = NoiseTable.generate(type, NoiseTable.DEFAULT_SIZE, 17);
+            double squares = 0.0;
+            for (int i = 1; i < table.size(); i++) {
+                double step = table.at(i) - table.at(i - 1);
+                squares += step * step;
+            }
+            assertTrue(squares / (table.size() - 1) < 0.2, type.toString());
+        }
+    }
+
+    @Test
+    void testIndexingWrapsAndFollowsBeats() {
+        NoiseTable table = NoiseTable.generate(NoiseTable.Type.PINK, 64, 1);
+        assertEquals(table.at(5), table.at(5 + 64), 0.0f);
+        assertEquals(table.at(6), table.atBeat(1.5), 0.0f);
+        assertEquals(table.at(6), table.atBeat(1.6), 0.0f);
+        assertThrows(IllegalArgumentException.class, () -> NoiseTable.generate(NoiseTable.Type.PINK, 100, 1));
+    }
+}
@@ -0,0 +1,124 @@
+package com.vsge.engine.playback;
+
+import com.vsge.engine.humanizer.HumanizationSettings;
+import com.vsge.engine.humanizer.Humanizer;
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordFactory;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.EventSource;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.rhythm.impl.PopStrummingPattern;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the rendered-bar cache.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class BarCacheTest {
+
+    @Test
+    void testRepeatedBarsAreServedFromTheCache() {
+        BarCache cache = new BarCache();
+        EventSource pattern = new PopStrummingPattern();
+        EventBuffer first = new EventBuffer();
+        first.setRandom(new RandomSource(1));
+        cache.render(pattern, ChordFactory.createFromString("E"), Meter.FOUR_FOUR, 100, first);
+
+        // Another chord object with the same pitches is the same bar
+        EventBuffer second = new EventBuffer();
+        second.setRandom(new RandomSource(2));
+        cache.render(pattern, ChordFactory.createFromString("E"), Meter.FOUR_FOUR, 100, second);
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.getPitch(i), second.getPitch(i));
+            assertEquals(first.getFinalStartTime(i), second.getFinalStartTime(i), 0.0);
+            assertEquals(first.getFinalVelocity(i), second.getFinalVelocity(i));
+        }
+        assertEquals(Long.valueOf(1), Long.valueOf(cache.getHitCount()));
+        assertEquals(0.5, cache.getHitRate(), 1e-9);
+
+        cache.render(pattern, ChordFactory.createFromString("E"), Meter.SIX_EIGHT, 100, new EventBuffer());
+        cache.render(new PopStrummingPattern(), ChordFactory.createFromString("E"), Meter.FOUR_FOUR, 100,
+            new EventBuffer());
+        assertEquals(Long.valueOf(3), Long.valueOf(cache.getMissCount()));
+    }
+
+    @Test
+    void testLeastRecentlyUsedBarIsEvicted() {
+        BarCache cache = new BarCache(2);
+        EventSource pattern = new PopStrummingPattern();
+        Chord c = ChordFactory.createFromString("C");
+        Chord f = ChordFactory.createFromString("F");
+        Chord g = ChordFactory.createFromString("G");
+        cache.render(pattern, c, Meter.FOUR_FOUR, 120, new EventBuffer());
+        cache.render(pattern, f, Meter.FOUR_FOUR, 120, new EventBuffer());
+        cache.render(pattern, c, Meter.FOUR_FOUR, 120, new EventBuffer());
+        cache.render(pattern, g, Meter.FOUR_FOUR, 120, new EventBuffer());   // evicts F
+        assertEquals(2, cache.size());
+
+        cache.render(pattern, c, Meter.FOUR_FOUR, 120, new EventBuffer());
+        cache.render(pattern, f, Meter.FOUR_FOUR, 120, new EventBuffer());
+        assertEquals(Long.valueOf(2), Long.valueOf(cache.getHitCount()));
+        assertEquals(Long.valueOf(4), Long.valueOf(cache.getMissCount()));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0.0, cache.getHitRate(), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> new BarCache(0));
+    }
+
+    @Test
+    void testPipelineProcessesCachedBarsPerBar() {
+        EventPipeline pipeline = new EventPipeline(null, null, () -> false, new RandomSource(7))
+            .setBarCache(new BarCache())
+            .addProcessor(events -> {
+                for (int i = 0; i < events.size(); i++) {
+                    events.setTimingOffset(i, events.getRandom().nextDouble());
+                }
+            });
+        Chord chord = ChordFactory.createFromString("A");
+        EventSource pattern = new PopStrummingPattern();
+        double bar0 = pipeline.render(pattern, chord, Meter.FOUR_FOUR, 120, 0).getTimingOffset(0);
+        double bar1 = pipeline.render(pattern, chord, Meter.FOUR_FOUR, 120, 1).getTimingOffset(0);
+
+        assertEquals(Long.valueOf(1), Long.valueOf(pipeline.getBarCache().getHitCount()));
+        assertTrue(bar0 != bar1);
+    }
+
+    @Test
+    void testSameSeedReplaysIdenticallyWithCache() {
+        EventPipeline cached = new EventPipeline(null, null, () -> false, new RandomSource(11))
+            .setBarCache(new BarCache())
+            .addProcessor(new Humanizer(new HumanizationSettings(), 11));
+
+        EventSource pattern = new PopStrummingPattern();
+
+        List<Integer> first = play(cached, pattern);
+        List<Integer> replay = play(cached, pattern); // every bar now hits the cache
+        assertEquals(Long.valueOf(5), Long.valueOf(cached.getBarCache().getHitCount()));
+        assertEquals(first, replay);
+    }
+
+    private static List<Integer> play(EventPipeline pipeline, EventSource pattern) {
+        String[] song = {"A", "D", "A", "E"};
+        List<Integer> notes = new ArrayList<>();
+        for (int bar = 0; bar < song.length; bar++) {
+            EventBuffer events = pipeline.render(pattern, ChordFactory.createFromString(song[bar]),
+                Meter.FOUR_FOUR, 120, bar);
+            for (int i = 0; i < events.size(); i++) {
+                notes.add(events.getPitch(i));
+                notes.add(events.getFinalStartTick(i));
+                notes.add(events.getFinalVelocity(i));
+                notes.add(events.getDurationTicks(i));
+            }
+        }
+        return notes;
+    }
+}
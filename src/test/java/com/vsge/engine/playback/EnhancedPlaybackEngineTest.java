@@ -0,0 +1,103 @@
+package com.vsge.engine.playback;
+
+import com.vsge.engine.timing.TempoMap;
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordFactory;
+import com.vsge.music.progression.ChordProgression;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.rhythm.RhythmPattern;
+import com.vsge.music.rhythm.RhythmPatternFactory;
+import com.vsge.music.rhythm.Ticks;
+import com.vsge.music.theory.Note;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EnhancedPlaybackEngine class.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class EnhancedPlaybackEngineTest {
+
+    @Test
+    void testSixEightBarRendersThroughPipeline() {
+        EnhancedPlaybackEngine engine = new EnhancedPlaybackEngine(7);
+        try {
+            engine.setMeter(Meter.SIX_EIGHT);
+            assertSame(Meter.SIX_EIGHT, engine.getMeter());
+
+            Chord chord = ChordFactory.createFromString("Am");
+            RhythmPattern pattern = RhythmPatternFactory.create("folk");
+            EventBuffer bar = engine.getPipeline().render(pattern, chord, engine.getMeter(), 120, 0);
+
+            EventBuffer expected = new EventBuffer();
+            expected.setRandom(new RandomSource(7));
+            pattern.render(chord, Meter.SIX_EIGHT, 120, expected);
+            assertEquals(expected.size(), bar.size());
+            for (int i = 0; i < bar.size(); i++) {
+                assertEquals(expected.getPitch(i), bar.getPitch(i));
+                assertTrue(bar.getStartTime(i) < Meter.SIX_EIGHT.getLength());
+            }
+        } finally {
+            engine.close();
+        }
+    }
+
+    @Test
+    void testTwoBeatChordsShareABar() throws InterruptedException {
+        EnhancedPlaybackEngine engine = new EnhancedPlaybackEngine(7);
+        try {
+            List<long[]> spans = new CopyOnWriteArrayList<>();
+            CountDownLatch rendered = new CountDownLatch(4);
+            engine.getPipeline().addProcessor(events -> {
+                long first = Long.MAX_VALUE;
+                long last = Long.MIN_VALUE;
+                for (int i = 0; i < events.size(); i++) {
+                    long tick = events.getBarStartTick() + events.getStartTick(i);
+                    first = Math.min(first, tick);
+                    last = Math.max(last, tick);
+                }
+                spans.add(new long[]{first, last});
+                rendered.countDown();
+            });
+            ChordProgression progression = new ChordProgression(new Note(Note.PitchClass.C, 4),
+                ChordProgression.POP_PROGRESSION, 2);
+            engine.playProgression(progression, "pop", 400);
+
+            assertTrue(rendered.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 4; i++) {
+                long[] span = spans.get(i);
+                assertTrue(span[0] >= i * 2L * Ticks.PPQ, "chord " + i + " starts on its beat");
+                assertTrue(span[1] < (i + 1) * 2L * Ticks.PPQ, "chord " + i + " ends after two beats");
+            }
+        } finally {
+            engine.close();
+        }
+    }
+
+    @Test
+    void testProgressionKeepsInstalledTempoMap() {
+        EnhancedPlaybackEngine engine = new EnhancedPlaybackEngine(7);
+        try {
+            TempoMap ramp = new TempoMap.Builder(100, Meter.FOUR_FOUR)
+                .ramp(16.0, 140, TempoMap.Curve.LINEAR)
+                .build();
+            engine.setTempoMap(ramp);
+            ChordProgression progression = new ChordProgression(new Note(Note.PitchClass.C, 4),
+                ChordProgression.POP_PROGRESSION, 4);
+            engine.playProgression(progression, "pop", 90);
+
+            assertSame(ramp, engine.getTempoMap());
+            assertEquals(100, engine.getTempo());
+        } finally {
+            engine.close();
+        }
+    }
+}
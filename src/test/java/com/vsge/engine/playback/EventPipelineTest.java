@@ -0,0 +1,196 @@
+package com.vsge.engine.playback;
+
+import com.vsge.audio.AudioService;
+import com.vsge.engine.timing.TempoMap;
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordFactory;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.Meter;
+import com.vsge.music.rhythm.RandomSource;
+import com.vsge.music.rhythm.RhythmPatternFactory;
+import com.vsge.music.rhythm.Technique;
+import com.vsge.music.rhythm.impl.JazzCompingPattern;
+import com.vsge.music.rhythm.impl.RockPowerPattern;
+import com.vsge.style.PlayStyle;
+import com.vsge.style.RhythmPatternStyle;
+import com.vsge.style.StyleFactory;
+import com.vsge.style.impl.JazzCompingStyle;
+import com.vsge.style.impl.RockPowerStyle;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the shared event pipeline and the style adapters.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class EventPipelineTest {
+
+    /**
+     * Records played notes instead of sounding them.
+     */
+    private static final class RecordingAudio implements AudioService {
+        final List<int[]> notes = new CopyOnWriteArrayList<>();
+        volatile boolean varied;
+
+        @Override public void initialize() { }
+        @Override public void playNote(int midiNumber, int velocity, long durationMs) {
+            notes.add(new int[]{midiNumber, velocity, (int) durationMs});
+        }
+        @Override public void playNote(int midiNumber, int velocity, long durationMs, boolean vary) {
+            varied |= vary;
+            playNote(midiNumber, velocity, durationMs);
+        }
+        @Override public void playChord(int[] midiNumbers, int velocity, long durationMs) { }
+        @Override public void stopAll() { }
+        @Override public void setInstrument(int channel, int instrument) { }
+        @Override public void close() { }
+        @Override public boolean isInitialized() { return true; }
+    }
+
+    @Test
+    void testBothInterfacesRenderIntoOneBuffer() {
+        Chord chord = ChordFactory.createFromString("E");
+        EventBuffer buffer = new EventBuffer();
+        new RockPowerStyle().render(chord, 4, 120, buffer);
+        int styleEvents = buffer.size();
+        assertEquals(styleEvents, new RockPowerStyle().generatePattern(chord, 4, 120).size());
+        assertEquals(Technique.CHORD, buffer.getTechnique(0));
+
+        new RockPowerPattern().render(chord, 4, 120, buffer);
+        assertEquals(styleEvents + 8, buffer.size());
+    }
+
+    @Test
+    void testPipelineRunsProcessorsThenDispatches() throws InterruptedException {
+        RecordingAudio audio = new RecordingAudio();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        EventPipeline pipeline = new EventPipeline(audio, scheduler, () -> false, new RandomSource(1))
+            .addProcessor(events -> {
+                for (int i = 0; i < events.size(); i++) {
+                    events.setDuration(i, 1.0);
+                    events.setVelocityVariation(i, 127 - events.getVelocity(i));
+                }
+            });
+
+        // A beat at 400 BPM lasts 150 ms
+        pipeline.playBar(new RockPowerPattern(), ChordFactory.createFromString("A"), 4, 400, 0);
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(2, TimeUnit.SECONDS));
+
+        assertEquals(8, audio.notes.size());
+        assertFalse(audio.varied);
+        for (int[] note : audio.notes) {
+            assertEquals(127, note[1]);
+            assertEquals(150, note[2]);
+        }
+    }
+
+    @Test
+    void testBarsOnATempoMapUseMapDurations() throws InterruptedException {
+        RecordingAudio audio = new RecordingAudio();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        EventPipeline pipeline = new EventPipeline(audio, scheduler, () -> false, new RandomSource(1));
+        TempoMap map = new TempoMap.Builder(400, Meter.FOUR_FOUR).tempo(4.0, 300).build();
+
+        // Second bar, after the change to 300 BPM: 0.8 beats of power chord last 160 ms
+        pipeline.scheduleBar(new RockPowerPattern(), ChordFactory.createFromString("A"), Meter.FOUR_FOUR,
+            1, 4.0, map, System.nanoTime() - map.beatToNanos(4.0));
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(2, TimeUnit.SECONDS));
+
+        assertEquals(8, audio.notes.size());
+        for (int[] note : audio.notes) {
+            assertEquals(160, note[2], 2);
+        }
+    }
+
+    @Test
+    void testBarsArePlacedByTheTempoMap() {
+        EventPipeline pipeline = new EventPipeline(null, null, () -> false, new RandomSource(1));
+        TempoMap map = new TempoMap.Builder(120, Meter.FOUR_FOUR).meter(2, Meter.THREE_FOUR).build();
+        Chord chord = ChordFactory.createFromString("A");
+
+        assertEquals(4.0, pipeline.render(new RockPowerPattern(), chord, 1, map).getBarStart(), 0.0);
+        // 4/4, 4/4, then 3/4 bars start three beats apart
+        EventBuffer bar3 = pipeline.render(new RockPowerPattern(), chord, 3, map);
+        assertEquals(11.0, bar3.getBarStart(), 0.0);
+        assertTrue(bar3.size() > 0);
+        for (int i = 0; i < bar3.size(); i++) {
+            assertTrue(bar3.getStartTime(i) < 3.0);
+        }
+    }
+
+    @Test
+    void testChordsSpanTheirOwnBeats() {
+        EventPipeline pipeline = new EventPipeline(null, null, () -> false, new RandomSource(1));
+        TempoMap map = TempoMap.constant(120, Meter.FOUR_FOUR);
+
+        // Four beats from beat 2: the second half of bar 0 and the first half of bar 1
+        EventBuffer chord = pipeline.renderChord(new RockPowerPattern(), ChordFactory.createFromString("A"),
+            1, 2.0, 4.0, map);
+        assertEquals(0.0, chord.getBarStart(), 0.0);
+        boolean reachesBar1 = false;
+        for (int i = 0; i < chord.size(); i++) {
+            assertTrue(chord.getStartTime(i) >= 2.0 && chord.getStartTime(i) < 6.0);
+            reachesBar1 |= chord.getStartTime(i) >= 4.0;
+        }
+        assertTrue(reachesBar1);
+    }
+
+    @Test
+    void testPausedNotesAreDropped() throws InterruptedException {
+        RecordingAudio audio = new RecordingAudio();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        EventPipeline pipeline = new EventPipeline(audio, scheduler, () -> true, new RandomSource(1));
+        pipeline.playBar(new RockPowerStyle(), ChordFactory.createFromString("A"), 4, 400, 0);
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(2, TimeUnit.SECONDS));
+        assertTrue(audio.notes.isEmpty());
+    }
+
+    @Test
+    void testSameSeedRendersSameBars() {
+        Chord chord = ChordFactory.createFromString("G7");
+        EventPipeline first = new EventPipeline(new RecordingAudio(), null, () -> false, new RandomSource(42));
+        EventPipeline second = new EventPipeline(new RecordingAudio(), null, () -> false, new RandomSource(42));
+
+        for (PlayStyle style : new PlayStyle[]{new JazzCompingStyle(), new RhythmPatternStyle(new JazzCompingPattern())}) {
+            EventBuffer a = first.render(style, chord, 4, 120, 7);
+            int size = a.size();
+            int[] velocities = new int[size];
+            double[] starts = new double[size];
+            for (int i = 0; i < size; i++) {
+                velocities[i] = a.getFinalVelocity(i);
+                starts[i] = a.getFinalStartTime(i);
+            }
+
+            // Render other bars in between; bar 7 must not change
+            second.render(style, chord, 4, 120, 3);
+            EventBuffer b = second.render(style, chord, 4, 120, 7);
+            assertEquals(size, b.size());
+            for (int i = 0; i < size; i++) {
+                assertEquals(velocities[i], b.getFinalVelocity(i));
+                assertEquals(starts[i], b.getFinalStartTime(i), 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testRhythmPatternAsPlayStyle() {
+        RhythmPatternFactory.register("pipeline-strum", "DU");
+        PlayStyle style = StyleFactory.create("pipeline-strum");
+        assertTrue(style instanceof RhythmPatternStyle);
+        assertEquals("pipeline-strum", style.getName());
+
+        List<PlayStyle.NoteEvent> events = style.generatePattern(ChordFactory.createFromString("C"), 4, 120);
+        assertEquals(8 * 3, events.size());
+        assertThrows(IllegalArgumentException.class, () -> StyleFactory.create("no-such-style"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.vsge.engine.timing;
+
+import com.vsge.music.rhythm.Meter;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for tempo maps and the tempo controller.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class TempoMapTest {
+
+    private static final double NANOS = 1_000_000_000.0;
+
+    @Test
+    void testConstantTempo() {
+        TempoMap map = TempoMap.constant(90, Meter.FOUR_FOUR);
+        assertEquals(2.0 / 3.0 * NANOS, map.beatToNanos(1.0), 1.0);
+        assertEquals(8.0, map.nanosToBeat(map.beatToNanos(8.0)), 1e-9);
+        assertEquals(1, map.getSegmentCount());
+    }
+
+    @Test
+    void testStepChangesAccumulate() {
+        TempoMap map = new TempoMap.Builder(120, Meter.FOUR_FOUR)
+            .tempo(8.0, 60)
+            .build();
+        assertEquals(4.0 * NANOS, map.beatToNanos(8.0), 1.0);
+        assertEquals(5.0 * NANOS, map.beatToNanos(9.0), 1.0);
+        assertEquals(9.0, map.nanosToBeat((long) (5.0 * NANOS)), 1e-9);
+        assertEquals(60.0, map.tempoAt(100.0), 0.0);
+    }
+
+    @Test
+    void testLinearRampIsIntegratedExactly() {
+        // 60 -> 120 BPM over 4 beats: t = 60/k * ln(T1/T0) with k = 15 BPM per beat
+        TempoMap map = new TempoMap.Builder(60, Meter.FOUR_FOUR)
+            .ramp(4.0, 120, TempoMap.Curve.LINEAR)
+            .build();
+        double expected = 60.0 / 15.0 * Math.log(2.0) * NANOS;
+        assertEquals(expected, map.beatToNanos(4.0), 1.0);
+        assertEquals(90.0, map.tempoAt(2.0), 1e-9);
+        assertEquals(expected + 0.5 * NANOS, map.beatToNanos(5.0), 1.0);
+        for (double beat = 0.0; beat < 6.0; beat += 0.37) {
+            assertEquals(beat, map.nanosToBeat(map.beatToNanos(beat)), 1e-6);
+        }
+    }
+
+    @Test
+    void testExponentialRitardando() {
+        TempoMap map = new TempoMap.Builder(160, Meter.FOUR_FOUR)
+            .tempo(4.0, 160)
+            .ramp(8.0, 80, TempoMap.Curve.EXPONENTIAL)
+            .build();
+        // Halving over four beats: the tempo two beats in is 160 / sqrt(2)
+        assertEquals(160.0 / Math.sqrt(2.0), map.tempoAt(6.0), 1e-9);
+        double a = Math.log(0.5) / 4.0;
+        double expected = 1.5 * NANOS + 60.0 * (1.0 - Math.exp(-a * 4.0)) / (a * 160.0) * NANOS;
+        assertEquals(expected, map.beatToNanos(8.0), 1.0);
+        for (double beat = 3.0; beat < 10.0; beat += 0.29) {
+            assertEquals(beat, map.nanosToBeat(map.beatToNanos(beat)), 1e-6);
+        }
+    }
+
+    @Test
+    void testMeterChanges() {
+        TempoMap map = new TempoMap.Builder(120, Meter.FOUR_FOUR)
+            .meter(2, Meter.SIX_EIGHT)
+            .meter(4, Meter.SEVEN_EIGHT)
+            .build();
+        assertEquals(8.0, map.barToBeat(2), 0.0);
+        assertEquals(14.0, map.barToBeat(4), 0.0);
+        assertEquals(17.5, map.barToBeat(5), 0.0);
+        assertSame(Meter.SIX_EIGHT, map.meterAtBar(3));
+        assertSame(Meter.SEVEN_EIGHT, map.meterAt(15.0));
+        assertEquals(3, map.beatToBar(12.0));
+    }
+
+    @Test
+    void testRangeAndOrder() {
+        TempoMap.Builder builder = new TempoMap.Builder(120, Meter.FOUR_FOUR).tempo(4.0, 30);
+        assertThrows(IllegalArgumentException.class, () -> builder.tempo(2.0, 100));
+        assertThrows(IllegalArgumentException.class, () -> builder.tempo(8.0, 500));
+        assertNotNull(builder.tempo(8.0, 340).build());
+    }
+
+    @Test
+    void testControllerRoundsThroughTheMap() {
+        TempoController controller = new TempoController(45);
+        assertEquals(1333, controller.getBeatDurationMs());
+        controller.setMeter(Meter.THREE_FOUR);
+        assertEquals(45, controller.getTempo());
+        assertSame(Meter.THREE_FOUR, controller.getMeter());
+
+        controller.setTempoMap(new TempoMap.Builder(100, Meter.FOUR_FOUR).tempo(4.0, 200).build());
+        assertEquals(2700, controller.beatsToMs(5.0));
+        assertEquals(5.0, controller.msToBeats(2700), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> controller.setTempo(10));
+        assertTrue(controller.hasTempoChanges());
+
+        // A new tempo flattens the ramps but keeps the meter changes
+        controller.setTempoMap(new TempoMap.Builder(100, Meter.FOUR_FOUR).meter(2, Meter.THREE_FOUR).build());
+        controller.setTempo(90);
+        assertFalse(controller.hasTempoChanges());
+        assertSame(Meter.THREE_FOUR, controller.getTempoMap().meterAtBar(2));
+        assertEquals(90.0, controller.getTempoMap().tempoAt(10.0), 0.0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.vsge.examples;
+
+import com.vsge.music.progression.ChordProgression;
+import com.vsge.music.rhythm.EventBuffer;
+import com.vsge.music.rhythm.Ticks;
+import com.vsge.music.theory.Note;
+import com.vsge.style.PlayStyle;
+import com.vsge.style.StyleFactory;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Song arrangements and sections.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class SongTest {
+
+    private final Note g3 = new Note(Note.PitchClass.G, 3);
+
+    private Song arrangedSong() {
+        return arrangedSong(0);
+    }
+
+    private Song arrangedSong(long seed) {
+        PlayStyle rock = StyleFactory.create("rock");
+        return new Song.Builder()
+            .seed(seed)
+            .title("Arranged")
+            .style(StyleFactory.create("folk"))
+            .tempo(100)
+            .section(new Section("I", "Intro", new ChordProgression(g3, ChordProgression.JAZZ_II_V_I, 4)))
+            .section(new Section("V", "Verse", new ChordProgression(g3, ChordProgression.POP_PROGRESSION, 4)))
+            .section(new Section("C", "Chorus", new ChordProgression(g3, ChordProgression.POP_PROGRESSION, 2),
+                rock, 120, Collections.singletonList("Sing it loud")))
+            .form("I V C V C C")
+            .build();
+    }
+
+    @Test
+    void testFormSharesSections() {
+        Song song = arrangedSong();
+
+        assertEquals("I V C V C C", song.getFormString());
+        assertEquals(3, song.getSections().size());
+        assertEquals(6, song.getForm().size());
+        assertSame(song.getForm().get(2), song.getForm().get(4));
+        assertSame(song.getEvents(2), song.getEvents(5));
+        assertSame(song.getEvents(1), song.getEvents(3));
+        assertNotSame(song.getEvents(1), song.getEvents(2));
+
+        assertEquals(120, song.getTempo(2));
+        assertEquals(100, song.getTempo(1));
+        assertEquals(12, song.getStartBeat(1));
+        assertEquals(12 + 16 + 8 + 16 + 8 + 8, song.getTotalBeats());
+        assertSame(song.getSection("I").getProgression(), song.getProgression());
+    }
+
+    @Test
+    void testSectionEventsSpanBars() {
+        Song song = arrangedSong();
+        EventBuffer events = song.getEvents(1);
+        int last = 0;
+        for (int i = 0; i < events.size(); i++) {
+            last = Math.max(last, events.getStartTick(i));
+        }
+        assertTrue(last >= 12 * Ticks.PPQ, "events of the fourth bar start after beat 12");
+    }
+
+    @Test
+    void testSeedReproducesSections() {
+        EventBuffer first = arrangedSong(7).getEvents(1);
+        EventBuffer again = arrangedSong(7).getEvents(1);
+        EventBuffer other = arrangedSong(8).getEvents(1);
+
+        assertEquals(first.size(), again.size());
+        boolean differs = false;
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.getStartTick(i), again.getStartTick(i));
+            assertEquals(first.getFinalVelocity(i), again.getFinalVelocity(i));
+            differs |= first.getFinalVelocity(i) != other.getFinalVelocity(i);
+        }
+        assertTrue(differs, "another seed varies the section");
+    }
+
+    @Test
+    void testSingleProgressionSong() {
+        Song song = SongLibrary.getSongByTitle("Let It Be");
+        assertEquals("A", song.getFormString());
+        assertSame(song.getProgression(), song.getForm().get(0).getProgression());
+    }
+
+    @Test
+    void testTransposeKeepsForm() {
+        Song song = arrangedSong().transpose(2);
+        assertEquals("I V C V C C", song.getFormString());
+        assertSame(song.getForm().get(2), song.getForm().get(5));
+        assertEquals(Note.PitchClass.A, song.getSection("V").getProgression().getKey().getPitch());
+        assertEquals(120, song.getSection("C").getTempo());
+    }
+
+    @Test
+    void testUnknownSectionInForm() {
+        Song.Builder builder = new Song.Builder()
+            .title("Broken")
+            .style(StyleFactory.create("folk"))
+            .section(new Section("V", "Verse", new ChordProgression(g3, ChordProgression.POP_PROGRESSION, 4)))
+            .form("V X");
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+}
@@ -0,0 +1,86 @@
+package com.vsge.music.chord;
+
+import com.vsge.music.theory.Note;
+import com.vsge.music.theory.PitchClassSet;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ChordQuality registry and ExtendedChord.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class ChordQualityTest {
+
+    private final Note c4 = new Note(Note.PitchClass.C, 4);
+
+    @Test
+    void testEveryChordTypeIsRegistered() {
+        for (ChordType type : ChordType.values()) {
+            ChordQuality quality = ChordQuality.of(type);
+            assertEquals(type.ordinal(), quality.getId());
+            assertEquals(type, quality.getType());
+            assertSame(quality, ChordQuality.bySymbol(type.getSymbol()));
+
+            Chord chord = Chord.create(c4, type);
+            assertEquals(type.getSemitones().length + 1, chord.getNotes().size());
+            assertSame(quality, chord.getQuality());
+        }
+    }
+
+    @Test
+    void testLegacySubclassesAreKept() {
+        assertTrue(Chord.create(c4, ChordType.MAJOR) instanceof MajorChord);
+        assertTrue(ChordFactory.create(c4, ChordType.DIMINISHED) instanceof DiminishedChord);
+        assertTrue(Chord.create(c4, ChordType.SUS4) instanceof ExtendedChord);
+    }
+
+    @Test
+    void testExtendedChordNotes() {
+        Chord c9 = Chord.create(c4, ChordType.DOMINANT9);
+        assertEquals(new Note(Note.PitchClass.D, 5), c9.getNotes().get(4)); // ninth above the octave
+        assertEquals("C4" + "9", c9.toString());
+
+        Chord csus2 = Chord.create(c4, ChordType.SUS2);
+        assertEquals(PitchClassSet.of(Note.PitchClass.C, Note.PitchClass.D, Note.PitchClass.G),
+            csus2.getPitchClassSet());
+    }
+
+    @Test
+    void testSlashChord() {
+        Chord cOverE = Chord.create(c4, ChordType.MAJOR, Note.PitchClass.E);
+        assertEquals(new Note(Note.PitchClass.E, 3), cOverE.getBass());
+        assertEquals(4, cOverE.getNotes().size());
+        assertEquals(c4, cOverE.getRoot());
+        assertEquals("/E", cOverE.getSymbol());
+
+        assertSame(Chord.create(c4, ChordType.MAJOR, Note.PitchClass.C).getClass(), MajorChord.class);
+    }
+
+    @Test
+    void testSlashSymbolParsesBack() {
+        Chord cm7OverFs = Chord.create(c4, ChordType.MINOR7, Note.PitchClass.FS);
+        assertEquals("m7/F#", cm7OverFs.getSymbol());
+
+        Chord parsed = ChordSymbolParser.parse("C" + cm7OverFs.getSymbol());
+        assertEquals(Note.PitchClass.FS, parsed.getBass().getPitch());
+        assertEquals(cm7OverFs.getPitchClassSet(), parsed.getPitchClassSet());
+    }
+
+    @Test
+    void testRuntimeRegistration() {
+        ChordQuality lydian = ChordQuality.register("Dominant 7th sharp 11", "7#11", new int[]{4, 7, 10, 18});
+        assertNull(lydian.getType());
+        assertSame(lydian, ChordQuality.byId(lydian.getId()));
+
+        Chord chord = ChordSymbolParser.parse("F7#11");
+        assertSame(lydian, chord.getQuality());
+        assertTrue(chord.getPitchClassSet().contains(Note.PitchClass.B));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> ChordQuality.register("Duplicate", "m7", new int[]{3, 7, 10}));
+        assertThrows(IllegalArgumentException.class,
+            () -> ChordQuality.register("Flat", "b6", new int[]{8}));
+    }
+}
@@ -0,0 +1,96 @@
+package com.vsge.music.chord;
+
+import com.vsge.music.theory.Note;
+import com.vsge.music.theory.PitchClassSet;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ChordRecognizer class.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class ChordRecognizerTest {
+
+    @Test
+    void testRecognizesTriadsAndSeventhsInEveryKey() {
+        ChordType[] types = {
+            ChordType.MAJOR, ChordType.MINOR, ChordType.DOMINANT7,
+            ChordType.MINOR7, ChordType.MAJOR7, ChordType.DIMINISHED
+        };
+        for (ChordType type : types) {
+            for (int midi = 48; midi < 60; midi++) {
+                Chord chord = Chord.create(Note.fromMidiNumber(midi), type);
+                ChordRecognizer.Match match = ChordRecognizer.recognize(chord.getNotes());
+
+                assertNotNull(match, chord.toString());
+                assertEquals(chord.getRoot().getPitch(), match.getRoot(), chord.toString());
+                assertEquals(type, match.getType(), chord.toString());
+                assertEquals(0, match.getInversion());
+                assertTrue(match.isExact());
+            }
+        }
+    }
+
+    @Test
+    void testEveryChordTypeMatchesExactly() {
+        // Some types share pitch classes (C6 = Am7), so only the spelling is checked
+        for (ChordType type : ChordType.values()) {
+            Chord chord = Chord.create(new Note(Note.PitchClass.D, 3), type);
+            ChordRecognizer.Match match = ChordRecognizer.recognize(chord.getNotes());
+
+            assertNotNull(match, type.name());
+            assertTrue(match.isExact(), type.name());
+            assertEquals(chord.getPitchClassSet(), match.toChord(3).getPitchClassSet(), type.name());
+        }
+    }
+
+    @Test
+    void testInversionFromBassNote() {
+        // E3 G3 C4 -> C major, first inversion
+        ChordRecognizer.Match first = ChordRecognizer.recognize(64, 67, 72, 52);
+        assertEquals(Note.PitchClass.C, first.getRoot());
+        assertEquals(ChordType.MAJOR, first.getType());
+        assertEquals(1, first.getInversion());
+
+        // F G B D -> G7, third inversion
+        ChordRecognizer.Match third = ChordRecognizer.recognize(53, 55, 59, 62);
+        assertEquals(ChordType.DOMINANT7, third.getType());
+        assertEquals(3, third.getInversion());
+    }
+
+    @Test
+    void testMissingAndExtraTones() {
+        // C E Bb: dominant 7th without its fifth
+        ChordRecognizer.Match shell = ChordRecognizer.recognize(60, 64, 70);
+        assertEquals(ChordType.DOMINANT7, shell.getType());
+        assertEquals(PitchClassSet.of(Note.PitchClass.G), shell.getMissingTones());
+        assertTrue(shell.getExtraTones().isEmpty());
+
+        // C E G D: an add9 chord, not a triad with an extra tone
+        ChordRecognizer.Match add9 = ChordRecognizer.recognize(60, 64, 67, 74);
+        assertEquals(ChordType.ADD9, add9.getType());
+        assertTrue(add9.isExact());
+
+        // C E F# G: major triad with a foreign tone
+        ChordRecognizer.Match major = ChordRecognizer.recognize(60, 64, 66, 67);
+        assertEquals(ChordType.MAJOR, major.getType());
+        assertEquals(PitchClassSet.of(Note.PitchClass.FS), major.getExtraTones());
+        assertFalse(major.isExact());
+    }
+
+    @Test
+    void testNoMatch() {
+        assertNull(ChordRecognizer.recognize(60));
+        assertNull(ChordRecognizer.recognize(new int[0]));
+        assertEquals(ChordRecognizer.NO_MATCH, ChordRecognizer.lookup(0));
+    }
+
+    @Test
+    void testToChord() {
+        Chord am = ChordRecognizer.recognize(57, 60, 64).toChord(3);
+        assertTrue(am instanceof MinorChord);
+        assertEquals(new Note(Note.PitchClass.A, 3), am.getRoot());
+    }
+}
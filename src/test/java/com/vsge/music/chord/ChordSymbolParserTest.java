@@ -0,0 +1,80 @@
+package com.vsge.music.chord;
+
+import com.vsge.music.theory.Note;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ChordSymbolParser class.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class ChordSymbolParserTest {
+
+    @Test
+    void testQualities() {
+        assertTrue(ChordSymbolParser.parse("C") instanceof MajorChord);
+        assertTrue(ChordSymbolParser.parse("Am") instanceof MinorChord);
+        assertTrue(ChordSymbolParser.parse("G7") instanceof Dominant7Chord);
+        assertTrue(ChordSymbolParser.parse("Fmaj7") instanceof Major7Chord);
+        assertTrue(ChordSymbolParser.parse("FM7") instanceof Major7Chord);
+        assertTrue(ChordSymbolParser.parse("Dm7") instanceof Minor7Chord);
+        assertTrue(ChordSymbolParser.parse("Bdim") instanceof DiminishedChord);
+        assertTrue(ChordSymbolParser.parse("B°") instanceof DiminishedChord);
+    }
+
+    @Test
+    void testAccidentals() {
+        assertEquals(Note.PitchClass.CS, ChordSymbolParser.parse("C#").getRoot().getPitch());
+        assertEquals(Note.PitchClass.AS, ChordSymbolParser.parse("Bb").getRoot().getPitch());
+        assertEquals(Note.PitchClass.FS, ChordSymbolParser.parse("F♯m").getRoot().getPitch());
+        assertEquals(Note.PitchClass.B, ChordSymbolParser.parse("Cb").getRoot().getPitch());
+        assertTrue(ChordSymbolParser.parse("Ebm7") instanceof Minor7Chord);
+    }
+
+    @Test
+    void testExtensionsAndSlashBass() {
+        assertEquals(ChordType.DOMINANT13, ChordSymbolParser.parse("G13").getQuality().getType());
+        assertEquals(ChordType.MINOR9, ChordSymbolParser.parse("Am9").getQuality().getType());
+        assertEquals(ChordType.SUS4, ChordSymbolParser.parse("Dsus4").getQuality().getType());
+        assertEquals(ChordType.HALF_DIMINISHED, ChordSymbolParser.parse("Bø7").getQuality().getType());
+        assertEquals(ChordType.DOMINANT7_SHARP9, ChordSymbolParser.parse("E7#9").getQuality().getType());
+
+        int id = ChordSymbolParser.parseId("D/F#");
+        assertEquals(Note.PitchClass.D.getValue(), ChordSymbolParser.rootOf(id));
+        assertEquals(ChordType.MAJOR, ChordSymbolParser.typeOf(id));
+        assertEquals(Note.PitchClass.FS.getValue(), ChordSymbolParser.bassOf(id));
+        assertEquals(-1, ChordSymbolParser.bassOf(ChordSymbolParser.parseId("D")));
+
+        Chord slash = ChordSymbolParser.chordForId(id);
+        assertEquals(Note.PitchClass.FS, slash.getBass().getPitch());
+        assertEquals(slash.getBass(), slash.getNotes().get(0));
+        assertSame(slash, ChordSymbolParser.parse("D/F#"));
+    }
+
+    @Test
+    void testCachedInstances() {
+        assertSame(ChordSymbolParser.parse("Am"), ChordSymbolParser.parse(new StringBuilder(" Am ")));
+        assertSame(ChordSymbolParser.parse("G7"), ChordFactory.createFromString("G7"));
+    }
+
+    @Test
+    void testParseChart() {
+        int[] ids = ChordSymbolParser.parseChart("| C  G/B | Am7, F |\nDm7 G7 C |");
+        assertEquals(7, ids.length);
+        assertEquals(ChordSymbolParser.parseId("G/B"), ids[1]);
+        assertEquals(ChordSymbolParser.chordId(9, ChordType.MINOR7), ids[2]);
+        assertEquals(ChordSymbolParser.chordId(0, ChordType.MAJOR), ids[6]);
+        assertEquals(0, ChordSymbolParser.parseChart(" | | ").length);
+    }
+
+    @Test
+    void testInvalidSymbols() {
+        assertThrows(IllegalArgumentException.class, () -> ChordSymbolParser.parseId("X"));
+        assertThrows(IllegalArgumentException.class, () -> ChordSymbolParser.parseId(""));
+        assertThrows(IllegalArgumentException.class, () -> ChordSymbolParser.parseId("Cmx"));
+        assertThrows(IllegalArgumentException.class, () -> ChordSymbolParser.parseId("C/"));
+        assertThrows(IllegalArgumentException.class, () -> ChordSymbolParser.parseChart("C G Hm"));
+    }
+}
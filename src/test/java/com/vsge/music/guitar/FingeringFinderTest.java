@@ -0,0 +1,95 @@
+package com.vsge.music.guitar;
+
+import com.vsge.music.chord.ChordFactory;
+import com.vsge.music.theory.PitchClassSet;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FingeringFinder class.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class FingeringFinderTest {
+
+    private final FingeringFinder finder = new FingeringFinder();
+    private final Fretboard standard = new Fretboard();
+
+    @Test
+    void testOpenChordShapes() {
+        assertEquals("x32010", finder.best(ChordFactory.createFromString("C"), standard).toString());
+        assertEquals("x02210", finder.best(ChordFactory.createFromString("Am"), standard).toString());
+        assertEquals("022100", finder.best(ChordFactory.createFromString("E"), standard).toString());
+    }
+
+    @Test
+    void testFingeringsSoundTheChord() {
+        var chord = ChordFactory.createFromString("Bbmaj7");
+        List<Fingering> shapes = finder.find(chord, standard);
+
+        assertFalse(shapes.isEmpty());
+        for (Fingering shape : shapes) {
+            int[] midi = shape.getMidiNumbers();
+            assertEquals(chord.getPitchClassSet(), PitchClassSet.fromMidiNumbers(midi));
+            assertEquals(chord.getRoot().getPitch().getValue(), midi[0] % 12); // root in the bass
+            for (int i = 1; i < shapes.size(); i++) {
+                assertTrue(shapes.get(i - 1).getScore() <= shapes.get(i).getScore());
+            }
+        }
+    }
+
+    @Test
+    void testSlashChordPutsBassLowest() {
+        FingeringFinder fresh = new FingeringFinder();
+        List<Fingering> c = fresh.find(ChordFactory.createFromString("C"), standard);
+        List<Fingering> cOverE = fresh.find(ChordFactory.createFromString("C/E"), standard);
+        assertNotSame(c, cOverE);
+        assertFalse(cOverE.isEmpty());
+        for (Fingering shape : cOverE) {
+            assertEquals(4, shape.getMidiNumbers()[0] % 12); // E in the bass
+        }
+        assertEquals("032010", fresh.best(ChordFactory.createFromString("C/E"), standard).toString());
+    }
+
+    @Test
+    void testCapoShiftsShapes() {
+        Fretboard capo2 = new Fretboard(Tuning.STANDARD, 2);
+        // A D shape under a capo at 2 sounds an E major chord
+        Fingering e = finder.best(ChordFactory.createFromString("E"), capo2);
+        assertEquals(ChordFactory.createFromString("E").getPitchClassSet(),
+            PitchClassSet.fromMidiNumbers(e.getMidiNumbers()));
+        assertEquals("xx0232", e.toString());
+    }
+
+    @Test
+    void testShapeTableIsReused() {
+        FingeringFinder fresh = new FingeringFinder();
+        fresh.precompute(standard);
+        int cached = fresh.getCachedShapeCount();
+
+        assertSame(fresh.find(ChordFactory.createFromString("G7"), standard),
+            fresh.find(ChordFactory.createFromString("G7"), new Fretboard()));
+        assertEquals(cached, fresh.getCachedShapeCount());
+    }
+
+    @Test
+    void testShapeTableKeysOnCapoedStrings() {
+        FingeringFinder fresh = new FingeringFinder();
+        Fretboard capo2 = new Fretboard(Tuning.STANDARD, 2);
+        List<Fingering> shapes = fresh.find(ChordFactory.createFromString("E"), capo2);
+        assertNotSame(shapes, fresh.find(ChordFactory.createFromString("E"), standard));
+
+        // Strings tuned up a whole step sound like the capo at 2
+        Fretboard raised = new Fretboard(new Tuning("Raised", 42, 47, 52, 57, 61, 66), 0, 18);
+        assertSame(shapes, fresh.find(ChordFactory.createFromString("E"), raised));
+        assertEquals(2, fresh.getCachedShapeCount());
+    }
+
+    @Test
+    void testInvalidFretboard() {
+        assertThrows(IllegalArgumentException.class, () -> new Fretboard(Tuning.STANDARD, 20, 20));
+        assertThrows(IllegalArgumentException.class, () -> new FingeringFinder(1));
+    }
+}
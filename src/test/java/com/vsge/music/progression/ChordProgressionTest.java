@@ -0,0 +1,116 @@
+package com.vsge.music.progression;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.theory.Note;
+import com.vsge.music.theory.Scale;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for lazy iteration and chord memoization in ChordProgression.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class ChordProgressionTest {
+
+    private final Note c4 = new Note(Note.PitchClass.C, 4);
+
+    @Test
+    void testIteratorMatchesGeneratedChords() {
+        ChordProgression blues = new ChordProgression(c4, ChordProgression.BLUES_12_BAR, 4);
+
+        List<Chord> iterated = new ArrayList<>();
+        for (Chord chord : blues) {
+            iterated.add(chord);
+        }
+        assertEquals(blues.generateChords().size(), iterated.size());
+        for (int i = 0; i < iterated.size(); i++) {
+            assertEquals(blues.getChordAt(i).getNotes(), iterated.get(i).getNotes());
+        }
+
+        List<String> parallel = blues.stream().parallel()
+            .map(chord -> chord.getRoot().getPitch().name())
+            .collect(Collectors.toList());
+        assertEquals("C", parallel.get(0));
+        assertEquals("G", parallel.get(8));
+        assertEquals(12, parallel.size());
+    }
+
+    @Test
+    void testBars() {
+        ChordProgression pop = new ChordProgression(c4, ChordProgression.POP_PROGRESSION, 2);
+        Iterator<ChordProgression.Bar> bars = pop.bars();
+
+        int count = 0;
+        while (bars.hasNext()) {
+            ChordProgression.Bar bar = bars.next();
+            assertEquals(count, bar.getIndex());
+            assertEquals(count * 2L, bar.getStartBeat());
+            assertEquals(ChordProgression.POP_PROGRESSION[count], bar.getDegree());
+            count++;
+        }
+        assertEquals(4, count);
+    }
+
+    @Test
+    void testLoopBarsNeverEnd() {
+        ChordProgression twoFiveOne = new ChordProgression(c4, ChordProgression.JAZZ_II_V_I, 4);
+        Iterator<ChordProgression.Bar> loop = twoFiveOne.loopBars();
+
+        ChordProgression.Bar bar = null;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(loop.hasNext());
+            bar = loop.next();
+        }
+        assertEquals(ChordProgression.Degree.ii, bar.getDegree()); // 999 % 3 == 0
+        assertEquals(999L * 4, bar.getStartBeat());
+    }
+
+    @Test
+    void testGeneratedDegreeStream() {
+        Iterator<ChordProgression.Degree> degrees = List.of(
+            ChordProgression.Degree.I, ChordProgression.Degree.IV).iterator();
+        Iterator<ChordProgression.Bar> bars = ChordProgression.bars(
+            new Note(Note.PitchClass.A, 3), Scale.NATURAL_MINOR, degrees, 4);
+
+        assertEquals(Note.PitchClass.A, bars.next().getChord().getRoot().getPitch());
+        assertEquals(Note.PitchClass.D, bars.next().getChord().getRoot().getPitch());
+        assertFalse(bars.hasNext());
+    }
+
+    @Test
+    void testChordsAreMaterializedOnce() {
+        ChordProgression blues = new ChordProgression(c4, ChordProgression.BLUES_12_BAR, 4);
+
+        List<Chord> chords = blues.generateChords();
+        assertSame(chords, blues.generateChords());
+        assertSame(chords.get(0), chords.get(1)); // equal degrees share one chord
+        assertSame(chords.get(4), blues.getChordAt(5));
+        assertSame(chords.get(0), blues.iterator().next());
+        assertThrows(UnsupportedOperationException.class, () -> chords.add(chords.get(0)));
+
+        ChordProgression.Bar first = blues.bars().next();
+        assertSame(first, blues.bars().next());
+        assertSame(chords.get(0), first.getChord());
+        assertSame(chords.get(0), blues.loopBars().next().getChord());
+
+        ChordProgression inD = blues.transpose(2);
+        assertNotSame(chords.get(0), inD.getChordAt(0));
+        assertEquals(Note.PitchClass.D, inD.getChordAt(0).getRoot().getPitch());
+    }
+
+    @Test
+    void testDegreesAreCopied() {
+        ChordProgression.Degree[] degrees = {ChordProgression.Degree.I, ChordProgression.Degree.V};
+        ChordProgression progression = new ChordProgression(c4, degrees, 4);
+
+        degrees[1] = ChordProgression.Degree.IV;
+        assertEquals(ChordProgression.Degree.V, progression.getProgression().get(1));
+        assertEquals(Note.PitchClass.G, progression.getChordAt(1).getRoot().getPitch());
+    }
+}
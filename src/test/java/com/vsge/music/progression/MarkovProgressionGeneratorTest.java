@@ -0,0 +1,88 @@
+package com.vsge.music.progression;
+
+import com.vsge.music.progression.ChordProgression.Degree;
+import com.vsge.music.theory.Key;
+import com.vsge.music.theory.Note;
+import com.vsge.music.theory.Scale;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MarkovProgressionGenerator class.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class MarkovProgressionGeneratorTest {
+
+    @Test
+    void testDeterministicChainIsReproduced() {
+        MarkovProgressionGenerator generator = new MarkovProgressionGenerator.Builder(1)
+            .train(new Degree[]{Degree.I, Degree.V, Degree.vi, Degree.IV, Degree.I})
+            .build();
+
+        Degree[] generated = generator.generate(8, new SplittableRandom(1));
+        assertArrayEquals(new Degree[]{
+            Degree.I, Degree.V, Degree.vi, Degree.IV, Degree.I, Degree.V, Degree.vi, Degree.IV
+        }, generated);
+    }
+
+    @Test
+    void testSameSeedSameProgression() {
+        MarkovProgressionGenerator generator = MarkovProgressionGenerator.fromBuiltInPatterns(2);
+        assertEquals(2, generator.getOrder());
+
+        Degree[] first = generator.generate(64, new SplittableRandom(42));
+        Degree[] second = generator.generate(64, new SplittableRandom(42));
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void testHigherOrderUsesLongerContext() {
+        // After I-V the next chord depends on what came before I
+        MarkovProgressionGenerator generator = new MarkovProgressionGenerator.Builder(3)
+            .train(new Degree[]{Degree.ii, Degree.I, Degree.V, Degree.vi})
+            .train(new Degree[]{Degree.IV, Degree.I, Degree.V, Degree.iii})
+            .build();
+
+        Iterator<Degree> degrees = generator.degrees(new SplittableRandom(7));
+        Degree start = degrees.next();
+        assertEquals(Degree.I, degrees.next());
+        assertEquals(Degree.V, degrees.next());
+        assertEquals(start == Degree.ii ? Degree.vi : Degree.iii, degrees.next());
+    }
+
+    @Test
+    void testTrainFromChart() {
+        MarkovProgressionGenerator generator = new MarkovProgressionGenerator.Builder(1)
+            .trainChart("Am | Dm | E | Am", Key.minor(Note.PitchClass.A))
+            .build();
+
+        ChordProgression progression = generator.generate(
+            new Note(Note.PitchClass.A, 3), Scale.NATURAL_MINOR, 4, 4, new SplittableRandom(3));
+        assertEquals(4, progression.getLength());
+        for (Degree degree : progression.getProgression()) {
+            assertTrue(degree == Degree.I || degree == Degree.IV || degree == Degree.V);
+        }
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new MarkovProgressionGenerator.Builder(0));
+        assertThrows(IllegalArgumentException.class, () -> new MarkovProgressionGenerator.Builder(4));
+        assertThrows(IllegalStateException.class, () -> new MarkovProgressionGenerator.Builder(2).build());
+    }
+
+    @Test
+    void testThroughput() {
+        MarkovProgressionGenerator generator = MarkovProgressionGenerator.fromBuiltInPatterns(3);
+        SplittableRandom random = new SplittableRandom(11);
+        long start = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            generator.generate(16, random);
+        }
+        assertTrue(System.nanoTime() - start < 2_000_000_000L);
+    }
+}
@@ -0,0 +1,82 @@
+package com.vsge.music.progression;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.progression.RomanNumeralAnalyzer.Analysis;
+import com.vsge.music.progression.RomanNumeralAnalyzer.Function;
+import com.vsge.music.theory.Key;
+import com.vsge.music.theory.Note;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RomanNumeralAnalyzer class.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class RomanNumeralAnalyzerTest {
+
+    @Test
+    void testDiatonicMajor() {
+        Analysis analysis = RomanNumeralAnalyzer.analyze("G | Em | C | D7 | G");
+        assertEquals(Key.major(Note.PitchClass.G), analysis.getKey());
+        assertEquals("G Major: I vi IV V7 I", analysis.toString());
+        assertEquals(ChordProgression.Degree.V, analysis.getLabel(3).getDegree());
+        assertEquals(Function.DIATONIC, analysis.getLabel(3).getFunction());
+    }
+
+    @Test
+    void testMinorKeyWithHarmonicDominant() {
+        Analysis analysis = RomanNumeralAnalyzer.analyze("Am Dm E7 Am");
+        assertEquals(Key.minor(Note.PitchClass.A), analysis.getKey());
+        assertEquals("A Natural Minor: i iv V7 i", analysis.toString());
+    }
+
+    @Test
+    void testSecondaryDominantAndBorrowedChord() {
+        Analysis analysis = RomanNumeralAnalyzer.analyze("C A7 Dm G7 C Ab Bb C");
+        assertEquals(Key.major(Note.PitchClass.C), analysis.getKey());
+
+        assertEquals("V7/ii", analysis.getLabel(1).getNumeral());
+        assertEquals(Function.SECONDARY_DOMINANT, analysis.getLabel(1).getFunction());
+        assertEquals("ii", analysis.getLabel(2).getNumeral());
+        assertEquals("bVI", analysis.getLabel(5).getNumeral());
+        assertEquals(Function.BORROWED, analysis.getLabel(5).getFunction());
+        assertNull(analysis.getLabel(5).getDegree());
+        assertEquals("bVII", analysis.getLabel(6).getNumeral());
+    }
+
+    @Test
+    void testChordList() {
+        ChordProgression jazz = new ChordProgression(
+            new Note(Note.PitchClass.F, 3), ChordProgression.JAZZ_II_V_I, 4);
+        List<Chord> chords = jazz.generateChords();
+        Analysis analysis = RomanNumeralAnalyzer.analyze(chords);
+
+        assertEquals(Key.major(Note.PitchClass.F), analysis.getKey());
+        assertEquals("ii", analysis.getLabel(0).getNumeral());
+        assertEquals("V", analysis.getLabel(1).getNumeral());
+        assertEquals(chords.get(2).getPitchClassSet(), analysis.getLabel(2).getChord().getPitchClassSet());
+    }
+
+    @Test
+    void testCorpusStatistics() {
+        List<String> corpus = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            corpus.add("C G Am F");
+            corpus.add("Am Dm E7 Am");
+            corpus.add("C A7 Dm G7 C");
+        }
+        RomanNumeralAnalyzer.Statistics stats = RomanNumeralAnalyzer.analyzeCorpus(corpus);
+
+        assertEquals(1500, stats.getChartCount());
+        assertEquals(6500, stats.getChordCount());
+        assertEquals(1000, stats.getKeyCount(Key.major(Note.PitchClass.C)));
+        assertEquals(500, stats.getKeyCount(Key.minor(Note.PitchClass.A)));
+        assertEquals(500, stats.getFunctionCount(Function.SECONDARY_DOMINANT));
+        assertEquals(Long.valueOf(1500), stats.getNumeralCounts().get("I"));
+        assertEquals(Long.valueOf(1000), stats.getNumeralCounts().get("i"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.vsge.music.progression;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordType;
+import com.vsge.music.theory.Note;
+import com.vsge.music.theory.PitchClassSet;
+import com.vsge.music.theory.Scale;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the VoiceLeadingOptimizer class.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class VoiceLeadingOptimizerTest {
+
+    private final Note c4 = new Note(Note.PitchClass.C, 4);
+
+    @Test
+    void testEnumeratedVoicingsStayInRange() {
+        Chord cMajor = Chord.create(c4, ChordType.MAJOR);
+        int[][] voicings = VoiceLeadingOptimizer.enumerateVoicings(cMajor, 48, 71);
+
+        assertEquals(8, voicings.length); // two octaves, three tones
+        for (int[] voicing : voicings) {
+            assertEquals(3, voicing.length);
+            assertEquals(cMajor.getPitchClassSet(), PitchClassSet.fromMidiNumbers(voicing));
+            assertTrue(voicing[0] >= 48 && voicing[2] <= 71);
+        }
+    }
+
+    @Test
+    void testPopProgressionMovesSmoothly() {
+        ChordProgression pop = new ChordProgression(c4, ChordProgression.POP_PROGRESSION, 4);
+        VoiceLeadingOptimizer.VoicedProgression voiced = new VoiceLeadingOptimizer().optimize(pop, 55, 79);
+
+        assertEquals(4, voiced.getLength());
+        // C->G moves 3 semitones, G->Am (no common tones) 5, Am->F 1
+        assertEquals(9, voiced.getTotalMovement());
+        int[] f = voiced.getMidiNumbers(3);
+        int[] am = voiced.getMidiNumbers(2);
+        assertEquals(1, VoiceLeadingOptimizer.movement(am, f));
+    }
+
+    @Test
+    void testResultsAreCached() {
+        VoiceLeadingOptimizer optimizer = new VoiceLeadingOptimizer();
+        ChordProgression blues = new ChordProgression(c4, ChordProgression.BLUES_12_BAR, 4);
+        ChordProgression sameBlues = new ChordProgression(c4, ChordProgression.BLUES_12_BAR, 2);
+
+        assertSame(optimizer.optimize(blues, 48, 72), optimizer.optimize(sameBlues, 48, 72));
+        assertNotSame(optimizer.optimize(blues, 48, 72), optimizer.optimize(blues, 50, 72));
+    }
+
+    @Test
+    void testCacheSeparatesScales() {
+        VoiceLeadingOptimizer optimizer = new VoiceLeadingOptimizer();
+        ChordProgression.Degree[] degrees = {
+            ChordProgression.Degree.I, ChordProgression.Degree.IV, ChordProgression.Degree.V
+        };
+        optimizer.optimize(new ChordProgression(c4, Scale.MAJOR, degrees, 4), 48, 72);
+
+        ChordProgression minor = new ChordProgression(c4, Scale.NATURAL_MINOR, degrees, 4);
+        VoiceLeadingOptimizer.VoicedProgression voiced = optimizer.optimize(minor, 48, 72);
+        for (int i = 0; i < degrees.length; i++) {
+            assertEquals(minor.getChordAt(i).getPitchClassSet(),
+                PitchClassSet.fromMidiNumbers(voiced.getMidiNumbers(i)));
+        }
+    }
+
+    @Test
+    void testInvalidRange() {
+        ChordProgression pop = new ChordProgression(c4, ChordProgression.POP_PROGRESSION, 4);
+        assertThrows(IllegalArgumentException.class, () -> new VoiceLeadingOptimizer().optimize(pop, 60, 65));
+    }
+}
@@ -0,0 +1,60 @@
+package com.vsge.music.rhythm;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordFactory;
+import com.vsge.music.rhythm.impl.PopStrummingPattern;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EventBuffer class.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class EventBufferTest {
+
+    @Test
+    void testTransposeShiftsRenderedBar() {
+        Chord c = ChordFactory.createFromString("C");
+        Chord d = ChordFactory.createFromString("D");
+        EventBuffer inC = new EventBuffer();
+        EventBuffer inD = new EventBuffer();
+        inC.setRandom(new RandomSource(1));
+        inD.setRandom(new RandomSource(1));
+        new PopStrummingPattern().render(c, 4, 120, inC);
+        new PopStrummingPattern().render(d, 4, 120, inD);
+
+        inC.transpose(2);
+        assertEquals(inD.size(), inC.size());
+        for (int i = 0; i < inC.size(); i++) {
+            assertEquals(inD.getPitch(i), inC.getPitch(i));
+            assertEquals(inD.getStartTick(i), inC.getStartTick(i));
+        }
+    }
+
+    @Test
+    void testShiftMovesLaterEvents() {
+        EventBuffer buffer = new EventBuffer();
+        buffer.add(60, 0.0, 1.0, 80, 0.0, 0, false, Technique.DOWN);
+        buffer.add(64, 0.5, 1.0, 80, 0.0, 0, false, Technique.DOWN);
+        buffer.shift(1, Ticks.PPQ * 4);
+        assertEquals(0, buffer.getStartTick(0));
+        assertEquals(4.5, buffer.getStartTime(1), 0.0);
+    }
+
+    @Test
+    void testTransposeFoldsOutOfRange() {
+        EventBuffer buffer = new EventBuffer();
+        buffer.add(120, 0.0, 1.0, 80, 0.0, 0, false, Technique.DOWN);
+        buffer.add(14, 1.0, 1.0, 80, 0.0, 0, false, Technique.DOWN);
+
+        buffer.transpose(10);
+        assertEquals(118, buffer.getPitch(0)); // 130 folded down an octave
+        assertEquals(24, buffer.getPitch(1));
+
+        buffer.transpose(-13);
+        assertEquals(105, buffer.getPitch(0));
+        assertEquals(23, buffer.getPitch(1)); // 11 folded up an octave
+    }
+}
@@ -0,0 +1,94 @@
+package com.vsge.music.rhythm;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordFactory;
+import com.vsge.music.rhythm.impl.FolkFingerpickingPattern;
+import com.vsge.music.rhythm.impl.PopStrummingPattern;
+import com.vsge.music.rhythm.impl.RockPowerPattern;
+import com.vsge.style.StyleFactory;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for meters and meter-aware rendering.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class MeterTest {
+
+    @Test
+    void testLengthsAndGroups() {
+        assertEquals(3.0, Meter.SIX_EIGHT.getLength(), 1e-9);
+        assertEquals(3.5, Meter.SEVEN_EIGHT.getLength(), 1e-9);
+        assertArrayEquals(new int[] {3, 3}, Meter.SIX_EIGHT.getGroups());
+        assertArrayEquals(new int[] {2, 2, 3}, Meter.SEVEN_EIGHT.getGroups());
+        assertArrayEquals(new int[] {2, 2, 2}, Meter.THREE_FOUR.getGroups());
+        assertTrue(Meter.TWELVE_EIGHT.isCompound());
+        assertFalse(Meter.SEVEN_EIGHT.isCompound());
+        assertEquals(7, Meter.SEVEN_EIGHT.getSteps(2));
+        assertEquals(4, Meter.SEVEN_EIGHT.getSteps(1));
+    }
+
+    @Test
+    void testParseAndEquality() {
+        assertSame(Meter.SIX_EIGHT, Meter.parse(" 6/8 "));
+        assertEquals(Meter.of(11, 8), Meter.parse("11/8"));
+        assertEquals("5/4", Meter.FIVE_FOUR.toString());
+        assertThrows(IllegalArgumentException.class, () -> Meter.parse("6-8"));
+        assertThrows(IllegalArgumentException.class, () -> Meter.of(4, 3));
+    }
+
+    @Test
+    void testSixEightStrumFollowsGroups() {
+        Chord chord = ChordFactory.createFromString("C");
+        EventBuffer buffer = new EventBuffer();
+        new PopStrummingPattern().render(chord, Meter.SIX_EIGHT, 90, buffer);
+
+        assertEquals(6 * 3, buffer.size());
+        assertTrue(buffer.isAccent(0));
+        assertEquals(Technique.UP, buffer.getTechnique(2 * 3));
+        assertTrue(buffer.isAccent(3 * 3));
+        assertEquals(1.5, buffer.getStartTime(3 * 3), 1e-9);
+        assertTrue(buffer.getStartTime(buffer.size() - 1) < Meter.SIX_EIGHT.getLength());
+    }
+
+    @Test
+    void testOddMeters() {
+        Chord chord = ChordFactory.createFromString("G");
+        EventBuffer buffer = new EventBuffer();
+        new RockPowerPattern().render(chord, Meter.SEVEN_EIGHT, 120, buffer);
+        assertEquals(3 * 2, buffer.size());
+        assertEquals(2.0, buffer.getStartTime(4), 1e-9);
+
+        buffer.clear();
+        new FolkFingerpickingPattern().render(chord, Meter.FIVE_FOUR, 120, buffer);
+        assertEquals(10, buffer.size());
+        assertEquals(Technique.THUMB, buffer.getTechnique(8));
+    }
+
+    @Test
+    void testWholeBeatSourcesAreTrimmed() {
+        // A style without meter support renders four beats and is cut to 3.5
+        Chord chord = ChordFactory.createFromString("Am");
+        EventBuffer buffer = new EventBuffer();
+        StyleFactory.create("folk").render(chord, Meter.SEVEN_EIGHT, 120, buffer);
+        assertEquals(7, buffer.size());
+        for (int i = 0; i < buffer.size(); i++) {
+            assertTrue(buffer.getStartTime(i) < 3.5);
+        }
+    }
+
+    @Test
+    void testTemplatesCompileOncePerMeter() {
+        int[] compiled = new int[1];
+        MeterTemplates templates = new MeterTemplates((meter, toneCount) -> {
+            compiled[0]++;
+            return new PatternTemplate.Builder(2).build();
+        });
+        assertSame(templates.get(Meter.SIX_EIGHT), templates.get(Meter.parse("6/8")));
+        templates.get(Meter.THREE_FOUR);
+        assertEquals(2, templates.size());
+        assertEquals(2 * (PatternTemplate.MAX_TONES + 1), compiled[0]);
+    }
+}
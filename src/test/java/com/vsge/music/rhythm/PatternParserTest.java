@@ -0,0 +1,112 @@
+package com.vsge.music.rhythm;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordFactory;
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the rhythm pattern language.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class PatternParserTest {
+
+    private static EventBuffer render(String source, String chord, int beats) {
+        EventBuffer buffer = new EventBuffer();
+        new TextRhythmPattern("test", source).render(ChordFactory.createFromString(chord), beats, 120, buffer);
+        return buffer;
+    }
+
+    @Test
+    void testStrumPattern() {
+        // D . D U . U D U: six strokes of three strings
+        EventBuffer buffer = render("D.DU.UDU", "C", 4);
+        assertEquals(18, buffer.size());
+        assertEquals(0.0, buffer.getStartTime(0), 1e-9);
+        assertEquals(Technique.DOWN, buffer.getTechnique(0));
+        assertEquals(1.0, buffer.getStartTime(3), 1e-9);
+
+        // Up strums start from the highest tone
+        Chord c = ChordFactory.createFromString("C");
+        assertEquals(Technique.UP, buffer.getTechnique(6));
+        assertEquals(c.getNotes().get(2).getMidiNumber(), buffer.getPitch(6));
+        assertEquals(1.5, buffer.getStartTime(6), 1e-9);
+    }
+
+    @Test
+    void testPickingWithAccentsAndPinch() {
+        EventBuffer buffer = render(">T+3 2 3 T 3 2 3 2", "G", 4);
+        assertEquals(9, buffer.size());
+        assertEquals(Technique.THUMB, buffer.getTechnique(0));
+        assertEquals(95, buffer.getVelocity(0));
+        assertTrue(buffer.isAccent(0));
+        assertEquals(Technique.FINGER, buffer.getTechnique(1));
+        assertEquals(0.0, buffer.getStartTime(1), 1e-9);
+        assertFalse(buffer.isAccent(2));
+    }
+
+    @Test
+    void testLoopRestartsMidBar() {
+        // Seven steps: the eighth step of the bar is the first step again
+        EventBuffer buffer = render("T+3 2 3 T 3 2 3", "G", 4);
+        assertEquals(10, buffer.size());
+        assertEquals(3.5, buffer.getStartTime(8), 1e-9);
+        assertEquals(Technique.THUMB, buffer.getTechnique(8));
+    }
+
+    @Test
+    void testSubdivisionAndLooping() {
+        // Two sixteenth-note steps loop to fill a 2-beat bar
+        EventBuffer buffer = render("4:X.", "Am", 2);
+        assertEquals(4 * 3, buffer.size());
+        assertEquals(0.5, buffer.getStartTime(3), 1e-9);
+        assertEquals(1.5, buffer.getStartTime(9), 1e-9);
+        assertEquals(0.2, buffer.getDuration(0), 1e-9);
+    }
+
+    @Test
+    void testPicksWrapForSmallChords() {
+        // Tone 4 of a triad wraps onto the root, already played by the thumb
+        assertEquals(1, render("T+4 .", "C", 1).size());
+        EventBuffer buffer = render("2+5 .", "C7", 1);
+        assertEquals(2, buffer.size());
+        assertNotEquals(buffer.getPitch(0), buffer.getPitch(1));
+    }
+
+    @Test
+    void testCompiledPatternsAreCached() {
+        PatternTemplate[] first = PatternParser.compile("D DU UDU");
+        assertSame(first, PatternParser.compile("D DU UDU"));
+        assertEquals(PatternTemplate.MAX_TONES + 1, first.length);
+    }
+
+    @Test
+    void testMalformedPatterns() {
+        assertThrows(IllegalArgumentException.class, () -> PatternParser.compile(""));
+        assertThrows(IllegalArgumentException.class, () -> PatternParser.compile("D Q"));
+        assertThrows(IllegalArgumentException.class, () -> PatternParser.compile("D+U"));
+        assertThrows(IllegalArgumentException.class, () -> PatternParser.compile("T+"));
+        assertThrows(IllegalArgumentException.class, () -> PatternParser.compile("D>"));
+        assertThrows(IllegalArgumentException.class, () -> PatternParser.compile("0:D"));
+        assertThrows(IllegalArgumentException.class, () -> PatternParser.validate("x:D"));
+    }
+
+    @Test
+    void testLoadPatternsIntoFactory() throws IOException {
+        String file = "# Strums\n"
+            + "island = D.DU.UDU\n"
+            + "\n"
+            + "travis = T+3 2 T 3\n";
+        assertEquals(2, RhythmPatternFactory.loadPatterns(new StringReader(file)));
+        assertTrue(RhythmPatternFactory.isSupported("Island"));
+        RhythmPattern travis = RhythmPatternFactory.create("travis");
+        assertEquals("travis", travis.getName());
+        assertThrows(IllegalArgumentException.class,
+            () -> RhythmPatternFactory.loadPatterns(new StringReader("bad D.D\n")));
+        assertThrows(IllegalArgumentException.class, () -> RhythmPatternFactory.register("folk", "D"));
+    }
+}
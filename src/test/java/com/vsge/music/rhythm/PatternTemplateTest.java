@@ -0,0 +1,100 @@
+package com.vsge.music.rhythm;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordFactory;
+import com.vsge.music.rhythm.impl.FolkFingerpickingPattern;
+import com.vsge.music.rhythm.impl.JazzCompingPattern;
+import com.vsge.music.rhythm.impl.PopStrummingPattern;
+import com.vsge.music.rhythm.impl.RockPowerPattern;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for compiled rhythm templates and the event buffer.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class PatternTemplateTest {
+
+    @Test
+    void testPopStrumSubstitutesPitches() {
+        Chord chord = ChordFactory.createFromString("C");
+        EventBuffer buffer = new EventBuffer();
+        new PopStrummingPattern().render(chord, 4, 120, buffer);
+
+        assertEquals(8 * 3, buffer.size());
+        assertEquals(chord.getNotes().get(0).getMidiNumber(), buffer.getPitch(0));
+        assertEquals(chord.getNotes().get(2).getMidiNumber(), buffer.getPitch(2));
+        assertEquals(0.04, buffer.getStartTime(2), 0.5 / Ticks.PPQ);
+        assertEquals(95, buffer.getVelocity(0));
+        assertEquals(Technique.DOWN, buffer.getTechnique(0));
+        assertEquals(Technique.UP, buffer.getTechnique(3));
+        assertEquals(60, buffer.getVelocity(3));
+    }
+
+    @Test
+    void testStepsAreCutToBarLength() {
+        Chord chord = ChordFactory.createFromString("Am");
+        EventBuffer buffer = new EventBuffer();
+        new PopStrummingPattern().render(chord, 2, 120, buffer);
+        assertEquals(4 * 3, buffer.size());
+
+        buffer.clear();
+        new JazzCompingPattern().render(chord, 3, 120, buffer);
+        assertEquals(3 * 3, buffer.size());
+
+        buffer.clear();
+        new RockPowerPattern().render(chord, 4, 120, buffer);
+        assertEquals(4 * 2, buffer.size());
+    }
+
+    @Test
+    void testFolkWrapsToneIndices() {
+        Chord chord = ChordFactory.createFromString("G");
+        EventBuffer buffer = new EventBuffer();
+        new FolkFingerpickingPattern().render(chord, 4, 120, buffer);
+
+        assertEquals(8, buffer.size());
+        assertEquals(Technique.THUMB, buffer.getTechnique(0));
+        assertEquals(90, buffer.getVelocity(0));
+        assertEquals(Technique.FINGER, buffer.getTechnique(1));
+        assertEquals(chord.getNotes().get(2).getMidiNumber(), buffer.getPitch(1));
+    }
+
+    @Test
+    void testBufferGrowsAndAppends() {
+        Chord chord = ChordFactory.createFromString("C7");
+        EventBuffer buffer = new EventBuffer(1);
+        RhythmPattern pattern = new JazzCompingPattern();
+        pattern.render(chord, 4, 120, buffer);
+        pattern.render(chord, 4, 120, buffer);
+        assertEquals(2 * 4 * 4, buffer.size());
+    }
+
+    @Test
+    void testLegacyEventsMatchBuffer() {
+        List<RhythmPattern.RhythmEvent> events =
+            new PopStrummingPattern().generatePattern(ChordFactory.createFromString("D"), 4, 120);
+        assertEquals(24, events.size());
+        assertEquals("down", events.get(0).getTechnique());
+        assertEquals("up", events.get(3).getTechnique());
+        for (RhythmPattern.RhythmEvent event : events) {
+            assertTrue(Math.abs(event.getTimingOffset()) <= 0.015);
+            assertTrue(Math.abs(event.getVelocityVariation()) <= 4);
+        }
+    }
+
+    @Test
+    void testBuilderRequiresStep() {
+        PatternTemplate.Builder builder = new PatternTemplate.Builder(1);
+        assertThrows(IllegalStateException.class,
+            () -> builder.event(0.0, 0, 1.0, 80, false, Technique.CHORD));
+        assertThrows(IllegalArgumentException.class,
+            () -> builder.step().event(0.0, PatternTemplate.MAX_TONES, 1.0, 80, false, Technique.CHORD));
+        PatternTemplate template = builder.event(0.0, 1, 1.0, 80, false, Technique.CHORD).build();
+        assertEquals(1, template.getStepCount());
+        assertEquals(1, template.getEventCount());
+    }
+}
@@ -0,0 +1,64 @@
+package com.vsge.music.rhythm;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordFactory;
+import com.vsge.music.rhythm.impl.PopStrummingPattern;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the seeded random source.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class RandomSourceTest {
+
+    @Test
+    void testSameSeedSameSequence() {
+        RandomSource a = new RandomSource(123);
+        RandomSource b = new RandomSource(123);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Long.valueOf(a.nextLong()), Long.valueOf(b.nextLong()));
+        }
+        assertEquals(Long.valueOf(123), Long.valueOf(a.getSeed()));
+    }
+
+    @Test
+    void testStreamsDependOnlyOnSeedAndIndex() {
+        RandomSource session = new RandomSource(9);
+        long first = session.forStream(5).nextLong();
+        session.nextLong();
+        session.forStream(4);
+        assertEquals(Long.valueOf(first), Long.valueOf(session.forStream(5).nextLong()));
+        assertNotEquals(Long.valueOf(first), Long.valueOf(session.forStream(6).nextLong()));
+    }
+
+    @Test
+    void testRanges() {
+        RandomSource random = new RandomSource(0);
+        for (int i = 0; i < 1000; i++) {
+            double timing = random.jitter(0.04);
+            assertTrue(timing >= -0.02 && timing < 0.02);
+            int velocity = random.jitter(8);
+            assertTrue(velocity > -4 && velocity < 4);
+            int spread = random.spread(15);
+            assertTrue(spread >= -7 && spread <= 7);
+        }
+    }
+
+    @Test
+    void testSeededBufferRendersReproducibly() {
+        Chord chord = ChordFactory.createFromString("D");
+        EventBuffer a = new EventBuffer();
+        EventBuffer b = new EventBuffer();
+        a.setRandom(new RandomSource(77));
+        b.setRandom(new RandomSource(77));
+        new PopStrummingPattern().render(chord, 4, 120, a);
+        new PopStrummingPattern().render(chord, 4, 120, b);
+        for (int i = 0; i < a.size(); i++) {
+            assertEquals(a.getTimingOffset(i), b.getTimingOffset(i), 0.0);
+            assertEquals(a.getVelocityVariation(i), b.getVelocityVariation(i));
+        }
+    }
+}
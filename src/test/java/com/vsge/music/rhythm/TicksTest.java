@@ -0,0 +1,43 @@
+package com.vsge.music.rhythm;
+
+import com.vsge.engine.timing.TempoMap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the tick timebase.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class TicksTest {
+
+    @Test
+    void testCommonSubdivisionsAreWholeTicks() {
+        assertEquals(480, Ticks.fromBeats(0.5));
+        assertEquals(320, Ticks.fromBeats(1.0 / 3.0));
+        assertEquals(240, Ticks.fromBeats(0.25));
+        assertEquals(160, Ticks.fromBeats(1.0 / 6.0));
+        assertEquals(0.75, Ticks.toBeats(720), 0.0);
+    }
+
+    @Test
+    void testBufferStoresTicks() {
+        EventBuffer buffer = new EventBuffer();
+        buffer.add(60, 1.0 / 3.0, 0.5, 80, 0.0, 0, false, Technique.DOWN);
+        buffer.setTimingOffsetTicks(0, 10);
+        assertEquals(320, buffer.getStartTick(0));
+        assertEquals(480, buffer.getDurationTicks(0));
+        assertEquals(330, buffer.getFinalStartTick(0));
+
+        buffer.setBarStartTick(3L * Meter.SIX_EIGHT.getLengthTicks());
+        assertEquals(9.0, buffer.getBarStart(), 0.0);
+    }
+
+    @Test
+    void testTicksToWallTime() {
+        TempoMap map = TempoMap.constant(120, Meter.FOUR_FOUR);
+        assertEquals(250_000_000L, map.tickToNanos(480));
+        assertEquals(map.beatToNanos(2.5), map.tickToNanos(2400));
+    }
+}
@@ -0,0 +1,55 @@
+package com.vsge.music.theory;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordType;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Interval enum.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class IntervalTest {
+
+    @Test
+    void testFromSemitonesIsExact() {
+        for (Interval interval : Interval.values()) {
+            assertSame(interval, Interval.fromSemitones(interval.getSemitones()));
+        }
+        assertEquals(Interval.OCTAVE, Interval.fromSemitones(12));
+        assertEquals(Interval.MAJOR_NINTH, Interval.fromSemitones(14));
+        assertThrows(IllegalArgumentException.class, () -> Interval.fromSemitones(-1));
+        assertThrows(IllegalArgumentException.class, () -> Interval.fromSemitones(25));
+    }
+
+    @Test
+    void testCompoundIntervals() {
+        assertTrue(Interval.MAJOR_THIRTEENTH.isCompound());
+        assertFalse(Interval.OCTAVE.isCompound());
+        assertEquals(Interval.MAJOR_SIXTH, Interval.MAJOR_THIRTEENTH.getSimple());
+        assertEquals(Interval.PERFECT_ELEVENTH, Interval.PERFECT_FOURTH.getCompound());
+        assertEquals(Interval.MINOR_SEVENTH, Interval.reduce(22));
+        assertEquals(Interval.PERFECT_FIFTH, Interval.reduce(-5));
+    }
+
+    @Test
+    void testBetweenNotes() {
+        Note c4 = new Note(Note.PitchClass.C, 4);
+        Note d5 = new Note(Note.PitchClass.D, 5);
+        assertEquals(Interval.MAJOR_NINTH, Interval.between(c4, d5));
+        assertEquals(Interval.MAJOR_NINTH, Interval.between(d5, c4));
+
+        assertEquals(2, Interval.intervalClass(c4, d5));
+        assertEquals(1, Interval.intervalClass(new Note(Note.PitchClass.B, 3), c4));
+        assertEquals(6, Interval.intervalClass(0, 6));
+    }
+
+    @Test
+    void testExtendedChordKeepsCompoundTones() {
+        Chord c13 = Chord.create(new Note(Note.PitchClass.C, 4), ChordType.DOMINANT13);
+        Note top = c13.getNotes().get(c13.getNotes().size() - 1);
+        assertEquals(Interval.MAJOR_THIRTEENTH, Interval.between(c13.getRoot(), top));
+    }
+}
@@ -0,0 +1,104 @@
+package com.vsge.music.theory;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordType;
+import com.vsge.music.progression.ChordProgression;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Key and Scale classes.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class KeyTest {
+
+    @Test
+    void testMajorKeyTables() {
+        Key g = Key.major(Note.PitchClass.G);
+
+        assertSame(g, Key.of(Note.PitchClass.G, Scale.MAJOR));
+        assertTrue(g.contains(Note.PitchClass.FS));
+        assertFalse(g.contains(Note.PitchClass.F));
+        assertEquals(6, g.degreeOf(Note.PitchClass.FS));
+        assertEquals(-1, g.degreeOf(Note.PitchClass.F));
+        assertEquals(Note.PitchClass.D, g.getRoot(4));
+
+        ChordType[] triads = {
+            ChordType.MAJOR, ChordType.MINOR, ChordType.MINOR, ChordType.MAJOR,
+            ChordType.MAJOR, ChordType.MINOR, ChordType.DIMINISHED
+        };
+        for (int degree = 0; degree < 7; degree++) {
+            assertEquals(triads[degree], g.getTriad(degree));
+            assertEquals(ChordProgression.Degree.values()[degree].getSymbol(), g.getRomanNumeral(degree));
+        }
+        assertEquals(ChordType.MAJOR7, g.getSeventh(0));
+        assertEquals(ChordType.DOMINANT7, g.getSeventh(4));
+        assertEquals(ChordType.HALF_DIMINISHED, g.getSeventh(6));
+    }
+
+    @Test
+    void testMinorAndModalKeys() {
+        Key aMinor = Key.minor(Note.PitchClass.A);
+        assertEquals("i", aMinor.getRomanNumeral(0));
+        assertEquals("ii°", aMinor.getRomanNumeral(1));
+        assertEquals("bIII", aMinor.getRomanNumeral(2));
+        assertEquals("bVII", aMinor.getRomanNumeral(6));
+
+        Key harmonic = Key.of(Note.PitchClass.A, Scale.HARMONIC_MINOR);
+        assertEquals(ChordType.MAJOR, harmonic.getTriad(4));
+        assertEquals(ChordType.AUGMENTED, harmonic.getTriad(2));
+        assertEquals(ChordType.DIMINISHED7, harmonic.getSeventh(6));
+        assertNull(harmonic.getSeventh(2)); // augmented major 7th has no built-in type
+
+        Key dorian = Key.of(Note.PitchClass.D, Scale.DORIAN);
+        assertEquals(Key.major(Note.PitchClass.C).getMask(), dorian.getMask());
+        assertEquals(ChordType.MAJOR, dorian.getTriad(3));
+    }
+
+    @Test
+    void testRelativeAndParallelKeys() {
+        Key c = Key.major(Note.PitchClass.C);
+        assertSame(Key.minor(Note.PitchClass.A), c.getRelative());
+        assertSame(c, c.getRelative().getRelative());
+        assertSame(Key.minor(Note.PitchClass.C), c.getParallel());
+        assertSame(c, Key.of(Note.PitchClass.D, Scale.DORIAN).getRelative());
+        assertSame(Key.major(Note.PitchClass.E), Key.of(Note.PitchClass.E, Scale.HARMONIC_MINOR).getParallel());
+
+        for (Scale scale : Scale.values()) {
+            for (Note.PitchClass tonic : Note.PitchClass.values()) {
+                Key key = Key.of(tonic, scale);
+                assertNotNull(key.getRelative(), key.toString());
+                assertNotNull(key.getParallel(), key.toString());
+                assertEquals(scale.size(), Integer.bitCount(key.getMask()));
+            }
+        }
+    }
+
+    @Test
+    void testPentatonicHasNoDegreeChords() {
+        Key pentatonic = Key.of(Note.PitchClass.E, Scale.MINOR_PENTATONIC);
+        assertEquals(5, pentatonic.getDegreeCount());
+        assertNull(pentatonic.getTriad(0));
+        assertSame(Key.of(Note.PitchClass.G, Scale.MAJOR_PENTATONIC), pentatonic.getRelative());
+        assertThrows(IllegalArgumentException.class, () -> pentatonic.getRoot(5));
+    }
+
+    @Test
+    void testProgressionInMinorKey() {
+        ChordProgression.Degree[] degrees = {
+            ChordProgression.Degree.I, ChordProgression.Degree.IV, ChordProgression.Degree.V
+        };
+        ChordProgression progression = new ChordProgression(
+            new Note(Note.PitchClass.A, 3), Scale.NATURAL_MINOR, degrees, 4);
+
+        Chord iv = progression.getChordAt(1);
+        assertEquals(Note.PitchClass.D, iv.getRoot().getPitch());
+        assertEquals(ChordType.MINOR, iv.getQuality().getType());
+        assertTrue(progression.toString().contains("i - iv - v"));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new ChordProgression(new Note(Note.PitchClass.A, 3), Scale.BLUES, degrees, 4));
+    }
+}
@@ -0,0 +1,75 @@
+package com.vsge.music.theory;
+
+import com.vsge.music.chord.Chord;
+import com.vsge.music.chord.ChordType;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PitchClassSet class.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class PitchClassSetTest {
+
+    private static final PitchClassSet C_MAJOR =
+        PitchClassSet.of(Note.PitchClass.C, Note.PitchClass.E, Note.PitchClass.G);
+
+    @Test
+    void testMaskLayout() {
+        assertEquals(0b000010010001, C_MAJOR.getMask());
+        assertEquals(3, C_MAJOR.size());
+        assertTrue(C_MAJOR.contains(Note.PitchClass.E));
+        assertFalse(C_MAJOR.contains(Note.PitchClass.F));
+        assertSame(C_MAJOR, PitchClassSet.fromMidiNumbers(48, 64, 79, 60));
+    }
+
+    @Test
+    void testTransposeWrapsAround() {
+        PitchClassSet gMajor = C_MAJOR.transpose(7);
+        assertEquals(PitchClassSet.of(Note.PitchClass.G, Note.PitchClass.B, Note.PitchClass.D), gMajor);
+        assertEquals(C_MAJOR, gMajor.transpose(-7));
+        assertEquals(C_MAJOR, C_MAJOR.transpose(24));
+    }
+
+    @Test
+    void testInversion() {
+        // C-E-G inverts to C-Ab-F, i.e. an F minor triad
+        PitchClassSet inverted = C_MAJOR.invert();
+        assertEquals(PitchClassSet.of(Note.PitchClass.C, Note.PitchClass.GS, Note.PitchClass.F), inverted);
+        assertEquals(C_MAJOR, inverted.invert());
+    }
+
+    @Test
+    void testSubsetAndCommonTones() {
+        PitchClassSet cMaj7 = C_MAJOR.union(PitchClassSet.of(Note.PitchClass.B));
+        assertTrue(C_MAJOR.isSubsetOf(cMaj7));
+        assertTrue(cMaj7.isSupersetOf(C_MAJOR));
+        assertFalse(cMaj7.isSubsetOf(C_MAJOR));
+
+        PitchClassSet aMinor = PitchClassSet.of(Note.PitchClass.A, Note.PitchClass.C, Note.PitchClass.E);
+        assertEquals(2, C_MAJOR.commonTones(aMinor));
+        assertEquals(PitchClassSet.of(Note.PitchClass.G), C_MAJOR.difference(aMinor));
+    }
+
+    @Test
+    void testIntervalVector() {
+        assertArrayEquals(new int[]{0, 0, 1, 1, 1, 0}, C_MAJOR.intervalVector());
+
+        PitchClassSet diatonic = PitchClassSet.fromMidiNumbers(0, 2, 4, 5, 7, 9, 11);
+        assertArrayEquals(new int[]{2, 5, 4, 3, 6, 1}, diatonic.intervalVector());
+        assertArrayEquals(new int[]{12, 12, 12, 12, 12, 6}, PitchClassSet.CHROMATIC.intervalVector());
+    }
+
+    @Test
+    void testChordExposesPitchClassSet() {
+        Chord c7 = Chord.create(new Note(Note.PitchClass.C, 4), ChordType.DOMINANT7);
+        assertEquals(C_MAJOR.union(PitchClassSet.of(Note.PitchClass.AS)), c7.getPitchClassSet());
+    }
+
+    @Test
+    void testInvalidMask() {
+        assertThrows(IllegalArgumentException.class, () -> PitchClassSet.fromMask(0x1000));
+    }
+}
@@ -0,0 +1,66 @@
+package com.vsge.music.theory;
+
+import com.vsge.music.chord.ChordSymbolParser;
+import com.vsge.music.progression.ChordProgression;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Transposition utility.
+ *
+ * @author VSGE Team
+ * @version 1.0.0
+ */
+public class TranspositionTest {
+
+    @Test
+    void testFoldKeepsPitchClass() {
+        assertEquals(60, Transposition.fold(60));
+        assertEquals(120, Transposition.fold(132));
+        assertEquals(15, Transposition.fold(3));
+        assertEquals(64, Transposition.fold(76, 40, 64));
+        assertEquals(41, Transposition.fold(17, 40, 64));
+        assertThrows(IllegalArgumentException.class, () -> Transposition.fold(60, 60, 65));
+    }
+
+    @Test
+    void testBulkTransposeInPlace() {
+        int[] midi = {40, 64, 125};
+        assertSame(midi, Transposition.transpose(midi, 5));
+        assertArrayEquals(new int[]{45, 69, 118}, midi);
+
+        int[] pitchClasses = {0, 4, 7};
+        Transposition.transposePitchClasses(pitchClasses, -3);
+        assertArrayEquals(new int[]{9, 1, 4}, pitchClasses);
+    }
+
+    @Test
+    void testShapeOffset() {
+        assertEquals(0, Transposition.shapeOffset(2, 2));
+        assertEquals(-2, Transposition.shapeOffset(0, 2));
+        assertEquals(5, Transposition.shapeOffset(0, 7));
+    }
+
+    @Test
+    void testTransposeChartIds() {
+        int[] chart = ChordSymbolParser.parseChart("C Am7 D/F#");
+        ChordSymbolParser.transposeChart(chart, 2);
+        assertArrayEquals(ChordSymbolParser.parseChart("D Bm7 E/G#"), chart);
+    }
+
+    @Test
+    void testTransposeProgression() {
+        ChordProgression inC = new ChordProgression(
+            new Note(Note.PitchClass.C, 4), ChordProgression.POP_PROGRESSION, 4);
+        ChordProgression inD = inC.transpose(2);
+
+        assertEquals(new Note(Note.PitchClass.D, 4), inD.getKey());
+        assertEquals(Note.PitchClass.A, inD.getChordAt(1).getRoot().getPitch());
+        assertEquals(inC.getProgression(), inD.getProgression());
+        assertSame(inC, inC.transpose(0));
+
+        ChordProgression high = new ChordProgression(
+            Note.fromMidiNumber(120), ChordProgression.JAZZ_II_V_I, 4).transpose(10);
+        assertEquals(Note.PitchClass.AS, high.getKey().getPitch());
+    }
+}